@@ -0,0 +1,139 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2025 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.db.type.lettercase.LetterCase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of the computation of the changes between two snapshots of a table.
+ * <p>
+ * To launch it (with the {@code benchmark} profile) :
+ * </p>
+ *
+ * <pre>
+ * <code>
+ * ./mvnw -Pbenchmark -DskipTests test -Dbenchmark="Changes_GetChangesList_Benchmark"
+ * </code>
+ * </pre>
+ *
+ * @author Régis Pouiller
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class Changes_GetChangesList_Benchmark {
+
+  private static final List<String> COLUMNS_NAME = Arrays.asList("ID", "NAME", "AMOUNT");
+
+  /**
+   * Number of rows in each snapshot.
+   */
+  @Param({"10000", "100000", "1000000"})
+  public int numberOfRows;
+
+  /**
+   * Indicates if the table has a primary key.
+   */
+  @Param({"true", "false"})
+  public boolean withPrimaryKey;
+
+  private Changes changes;
+
+  /**
+   * Creates a table with the rows.
+   */
+  private static Table createTable(List<String> pksNameList, List<Row> rowsList) throws Exception {
+    Constructor<Table> constructor = Table.class.getDeclaredConstructor();
+    constructor.setAccessible(true);
+    Table table = constructor.newInstance();
+    setField(AbstractDbData.class, table, "dataType", DataType.TABLE);
+    setField(AbstractDbData.class, table, "columnsNameList", COLUMNS_NAME);
+    setField(AbstractDbData.class, table, "pksNameList", pksNameList);
+    setField(AbstractDbData.class, table, "rowsList", rowsList);
+    return table;
+  }
+
+  private static void setField(Class<?> clazz, Object object, String name, Object value) throws Exception {
+    Field field = clazz.getDeclaredField(name);
+    field.setAccessible(true);
+    field.set(object, value);
+  }
+
+  private static Row createRow(List<String> pksNameList, long id, String name, BigDecimal amount) {
+    List<Value> valuesList = new ArrayList<>(3);
+    valuesList.add(new Value("ID", id, LetterCase.COLUMN_DEFAULT));
+    valuesList.add(new Value("NAME", name, LetterCase.COLUMN_DEFAULT));
+    valuesList.add(new Value("AMOUNT", amount, LetterCase.COLUMN_DEFAULT));
+    return new Row(pksNameList, COLUMNS_NAME, valuesList, LetterCase.COLUMN_DEFAULT, LetterCase.PRIMARY_KEY_DEFAULT);
+  }
+
+  /**
+   * Creates the two snapshots : between the start point and the end point, 1% of the rows are modified, 1% are
+   * deleted and 1% are created.
+   */
+  @Setup(Level.Iteration)
+  public void setUp() throws Exception {
+    List<String> pksNameList = withPrimaryKey ? Collections.singletonList("ID") : Collections.<String>emptyList();
+    List<Row> rowsAtStartPoint = new ArrayList<>(numberOfRows);
+    List<Row> rowsAtEndPoint = new ArrayList<>(numberOfRows);
+    for (long id = 0; id < numberOfRows; id++) {
+      BigDecimal amount = BigDecimal.valueOf(id, 2);
+      rowsAtStartPoint.add(createRow(pksNameList, id, "name " + id, amount));
+      if (id % 100 == 1) {
+        rowsAtEndPoint.add(createRow(pksNameList, id, "name " + id, amount.add(BigDecimal.ONE)));
+      } else if (id % 100 != 2) {
+        rowsAtEndPoint.add(createRow(pksNameList, id, "name " + id, amount));
+      }
+    }
+    for (long id = numberOfRows; id < numberOfRows + numberOfRows / 100; id++) {
+      rowsAtEndPoint.add(createRow(pksNameList, id, "name " + id, BigDecimal.valueOf(id, 2)));
+    }
+    Table tableAtStartPoint = createTable(pksNameList, rowsAtStartPoint);
+    Table tableAtEndPoint = createTable(pksNameList, rowsAtEndPoint);
+    setField(Table.class, tableAtStartPoint, "name", "TEST");
+
+    changes = AssertDbConnectionFactory.of("jdbc:h2:mem:benchmark", "sa", "").create().changes().build();
+    setField(Changes.class, changes, "tablesList", Collections.singletonList(tableAtStartPoint));
+    setField(Changes.class, changes, "tablesAtStartPointList", Collections.singletonList(tableAtStartPoint));
+    setField(Changes.class, changes, "tablesAtEndPointList", Collections.singletonList(tableAtEndPoint));
+  }
+
+  @Benchmark
+  public List<Change> getChangesList() {
+    return changes.getChangesList();
+  }
+}
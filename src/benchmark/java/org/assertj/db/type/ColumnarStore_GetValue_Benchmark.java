@@ -0,0 +1,116 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2025 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.db.type.lettercase.LetterCase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of the reading of all the values of the rows kept in a {@link ColumnarStore} (the values are created when
+ * they are read), compared to the reading of the same values kept in lists of {@link Value}.
+ * <p>
+ * To launch it (with the {@code benchmark} profile) :
+ * </p>
+ *
+ * <pre>
+ * <code>
+ * ./mvnw -Pbenchmark -DskipTests test -Dbenchmark="ColumnarStore_GetValue_Benchmark -prof gc"
+ * </code>
+ * </pre>
+ *
+ * @author Régis Pouiller
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ColumnarStore_GetValue_Benchmark {
+
+  private static final List<String> COLUMNS_NAME = Arrays.asList("ID", "NAME", "PRICE", "QUANTITY", "CATEGORY");
+  private static final int[] TYPES = {Types.BIGINT, Types.VARCHAR, Types.DOUBLE, Types.INTEGER, Types.VARCHAR};
+
+  /**
+   * Number of rows.
+   */
+  @Param({"100000", "1000000"})
+  public int numberOfRows;
+
+  private List<Row> rowsOfStore;
+  private List<List<Value>> valuesLists;
+
+  /**
+   * Creates the rows of the store and the lists of values with the same values.
+   */
+  @Setup(Level.Iteration)
+  public void setUp() {
+    ColumnarStore store = new ColumnarStore(COLUMNS_NAME, TYPES, LetterCase.COLUMN_DEFAULT);
+    for (int index = 0; index < numberOfRows; index++) {
+      store.addRow(new Object[]{(long) index, "name " + index % 1000, index / 100.0, index % 50,
+        "category " + index % 10});
+    }
+    store.trimToSize();
+    rowsOfStore = new ArrayList<>(numberOfRows);
+    valuesLists = new ArrayList<>(numberOfRows);
+    for (int index = 0; index < numberOfRows; index++) {
+      Row row = store.getRow(Collections.<String>emptyList(), index, LetterCase.PRIMARY_KEY_DEFAULT);
+      rowsOfStore.add(row);
+      valuesLists.add(new ArrayList<>(row.getValuesList()));
+    }
+  }
+
+  @Benchmark
+  public int readValuesOfStore() {
+    int count = 0;
+    for (Row row : rowsOfStore) {
+      for (Value value : row.getValuesList()) {
+        if (value.getValue() != null) {
+          count++;
+        }
+      }
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int readKeptValues() {
+    int count = 0;
+    for (List<Value> valuesList : valuesLists) {
+      for (Value value : valuesList) {
+        if (value.getValue() != null) {
+          count++;
+        }
+      }
+    }
+    return count;
+  }
+}
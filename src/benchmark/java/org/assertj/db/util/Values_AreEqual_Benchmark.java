@@ -0,0 +1,146 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2025 the original author or authors.
+ */
+package org.assertj.db.util;
+
+import java.lang.reflect.Constructor;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.db.type.Value;
+import org.assertj.db.type.lettercase.LetterCase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of the comparison of the numeric values of a column with a {@code BigInteger} or a {@code BigDecimal}.
+ * <p>
+ * To launch it (with the {@code benchmark} profile) :
+ * </p>
+ *
+ * <pre>
+ * <code>
+ * ./mvnw -Pbenchmark -DskipTests test -Dbenchmark="Values_AreEqual_Benchmark -prof gc"
+ * </code>
+ * </pre>
+ *
+ * @author Régis Pouiller
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class Values_AreEqual_Benchmark {
+
+  /**
+   * Number of values in the column.
+   */
+  @Param({"100000", "1000000"})
+  public int numberOfValues;
+
+  private Value[] longValues;
+  private Value[] bigDecimalValues;
+  private Value[] doubleValues;
+  private BigInteger[] expectedBigIntegers;
+  private BigDecimal[] expectedBigDecimals;
+  private Long[] expectedLongs;
+
+  /**
+   * Creates the values of the column ({@code Long}s, {@code BigDecimal}s and {@code Double}s) and the expected values.
+   */
+  @Setup(Level.Iteration)
+  public void setUp() throws Exception {
+    Constructor<Value> constructor = Value.class.getDeclaredConstructor(String.class, Object.class, LetterCase.class);
+    constructor.setAccessible(true);
+    longValues = new Value[numberOfValues];
+    bigDecimalValues = new Value[numberOfValues];
+    doubleValues = new Value[numberOfValues];
+    expectedBigIntegers = new BigInteger[numberOfValues];
+    expectedBigDecimals = new BigDecimal[numberOfValues];
+    expectedLongs = new Long[numberOfValues];
+    for (int index = 0; index < numberOfValues; index++) {
+      long number = index * 31L;
+      longValues[index] = constructor.newInstance("ID", number, LetterCase.COLUMN_DEFAULT);
+      bigDecimalValues[index] = constructor.newInstance("AMOUNT", BigDecimal.valueOf(number), LetterCase.COLUMN_DEFAULT);
+      doubleValues[index] = constructor.newInstance("PRICE", (double) number, LetterCase.COLUMN_DEFAULT);
+      expectedBigIntegers[index] = BigInteger.valueOf(number);
+      expectedBigDecimals[index] = BigDecimal.valueOf(number);
+      expectedLongs[index] = number;
+    }
+  }
+
+  @Benchmark
+  public int longValueAndBigInteger() {
+    int count = 0;
+    for (int index = 0; index < numberOfValues; index++) {
+      if (Values.areEqual(longValues[index], expectedBigIntegers[index])) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int longValueAndBigDecimal() {
+    int count = 0;
+    for (int index = 0; index < numberOfValues; index++) {
+      if (Values.areEqual(longValues[index], expectedBigDecimals[index])) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int bigDecimalValueAndLong() {
+    int count = 0;
+    for (int index = 0; index < numberOfValues; index++) {
+      if (Values.areEqual(bigDecimalValues[index], expectedLongs[index])) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int doubleValueAndBigDecimal() {
+    int count = 0;
+    for (int index = 0; index < numberOfValues; index++) {
+      if (Values.areEqual(doubleValues[index], expectedBigDecimals[index])) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int compareLongValueAndBigDecimal() {
+    int sum = 0;
+    for (int index = 0; index < numberOfValues; index++) {
+      sum += Values.compare(longValues[index], expectedBigDecimals[index]);
+    }
+    return sum;
+  }
+}
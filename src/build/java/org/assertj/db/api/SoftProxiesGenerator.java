@@ -0,0 +1,107 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2025 the original author or authors.
+ */
+package org.assertj.db.api;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.implementation.auxiliary.AuxiliaryType;
+
+/**
+ * Generator of the proxy classes of the soft assertions, called during the build (in the {@code process-classes}
+ * phase) to save the proxy classes of the assertions of AssertJ-DB with the compiled classes.
+ * <p>
+ * {@code SoftProxies} loads these proxy classes instead of generating them at runtime. This class is compiled apart
+ * from the main classes (in {@code src/build/java}) : it is used only by the build and is not in the jar.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 3.1.0
+ */
+public final class SoftProxiesGenerator {
+
+  /**
+   * Suffix of the name of the auxiliary types of the proxy classes.
+   */
+  private static final String AUXILIARY_TYPE_SUFFIX = "$AssertJDb$SoftProxies$";
+
+  /**
+   * Package of the classes of assertion.
+   */
+  private static final String ASSERT_PACKAGE = SoftProxies.class.getPackage().getName();
+
+  /**
+   * Suffix of the name of the classes of assertion.
+   */
+  private static final String ASSERT_CLASS_SUFFIX = "Assert.class";
+
+  /**
+   * Private constructor.
+   */
+  private SoftProxiesGenerator() {
+    // Empty
+  }
+
+  /**
+   * Generates the proxy classes.
+   *
+   * @param args The directory of the compiled classes.
+   * @throws IOException            If a proxy class can not be saved.
+   * @throws ClassNotFoundException If a class of assertion can not be loaded.
+   */
+  public static void main(String[] args) throws IOException, ClassNotFoundException {
+    File directory = new File(args[0]);
+    for (Class<?> assertClass : getAssertClasses(directory)) {
+      // The auxiliary types are named with a counter (instead of a random suffix) to have the same names for each build
+      int[] counter = {0};
+      ByteBuddy byteBuddy = SoftProxies.BYTE_BUDDY.with((AuxiliaryType.NamingStrategy) (instrumentedType, auxiliaryType)
+        -> instrumentedType.getName() + AUXILIARY_TYPE_SUFFIX + counter[0]++);
+      SoftProxies.proxyClassBuilder(byteBuddy, assertClass)
+        .name(SoftProxies.getGeneratedProxyClassName(assertClass))
+        .make()
+        .saveIn(directory);
+    }
+  }
+
+  /**
+   * Returns the classes of assertion which are proxied by the soft assertions : the concrete classes of the package
+   * whose name ends with {@code Assert}.
+   *
+   * @param directory The directory of the compiled classes.
+   * @return The classes of assertion.
+   * @throws ClassNotFoundException If a class of assertion can not be loaded.
+   */
+  private static List<Class<?>> getAssertClasses(File directory) throws ClassNotFoundException {
+    String[] fileNames = new File(directory, ASSERT_PACKAGE.replace('.', File.separatorChar)).list();
+    if (fileNames == null) {
+      throw new IllegalArgumentException("The compiled classes are not in " + directory);
+    }
+    Arrays.sort(fileNames);
+    List<Class<?>> assertClasses = new ArrayList<>();
+    for (String fileName : fileNames) {
+      if (fileName.endsWith(ASSERT_CLASS_SUFFIX) && fileName.indexOf('$') == -1) {
+        String className = ASSERT_PACKAGE + '.' + fileName.substring(0, fileName.length() - ".class".length());
+        Class<?> assertClass = Class.forName(className);
+        if (!Modifier.isAbstract(assertClass.getModifiers())) {
+          assertClasses.add(assertClass);
+        }
+      }
+    }
+    return assertClasses;
+  }
+}
@@ -178,7 +178,7 @@ public abstract class AbstractColumnAssert<D extends AbstractDbData<D>, A extend
    */
   @Override
   public C isOfType(ValueType expected, boolean lenient) {
-    return AssertionsOnColumnType.isOfType(myself, info, getValuesList(), expected, lenient);
+    return AssertionsOnColumnType.isOfType(myself, info, column.getType(), getValuesList(), expected, lenient);
   }
 
   /**
@@ -186,7 +186,7 @@ public abstract class AbstractColumnAssert<D extends AbstractDbData<D>, A extend
    */
   @Override
   public C isOfAnyTypeIn(ValueType... expected) {
-    return AssertionsOnColumnType.isOfAnyTypeIn(myself, info, getValuesList(), expected);
+    return AssertionsOnColumnType.isOfAnyTypeIn(myself, info, column.getType(), getValuesList(), expected);
   }
 
   /**
@@ -194,7 +194,8 @@ public abstract class AbstractColumnAssert<D extends AbstractDbData<D>, A extend
    */
   @Override
   public C isNumber(boolean lenient) {
-    return AssertionsOnColumnType.isNumber(myself, info, getValuesList(), lenient);
+    return AssertionsOnColumnType.isOfType(myself, info, column.getType(), getValuesList(), ValueType.NUMBER,
+                                           lenient);
   }
 
   /**
@@ -202,7 +203,8 @@ public abstract class AbstractColumnAssert<D extends AbstractDbData<D>, A extend
    */
   @Override
   public C isBoolean(boolean lenient) {
-    return AssertionsOnColumnType.isBoolean(myself, info, getValuesList(), lenient);
+    return AssertionsOnColumnType.isOfType(myself, info, column.getType(), getValuesList(), ValueType.BOOLEAN,
+                                           lenient);
   }
 
   /**
@@ -210,7 +212,8 @@ public abstract class AbstractColumnAssert<D extends AbstractDbData<D>, A extend
    */
   @Override
   public C isDate(boolean lenient) {
-    return AssertionsOnColumnType.isDate(myself, info, getValuesList(), lenient);
+    return AssertionsOnColumnType.isOfType(myself, info, column.getType(), getValuesList(), ValueType.DATE,
+                                           lenient);
   }
 
   /**
@@ -218,7 +221,8 @@ public abstract class AbstractColumnAssert<D extends AbstractDbData<D>, A extend
    */
   @Override
   public C isTime(boolean lenient) {
-    return AssertionsOnColumnType.isTime(myself, info, getValuesList(), lenient);
+    return AssertionsOnColumnType.isOfType(myself, info, column.getType(), getValuesList(), ValueType.TIME,
+                                           lenient);
   }
 
   /**
@@ -226,7 +230,8 @@ public abstract class AbstractColumnAssert<D extends AbstractDbData<D>, A extend
    */
   @Override
   public C isDateTime(boolean lenient) {
-    return AssertionsOnColumnType.isDateTime(myself, info, getValuesList(), lenient);
+    return AssertionsOnColumnType.isOfType(myself, info, column.getType(), getValuesList(), ValueType.DATE_TIME,
+                                           lenient);
   }
 
   /**
@@ -234,7 +239,8 @@ public abstract class AbstractColumnAssert<D extends AbstractDbData<D>, A extend
    */
   @Override
   public C isBytes(boolean lenient) {
-    return AssertionsOnColumnType.isBytes(myself, info, getValuesList(), lenient);
+    return AssertionsOnColumnType.isOfType(myself, info, column.getType(), getValuesList(), ValueType.BYTES,
+                                           lenient);
   }
 
   /**
@@ -242,7 +248,8 @@ public abstract class AbstractColumnAssert<D extends AbstractDbData<D>, A extend
    */
   @Override
   public C isText(boolean lenient) {
-    return AssertionsOnColumnType.isText(myself, info, getValuesList(), lenient);
+    return AssertionsOnColumnType.isOfType(myself, info, column.getType(), getValuesList(), ValueType.TEXT,
+                                           lenient);
   }
 
   /**
@@ -250,7 +257,8 @@ public abstract class AbstractColumnAssert<D extends AbstractDbData<D>, A extend
    */
   @Override
   public C isUUID(boolean lenient) {
-    return AssertionsOnColumnType.isUUID(myself, info, getValuesList(), lenient);
+    return AssertionsOnColumnType.isOfType(myself, info, column.getType(), getValuesList(), ValueType.UUID,
+                                           lenient);
   }
 
   /**
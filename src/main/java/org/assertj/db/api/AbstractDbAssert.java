@@ -123,7 +123,7 @@ public abstract class AbstractDbAssert<D extends AbstractDbData<D>, A extends Ab
    */
   @Override
   public C column(String columnName) {
-    return columnPosition.getInstance(actual.getColumnsList(), actual.getColumnsNameList(), columnName, actual.getColumnLetterCase());
+    return columnPosition.getInstance(actual.getColumnsList(), actual.getColumnsNameIndex(), columnName, actual.getColumnLetterCase());
   }
 
   /**
@@ -139,8 +139,7 @@ public abstract class AbstractDbAssert<D extends AbstractDbData<D>, A extends Ab
    */
   @Override
   public A hasNumberOfRows(int expected) {
-    List<Row> rowsList = actual.getRowsList();
-    int size = rowsList.size();
+    int size = actual.getNumberOfRows();
     return AssertionsOnNumberOfRows.hasNumberOfRows(myself, info, size, expected);
   }
 
@@ -149,8 +148,7 @@ public abstract class AbstractDbAssert<D extends AbstractDbData<D>, A extends Ab
    */
   @Override
   public A hasNumberOfRowsGreaterThan(int expected) {
-    List<Row> rowsList = actual.getRowsList();
-    int size = rowsList.size();
+    int size = actual.getNumberOfRows();
     return AssertionsOnNumberOfRows.hasNumberOfRowsGreaterThan(myself, info, size, expected);
   }
 
@@ -159,8 +157,7 @@ public abstract class AbstractDbAssert<D extends AbstractDbData<D>, A extends Ab
    */
   @Override
   public A hasNumberOfRowsLessThan(int expected) {
-    List<Row> rowsList = actual.getRowsList();
-    int size = rowsList.size();
+    int size = actual.getNumberOfRows();
     return AssertionsOnNumberOfRows.hasNumberOfRowsLessThan(myself, info, size, expected);
   }
 
@@ -169,8 +166,7 @@ public abstract class AbstractDbAssert<D extends AbstractDbData<D>, A extends Ab
    */
   @Override
   public A hasNumberOfRowsGreaterThanOrEqualTo(int expected) {
-    List<Row> rowsList = actual.getRowsList();
-    int size = rowsList.size();
+    int size = actual.getNumberOfRows();
     return AssertionsOnNumberOfRows.hasNumberOfRowsGreaterThanOrEqualTo(myself, info, size, expected);
   }
 
@@ -179,8 +175,7 @@ public abstract class AbstractDbAssert<D extends AbstractDbData<D>, A extends Ab
    */
   @Override
   public A hasNumberOfRowsLessThanOrEqualTo(int expected) {
-    List<Row> rowsList = actual.getRowsList();
-    int size = rowsList.size();
+    int size = actual.getNumberOfRows();
     return AssertionsOnNumberOfRows.hasNumberOfRowsLessThanOrEqualTo(myself, info, size, expected);
   }
 
@@ -105,7 +105,7 @@ public class ChangeRowAssert
     if (row == null) {
       throw new AssertJDBException("Row do not exist");
     }
-    return valuePosition.getInstance(row.getValuesList(), row.getColumnsNameList(),
+    return valuePosition.getInstance(row.getValuesList(), row.getColumnsNameIndex(),
       columnName, row.getColumnLetterCase());
   }
 
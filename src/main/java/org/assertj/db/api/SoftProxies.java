@@ -22,20 +22,45 @@ import java.lang.reflect.Constructor;
 import java.util.List;
 
 import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.TypeCache;
 import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.scaffold.TypeValidation;
+import net.bytebuddy.implementation.FieldAccessor;
 import net.bytebuddy.implementation.MethodDelegation;
 import net.bytebuddy.implementation.auxiliary.AuxiliaryType;
 import net.bytebuddy.matcher.ElementMatcher;
 
 /**
  * Proxy implementation utilities.
+ * <p>
+ * A proxy class is generated only once for each class of assertion (and each class loader) : the proxy classes are kept
+ * in a cache and the {@link ErrorCollector} and the {@link ProxifyPositionResult} of the soft assertions are set in the
+ * fields of each proxy instance.
+ * </p>
+ * <p>
+ * The proxy classes of the assertions of AssertJ-DB are generated during the build by {@code SoftProxiesGenerator} :
+ * they are only loaded. The proxy classes of the other assertions (for example the subclasses written by the users) are
+ * generated at runtime.
+ * </p>
  *
  * @author Julien Roy
  */
 class SoftProxies {
 
-  private static final ByteBuddy BYTE_BUDDY = new ByteBuddy()
+  /**
+   * Suffix of the name of the proxy classes generated during the build.
+   */
+  static final String GENERATED_PROXY_CLASS_SUFFIX = "$ByteBuddy$SoftProxy";
+
+  private static final String COLLECTOR_FIELD_NAME = "assertjDbErrorCollector";
+
+  private static final String PROXIFY_POSITION_RESULT_FIELD_NAME = "assertjDbProxifyPositionResult";
+
+  private static final TypeCache<TypeCache.SimpleKey> CACHE = new TypeCache.WithInlineExpunction<>(TypeCache.Sort.SOFT);
+
+  static final ByteBuddy BYTE_BUDDY = new ByteBuddy()
     .with(new AuxiliaryType.NamingStrategy.SuffixingRandom("AssertJDb$SoftProxies"))
     .with(TypeValidation.DISABLED);
 
@@ -79,6 +104,8 @@ class SoftProxies {
 
   private final ErrorCollector collector = new ErrorCollector();
 
+  private final ProxifyPositionResult proxifyPositionResult = new ProxifyPositionResult(this);
+
   SoftProxies() {
   }
 
@@ -90,7 +117,7 @@ class SoftProxies {
     try {
       Class<? extends V> proxyClass = createProxyClass(assertClass);
       Constructor<? extends V> constructor = proxyClass.getConstructor(actualClass);
-      return constructor.newInstance(actual);
+      return bind(constructor.newInstance(actual));
     } catch (Exception e) {
       throw new RuntimeException(e);
     }
@@ -101,7 +128,7 @@ class SoftProxies {
     try {
       Class<? extends V> proxyClass = createProxyClass(assertClass);
       Constructor<? extends V> constructor = proxyClass.getConstructor(paramClass);
-      return constructor.newInstance(params);
+      return bind(constructor.newInstance(params));
     } catch (Exception e) {
       throw new RuntimeException(e);
     }
@@ -111,16 +138,107 @@ class SoftProxies {
     return this.collector.wasSuccess();
   }
 
+  /**
+   * Sets the interceptors of these soft assertions in a proxy instance.
+   *
+   * @param proxy The proxy instance.
+   * @param <V>   The class of the assertion.
+   * @return The proxy instance.
+   */
+  private <V> V bind(V proxy) {
+    ((Proxy) proxy).setAssertjDbErrorCollector(collector);
+    ((Proxy) proxy).setAssertjDbProxifyPositionResult(proxifyPositionResult);
+    return proxy;
+  }
+
+  /**
+   * Returns the proxy class of a class of assertion (loaded or generated at the first call for the class loader of the
+   * class).
+   *
+   * @param assertClass The class of the assertion.
+   * @param <V>         The class of the assertion.
+   * @return The proxy class.
+   */
   @SuppressWarnings("unchecked")
-  private <V> Class<V> createProxyClass(Class<V> assertClass) {
-    return (Class<V>) BYTE_BUDDY
-      .subclass(assertClass)
-      .method(any().and(not(METHODS_NOT_TO_PROXY)))
-      .intercept(MethodDelegation.to(collector))
-      .method(METHODS_TO_EXTRACT_PROXY)
-      .intercept(MethodDelegation.to(new ProxifyPositionResult(this)))
+  private static <V> Class<V> createProxyClass(Class<V> assertClass) {
+    ClassLoader classLoader = assertClass.getClassLoader();
+    return (Class<V>) CACHE.findOrInsert(classLoader, new TypeCache.SimpleKey(assertClass),
+                                         () -> loadProxyClass(assertClass), CACHE);
+  }
+
+  /**
+   * Returns the name of the proxy class generated during the build for a class of assertion.
+   *
+   * @param assertClass The class of the assertion.
+   * @return The name of the proxy class.
+   */
+  static String getGeneratedProxyClassName(Class<?> assertClass) {
+    return assertClass.getName() + GENERATED_PROXY_CLASS_SUFFIX;
+  }
+
+  /**
+   * Loads the proxy class generated during the build for a class of assertion, or generates it if it does not exist.
+   *
+   * @param assertClass The class of the assertion.
+   * @param <V>         The class of the assertion.
+   * @return The proxy class.
+   */
+  private static <V> Class<?> loadProxyClass(Class<V> assertClass) {
+    try {
+      Class<?> proxyClass = Class.forName(getGeneratedProxyClassName(assertClass), true, assertClass.getClassLoader());
+      if (proxyClass.getSuperclass() == assertClass && Proxy.class.isAssignableFrom(proxyClass)) {
+        return proxyClass;
+      }
+    } catch (ClassNotFoundException e) {
+      // The proxy class was not generated during the build
+    }
+    return proxyClassBuilder(BYTE_BUDDY, assertClass)
       .make()
       .load(assertClass.getClassLoader())
       .getLoaded();
   }
+
+  /**
+   * Returns the builder of the proxy class of a class of assertion.
+   *
+   * @param byteBuddy   The configuration of ByteBuddy.
+   * @param assertClass The class of the assertion.
+   * @param <V>         The class of the assertion.
+   * @return The builder of the proxy class.
+   */
+  static <V> DynamicType.Builder<V> proxyClassBuilder(ByteBuddy byteBuddy, Class<V> assertClass) {
+    return byteBuddy
+      .subclass(assertClass)
+      .defineField(COLLECTOR_FIELD_NAME, ErrorCollector.class, Visibility.PRIVATE)
+      .defineField(PROXIFY_POSITION_RESULT_FIELD_NAME, ProxifyPositionResult.class, Visibility.PRIVATE)
+      .method(any().and(not(METHODS_NOT_TO_PROXY)))
+      .intercept(MethodDelegation.toField(COLLECTOR_FIELD_NAME))
+      .method(METHODS_TO_EXTRACT_PROXY)
+      .intercept(MethodDelegation.toField(PROXIFY_POSITION_RESULT_FIELD_NAME))
+      .implement(Proxy.class)
+      .method(named("setAssertjDbErrorCollector"))
+      .intercept(FieldAccessor.ofField(COLLECTOR_FIELD_NAME))
+      .method(named("setAssertjDbProxifyPositionResult"))
+      .intercept(FieldAccessor.ofField(PROXIFY_POSITION_RESULT_FIELD_NAME));
+  }
+
+  /**
+   * Interface implemented by the proxy classes to set the interceptors of the soft assertions in each proxy instance.
+   */
+  public interface Proxy {
+
+    /**
+     * Sets the collector of the errors.
+     *
+     * @param collector The collector of the errors.
+     */
+    void setAssertjDbErrorCollector(ErrorCollector collector);
+
+    /**
+     * Sets the interceptor of the navigation methods.
+     *
+     * @param proxifyPositionResult The interceptor of the navigation methods.
+     */
+    void setAssertjDbProxifyPositionResult(ProxifyPositionResult proxifyPositionResult);
+  }
 }
@@ -26,10 +26,17 @@ import org.assertj.db.type.DateValue;
 import org.assertj.db.type.TimeValue;
 import org.assertj.db.type.Value;
 import org.assertj.db.type.ValueType;
+import org.assertj.db.util.ParsedExpectedValues;
+import org.assertj.db.util.ValueKey;
 import org.assertj.db.util.Values;
 
 /**
  * Implements the assertion methods on the content of a column.
+ * <p>
+ * The values of the column are first matched with the expected values in linear time with their {@link ValueKey}. The
+ * values are compared one by one with the expected values only if a key can not be found or if an expected value is
+ * missing (to describe the failure).
+ * </p>
  *
  * @author Régis Pouiller
  * @see org.assertj.db.api.assertions.AssertOnColumnContent
@@ -63,6 +70,10 @@ public class AssertionsOnColumnContent {
   public static <A extends AbstractAssert<?>> A containsValues(A assertion, WritableAssertionInfo info,
                                                                List<Value> valuesList, Object... expected) {
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
+    ValueKey valueKey = ValueKey.of(expected);
+    if (valueKey != null && valueKey.containsAll(valuesList, expected)) {
+      return assertion;
+    }
     List<Value> list = new ArrayList<>(valuesList);
     int index = 0;
     for (Object val : expected) {
@@ -103,6 +114,9 @@ public class AssertionsOnColumnContent {
                                                                List<Value> valuesList, Boolean... expected) {
     AssertionsOnColumnType.isBoolean(assertion, info, valuesList, true);
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
+    if (ValueKey.BOOLEAN.containsAll(valuesList, expected)) {
+      return assertion;
+    }
     List<Value> list = new ArrayList<>(valuesList);
     int index = 0;
     for (Boolean val : expected) {
@@ -143,6 +157,9 @@ public class AssertionsOnColumnContent {
                                                                List<Value> valuesList, Number... expected) {
     AssertionsOnColumnType.isNumber(assertion, info, valuesList, true);
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
+    if (ValueKey.NUMBER.containsAll(valuesList, expected)) {
+      return assertion;
+    }
     List<Value> list = new ArrayList<>(valuesList);
     int index = 0;
     for (Number val : expected) {
@@ -183,6 +200,9 @@ public class AssertionsOnColumnContent {
                                                                List<Value> valuesList, byte[]... expected) {
     AssertionsOnColumnType.isBytes(assertion, info, valuesList, true);
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
+    if (ValueKey.BYTES.containsAll(valuesList, expected)) {
+      return assertion;
+    }
     List<Value> list = new ArrayList<>(valuesList);
     int index = 0;
     for (byte[] val : expected) {
@@ -220,13 +240,17 @@ public class AssertionsOnColumnContent {
     AssertionsOnColumnType.isOfAnyTypeIn(assertion, info, valuesList, ValueType.TEXT, ValueType.NUMBER, ValueType.DATE,
       ValueType.TIME, ValueType.DATE_TIME, ValueType.UUID, ValueType.NOT_IDENTIFIED);
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
+    if (ValueKey.TEXT.containsAll(valuesList, expected)) {
+      return assertion;
+    }
     List<Value> list = new ArrayList<>(valuesList);
+    ParsedExpectedValues parsedExpectedValues = new ParsedExpectedValues();
     int index = 0;
     for (String val : expected) {
       boolean found = false;
       List<Value> newList = new ArrayList<>();
       for (Value obj : list) {
-        if (found || !Values.areEqual(obj, val)) {
+        if (found || !Values.areEqual(obj, val, parsedExpectedValues)) {
           newList.add(obj);
         } else {
           found = true;
@@ -261,6 +285,9 @@ public class AssertionsOnColumnContent {
                                                                List<Value> valuesList, Character... expected) {
     AssertionsOnColumnType.isText(assertion, info, valuesList, true);
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
+    if (ValueKey.CHARACTER.containsAll(valuesList, expected)) {
+      return assertion;
+    }
     List<Value> list = new ArrayList<>(valuesList);
     int index = 0;
     for (Character val : expected) {
@@ -301,6 +328,9 @@ public class AssertionsOnColumnContent {
                                                                List<Value> valuesList, UUID... expected) {
     AssertionsOnColumnType.isOfAnyTypeIn(assertion, info, valuesList, ValueType.UUID, ValueType.NOT_IDENTIFIED);
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
+    if (ValueKey.UUID.containsAll(valuesList, expected)) {
+      return assertion;
+    }
     List<Value> list = new ArrayList<>(valuesList);
     int index = 0;
     for (UUID val : expected) {
@@ -342,6 +372,9 @@ public class AssertionsOnColumnContent {
     AssertionsOnColumnType
       .isOfAnyTypeIn(assertion, info, valuesList, ValueType.DATE, ValueType.DATE_TIME, ValueType.NOT_IDENTIFIED);
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
+    if (ValueKey.DATE_TIME.containsAll(valuesList, expected)) {
+      return assertion;
+    }
     List<Value> list = new ArrayList<>(valuesList);
     int index = 0;
     for (DateValue val : expected) {
@@ -382,6 +415,9 @@ public class AssertionsOnColumnContent {
                                                                List<Value> valuesList, TimeValue... expected) {
     AssertionsOnColumnType.isOfAnyTypeIn(assertion, info, valuesList, ValueType.TIME, ValueType.NOT_IDENTIFIED);
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
+    if (ValueKey.TIME.containsAll(valuesList, expected)) {
+      return assertion;
+    }
     List<Value> list = new ArrayList<>(valuesList);
     int index = 0;
     for (TimeValue val : expected) {
@@ -423,6 +459,9 @@ public class AssertionsOnColumnContent {
     AssertionsOnColumnType.isOfAnyTypeIn(assertion, info, valuesList, ValueType.DATE, ValueType.DATE_TIME,
       ValueType.NOT_IDENTIFIED);
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
+    if (ValueKey.DATE_TIME.containsAll(valuesList, expected)) {
+      return assertion;
+    }
     List<Value> list = new ArrayList<>(valuesList);
     int index = 0;
     for (DateTimeValue val : expected) {
@@ -26,6 +26,8 @@ import org.assertj.db.type.DateValue;
 import org.assertj.db.type.TimeValue;
 import org.assertj.db.type.Value;
 import org.assertj.db.type.ValueType;
+import org.assertj.db.util.ParsedExpectedValues;
+import org.assertj.db.util.ValueEquality;
 import org.assertj.db.util.Values;
 
 /**
@@ -63,12 +65,13 @@ public class AssertionsOnColumnEquality {
   public static <A extends AbstractAssert<?>> A hasValues(A assertion, WritableAssertionInfo info,
                                                           List<Value> valuesList, Object... expected) {
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
+    ValueEquality equality = ValueEquality.of(valuesList);
     int index = 0;
     for (Value value : valuesList) {
       if (value.getValue() != null && expected[index] != null) {
         AssertionsOnValueClass.isOfClass(assertion, info, value, expected[index].getClass());
       }
-      if (!areEqual(value, expected[index])) {
+      if (!equality.areEqual(value, expected[index])) {
         throw failures.failure(info, shouldBeEqual(index, value.getValue(), expected[index]));
       }
       index++;
@@ -170,9 +173,10 @@ public class AssertionsOnColumnEquality {
     AssertionsOnColumnType.isOfAnyTypeIn(assertion, info, valuesList, ValueType.TEXT, ValueType.NUMBER, ValueType.DATE,
       ValueType.TIME, ValueType.DATE_TIME, ValueType.UUID, ValueType.NOT_IDENTIFIED);
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
+    ParsedExpectedValues parsedExpectedValues = new ParsedExpectedValues();
     int index = 0;
     for (Value value : valuesList) {
-      if (!areEqual(value, expected[index])) {
+      if (!areEqual(value, expected[index], parsedExpectedValues)) {
         throw failures.failure(info,
           shouldBeEqual(index, Values.getRepresentationFromValueInFrontOfExpected(value, expected[index]),
             expected[index]));
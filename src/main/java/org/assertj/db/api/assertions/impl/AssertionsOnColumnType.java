@@ -20,6 +20,7 @@ import org.assertj.core.api.WritableAssertionInfo;
 import org.assertj.core.internal.Failures;
 import org.assertj.db.api.AbstractAssert;
 import org.assertj.db.error.ShouldBeValueType;
+import org.assertj.db.type.ColumnType;
 import org.assertj.db.type.Value;
 import org.assertj.db.type.ValueType;
 
@@ -77,6 +78,78 @@ public class AssertionsOnColumnType {
     return assertion;
   }
 
+  /**
+   * Verifies that the type of the values of the column is equal to the type in parameter.
+   * <p>
+   * If the test is lenient and if the type of the column is known, the values are not browsed when the type which is
+   * common to the values is the expected type.
+   * </p>
+   *
+   * @param <A>        The type of the assertion which call this method.
+   * @param assertion  The assertion which call this method.
+   * @param info       Writable information about an assertion.
+   * @param columnType The type of the column ({@code null} if not known).
+   * @param valuesList The list of values.
+   * @param expected   The expected type to compare to.
+   * @param lenient    {@code true} if the test is lenient : if the type of a value is not identified (for example when the
+   *                   value is {@code null}), it consider that it is ok.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the type of the column is different to the type in parameter.
+   * @since 3.1.0
+   */
+  public static <A extends AbstractAssert<?>> A isOfType(A assertion, WritableAssertionInfo info, ColumnType columnType,
+                                                         List<Value> valuesList, ValueType expected, boolean lenient) {
+    if (lenient) {
+      return isOfAnyTypeIn(assertion, info, columnType, valuesList, expected, ValueType.NOT_IDENTIFIED);
+    }
+    return isOfType(assertion, info, valuesList, expected, false);
+  }
+
+  /**
+   * Verifies that the type of the column is equal to one of the types in parameters.
+   * <p>
+   * If the type of the column is known, the values are not browsed when the type which is common to the values is one
+   * of the types in parameters and when {@link ValueType#NOT_IDENTIFIED} (the type of a {@code null} value) is one of
+   * the types in parameters.
+   * </p>
+   *
+   * @param <A>        The type of the assertion which call this method.
+   * @param assertion  The assertion which call this method.
+   * @param info       Writable information about an assertion.
+   * @param columnType The type of the column ({@code null} if not known).
+   * @param valuesList The list of values.
+   * @param expected   The expected types to compare to.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the type of the column is different to all the types in parameters.
+   * @since 3.1.0
+   */
+  public static <A extends AbstractAssert<?>> A isOfAnyTypeIn(A assertion, WritableAssertionInfo info,
+                                                              ColumnType columnType, List<Value> valuesList,
+                                                              ValueType... expected) {
+    if (columnType != null && columnType.isValueTypeIdentified()
+        && contains(expected, ValueType.NOT_IDENTIFIED)
+        && (columnType.getValueType() == null || contains(expected, columnType.getValueType()))) {
+      return assertion;
+    }
+    return isOfAnyTypeIn(assertion, info, valuesList, expected);
+  }
+
+  /**
+   * Returns if a type is one of the types in parameters.
+   *
+   * @param types The types.
+   * @param type  The type to find.
+   * @return {@code true} if the type is one of the types.
+   */
+  private static boolean contains(ValueType[] types, ValueType type) {
+    for (ValueType valueType : types) {
+      if (valueType == type) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   /**
    * Verifies that the type of the column is equal to one of the types in parameters.
    *
@@ -155,13 +155,7 @@ public abstract class PositionWithChanges<E extends AbstractElement<E> & Navigat
    * @throws AssertJDBException If the {@code index} is out of the bounds.
    */
   private Change getChange(Changes changes, int index, ChangeType changeType, String tableName) {
-    if (changeType != null) {
-      changes = changes.getChangesOfType(changeType);
-    }
-    if (tableName != null) {
-      changes = changes.getChangesOfTable(tableName);
-    }
-    List<Change> changesList = changes.getChangesList();
+    List<Change> changesList = changes.getChangesList(changeType, tableName);
     int size = changesList.size();
     if (index < 0 || index >= size) {
       throw new AssertJDBException("Index %s out of the limits [0, %s[", index, size);
@@ -230,8 +224,7 @@ public abstract class PositionWithChanges<E extends AbstractElement<E> & Navigat
    * @return The change assert implementation.
    */
   public N getChangeInstanceWithPK(Changes changes, String tableName, Object... pksValues) {
-    Changes changesOfTable = changes.getChangesOfTable(tableName);
-    List<Change> changesList = changesOfTable.getChangesList();
+    List<Change> changesList = changes.getChangesList(null, tableName);
     int index = 0;
     for (Change change : changesList) {
       List<Value> pksValueList = change.getPksValueList();
@@ -246,7 +239,7 @@ public abstract class PositionWithChanges<E extends AbstractElement<E> & Navigat
         }
       }
       if (equal) {
-        return getChangeInstance(changesOfTable, null, tableName, index);
+        return getChangeInstance(changes, null, tableName, index);
       }
       index++;
     }
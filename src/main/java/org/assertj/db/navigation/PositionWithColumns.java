@@ -19,6 +19,7 @@ import org.assertj.db.global.AbstractElement;
 import org.assertj.db.type.DbElement;
 import org.assertj.db.type.lettercase.CaseComparison;
 import org.assertj.db.util.NameComparator;
+import org.assertj.db.util.NameIndex;
 
 /**
  * Position with columns during navigation.
@@ -62,4 +63,28 @@ public abstract class PositionWithColumns<E extends AbstractElement<E> & Navigat
     }
     return getInstance(elementsList, index);
   }
+
+  /**
+   * Gets an instance of element of navigation corresponding to the column name found with the index of the columns
+   * name.
+   * If this instance is already instanced, the method returns it from the cache.
+   *
+   * @param elementsList     List of elements.
+   * @param columnsNameIndex Index of the columns name.
+   * @param columnName       Name of the column of the element on which is the instance of element of navigation.
+   * @param comparison       Case comparison for column name.
+   * @return The instance of element of navigation.
+   * @since 3.1.0
+   */
+  public N getInstance(List<D> elementsList, NameIndex columnsNameIndex, String columnName, CaseComparison comparison) {
+    if (columnName == null) {
+      throw new NullPointerException("Column name must be not null");
+    }
+    int index = columnsNameIndex.indexOf(columnName, comparison);
+    if (index == -1) {
+      throw new AssertJDBException(String.format("Column <%s> does not exist%nin <%s>%nwith comparison %s",
+        columnName, columnsNameIndex.getNamesList(), comparison.getComparisonName()));
+    }
+    return getInstance(elementsList, index);
+  }
 }
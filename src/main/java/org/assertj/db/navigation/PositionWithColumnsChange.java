@@ -27,7 +27,7 @@ import org.assertj.db.type.Row;
 import org.assertj.db.type.Value;
 import org.assertj.db.type.lettercase.CaseComparison;
 import org.assertj.db.util.Changes;
-import org.assertj.db.util.NameComparator;
+import org.assertj.db.util.NameIndex;
 
 /**
  * Position during navigation.
@@ -148,11 +148,11 @@ public abstract class PositionWithColumnsChange<E extends AbstractElement<E> & N
     if (columnName == null) {
       throw new NullPointerException("Column name must be not null");
     }
-    List<String> columnsNameList = change.getColumnsNameList();
-    int index = NameComparator.INSTANCE.indexOf(columnsNameList, columnName, comparison);
+    NameIndex columnsNameIndex = change.getColumnsNameIndex();
+    int index = columnsNameIndex.indexOf(columnName, comparison);
     if (index == -1) {
       throw new AssertJDBException(String.format("Column <%s> does not exist%nin <%s>%nwith comparison %s",
-        columnName, columnsNameList, comparison.getComparisonName()));
+        columnName, columnsNameIndex.getNamesList(), comparison.getComparisonName()));
     }
     return getChangeColumnInstance(change, index);
   }
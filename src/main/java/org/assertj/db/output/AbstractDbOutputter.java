@@ -119,7 +119,7 @@ public abstract class AbstractDbOutputter<D extends AbstractDbData<D>, A extends
    */
   @Override
   public C column(String columnName) {
-    return columnPosition.getInstance(actual.getColumnsList(), actual.getColumnsNameList(),
+    return columnPosition.getInstance(actual.getColumnsList(), actual.getColumnsNameIndex(),
         columnName, actual.getColumnLetterCase())
       .withType(outputType);
   }
@@ -101,7 +101,7 @@ public abstract class AbstractRowOutputter<D extends AbstractDbData<D>, A extend
    */
   @Override
   public RV value(String columnName) {
-    return valuePosition.getInstance(getValuesList(), row.getColumnsNameList(), columnName, row.getColumnLetterCase())
+    return valuePosition.getInstance(getValuesList(), row.getColumnsNameIndex(), columnName, row.getColumnLetterCase())
       .withType(outputType);
   }
 
@@ -93,7 +93,7 @@ public class ChangeRowOutputter
     if (row == null) {
       throw new AssertJDBException("Row do not exist");
     }
-    return valuePosition.getInstance(row.getValuesList(), row.getColumnsNameList(),
+    return valuePosition.getInstance(row.getValuesList(), row.getColumnsNameIndex(),
       columnName, row.getColumnLetterCase()).withType(outputType);
   }
 
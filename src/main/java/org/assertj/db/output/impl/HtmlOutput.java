@@ -65,7 +65,7 @@ enum HtmlOutput implements Output {
     List<Row> rowsList = table.getRowsList();
     Row[] rows = rowsList.toArray(new Row[0]);
 
-    List<String> typesList = OutputType.getTypesList(rows);
+    List<String> typesList = OutputType.getTypesList(table.getColumnsTypeList(), rows);
     StringBuilder[] pksValueStringBuilders = OutputType.getPksValueStringBuilder(rows);
 
     StringBuilder stringBuilder = new StringBuilder();
@@ -130,7 +130,7 @@ enum HtmlOutput implements Output {
     List<Row> rowsList = request.getRowsList();
     Row[] rows = rowsList.toArray(new Row[0]);
 
-    List<String> typesList = OutputType.getTypesList(rows);
+    List<String> typesList = OutputType.getTypesList(request.getColumnsTypeList(), rows);
     StringBuilder[] pksValueStringBuilders = OutputType.getPksValueStringBuilder(rows);
 
     StringBuilder stringBuilder = new StringBuilder();
@@ -474,7 +474,7 @@ enum HtmlOutput implements Output {
     String columnName = column.getName();
     List<Value> valuesList = column.getValuesList();
     Value[] values = valuesList.toArray(new Value[0]);
-    String type = OutputType.getType(values);
+    String type = OutputType.getType(column.getType(), values);
 
     StringBuilder stringBuilder = new StringBuilder();
 
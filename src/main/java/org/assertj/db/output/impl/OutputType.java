@@ -22,6 +22,7 @@ import org.assertj.core.api.WritableAssertionInfo;
 import org.assertj.db.type.Change;
 import org.assertj.db.type.Changes;
 import org.assertj.db.type.Column;
+import org.assertj.db.type.ColumnType;
 import org.assertj.db.type.DataType;
 import org.assertj.db.type.DateTimeValue;
 import org.assertj.db.type.DateValue;
@@ -97,6 +98,24 @@ public enum OutputType implements Output {
     return "(" + ValueType.NOT_IDENTIFIED + ")";
   }
 
+  /**
+   * Returns a text representing the type of values of a column.
+   * <p>
+   * The values are only browsed if the type of the column is not known or not identified.
+   * </p>
+   *
+   * @param columnType The type of the column ({@code null} if not known).
+   * @param values     The values.
+   * @return The text.
+   */
+  static String getType(ColumnType columnType, Value... values) {
+    if (columnType != null && columnType.isValueTypeIdentified()) {
+      ValueType valueType = columnType.getValueType();
+      return "(" + (valueType == null ? ValueType.NOT_IDENTIFIED : valueType) + ")";
+    }
+    return getType(values);
+  }
+
   /**
    * Returns the text representing a value.
    *
@@ -129,6 +148,20 @@ public enum OutputType implements Output {
    * @return The labels.
    */
   static List<String> getTypesList(Row... rows) {
+    return getTypesList(null, rows);
+  }
+
+  /**
+   * Returns the labels for the columns corresponding to the type of the columns.
+   * <p>
+   * The values of a column are only browsed if the type of the column is not known or not identified.
+   * </p>
+   *
+   * @param columnsTypeList The types of the columns ({@code null} if not known).
+   * @param rows            The rows.
+   * @return The labels.
+   */
+  static List<String> getTypesList(List<ColumnType> columnsTypeList, Row... rows) {
     List<String> typesList = new ArrayList<>();
     Row row0 = null;
     for (Row row : rows) {
@@ -140,6 +173,11 @@ public enum OutputType implements Output {
     if (row0 != null) {
       int index = 0;
       for (; index < row0.getColumnsNameList().size(); index++) {
+        if (columnsTypeList != null && index < columnsTypeList.size()
+            && columnsTypeList.get(index).isValueTypeIdentified()) {
+          typesList.add(getType(columnsTypeList.get(index)));
+          continue;
+        }
         List<Value> valuesList = new ArrayList<>();
         for (Row row : rows) {
           if (row != null) {
@@ -375,6 +375,17 @@ enum PlainOutput implements Output {
    * @return The labels.
    */
   private static List<Integer> getColumnSizesList(Row... rows) {
+    return getColumnSizesList(OutputType.getTypesList(rows), rows);
+  }
+
+  /**
+   * Returns the sizes for the columns corresponding to the size of the values of the column.
+   *
+   * @param typesList The labels of the types of the columns.
+   * @param rows      The rows.
+   * @return The labels.
+   */
+  private static List<Integer> getColumnSizesList(List<String> typesList, Row... rows) {
     List<Integer> columnSizesList = new ArrayList<>();
     Row row0 = null;
     for (Row row : rows) {
@@ -398,8 +409,7 @@ enum PlainOutput implements Output {
           valuesList.add(value);
         }
       }
-      String type = OutputType.getType(valuesList.toArray(new Value[0]));
-      int columnSize = getColumnSize(columnName, type, index, valuesList.toArray(new Value[0]));
+      int columnSize = getColumnSize(columnName, typesList.get(index), index, valuesList.toArray(new Value[0]));
       columnSizesList.add(columnSize);
       index++;
     }
@@ -432,11 +442,11 @@ enum PlainOutput implements Output {
     List<Row> rowsList = table.getRowsList();
     Row[] rows = rowsList.toArray(new Row[0]);
 
-    List<String> typesList = OutputType.getTypesList(rows);
+    List<String> typesList = OutputType.getTypesList(table.getColumnsTypeList(), rows);
     int indexColumnSize = getIndexColumnSize(rows.length);
     StringBuilder[] pksValueStringBuilders = OutputType.getPksValueStringBuilder(rows);
     int primaryKeyColumnSize = getColumnSize("PRIMARY", (Object[]) pksValueStringBuilders);
-    List<Integer> sizesList = getSizesList(rows.length == 0 ? getColumnSizesList(columnsNameList) : getColumnSizesList(rows),
+    List<Integer> sizesList = getSizesList(rows.length == 0 ? getColumnSizesList(columnsNameList) : getColumnSizesList(typesList, rows),
       indexColumnSize,
       primaryKeyColumnSize);
 
@@ -478,11 +488,11 @@ enum PlainOutput implements Output {
     List<Row> rowsList = request.getRowsList();
     Row[] rows = rowsList.toArray(new Row[0]);
 
-    List<String> typesList = OutputType.getTypesList(rows);
+    List<String> typesList = OutputType.getTypesList(request.getColumnsTypeList(), rows);
     int indexColumnSize = getIndexColumnSize(rows.length);
     StringBuilder[] pksValueStringBuilders = OutputType.getPksValueStringBuilder(rows);
     int primaryKeyColumnSize = getColumnSize("PRIMARY", (Object[]) pksValueStringBuilders);
-    List<Integer> sizesList = getSizesList(rows.length == 0 ? getColumnSizesList(columnsNameList) : getColumnSizesList(rows),
+    List<Integer> sizesList = getSizesList(rows.length == 0 ? getColumnSizesList(columnsNameList) : getColumnSizesList(typesList, rows),
       indexColumnSize,
       primaryKeyColumnSize);
 
@@ -680,7 +690,7 @@ enum PlainOutput implements Output {
     List<Value> valuesList = column.getValuesList();
     Value[] values = valuesList.toArray(new Value[0]);
     int indexColumnSize = getIndexColumnSize(values.length);
-    String type = OutputType.getType(values);
+    String type = OutputType.getType(column.getType(), values);
     int columnSize = getColumnSize(columnName, type, null, values);
     List<Integer> sizesList = getSizesList(null,
       indexColumnSize,
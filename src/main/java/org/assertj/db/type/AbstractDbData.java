@@ -17,13 +17,19 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
 
 import org.assertj.db.exception.AssertJDBException;
 import org.assertj.db.type.lettercase.LetterCase;
-import org.assertj.db.util.NameComparator;
-import org.assertj.db.util.RowComparator;
+import org.assertj.db.util.NameIndex;
+import org.assertj.db.util.Values;
 
 /**
  * This class represents data from the database (either a {@link Table} or a {@link Request}).
@@ -42,6 +48,12 @@ import org.assertj.db.util.RowComparator;
  */
 public abstract class AbstractDbData<D extends AbstractDbData<D>> extends AbstractDbElement<D> {
 
+  /**
+   * Number of rows from which the rows are sorted in parallel.
+   *
+   * @since 3.1.0
+   */
+  static final int PARALLEL_SORT_THRESHOLD = 50_000;
   /**
    * The type of the date on which is the change.
    */
@@ -50,6 +62,12 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
    * List of the column names.
    */
   private List<String> columnsNameList;
+  /**
+   * Index of the column names, shared by the rows (or {@code null} if it is not created yet).
+   *
+   * @since 3.1.0
+   */
+  private NameIndex columnsNameIndex;
   /**
    * List of the primary key names.
    */
@@ -58,10 +76,24 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
    * List of the rows.
    */
   private List<Row> rowsList;
+  /**
+   * List of the types of the columns (or {@code null} if the rows are not collected from a {@link ResultSet}).
+   *
+   * @since 3.1.0
+   */
+  private List<ColumnType> columnsTypeList;
   /**
    * List of the columns.
    */
   private List<Column> columnsList;
+  /**
+   * Index of the rows by the primary keys values.
+   */
+  private PksIndex pksIndex;
+  /**
+   * Number of rows counted in the database without loading the rows.
+   */
+  private Integer numberOfRows;
 
   /**
    * Constructor with a {@link JdbcUrlConnectionProvider}.
@@ -117,21 +149,79 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
    */
   private void load() {
     try (Connection connection = getConnection()) {
-      // Call the specific loading depending on Table or Request.
-      loadImpl(connection);
-      if (pksNameList == null) {
-        pksNameList = new ArrayList<>();
-      }
+      load(connection);
     } catch (SQLException e) {
       throw new AssertJDBException(e);
     }
   }
 
+  /**
+   * Loads the information of the data from the database with a {@link Connection} which is already open.
+   * <p>
+   * This method calls {@link AbstractDbData#loadImpl(Connection)} but does not close the connection : it is used to
+   * load many data in the same transaction.
+   * </p>
+   *
+   * @param connection The {@link Connection} to the database.
+   * @throws SQLException SQL Exception.
+   * @since 3.1.0
+   */
+  void load(Connection connection) throws SQLException {
+    // Call the specific loading depending on Table or Request.
+    loadImpl(connection);
+    if (pksNameList == null) {
+      pksNameList = new ArrayList<>();
+    }
+  }
+
   /**
    * Sorts the list of rows.
+   * <p>
+   * The rows are sorted with their {@link Row.SortKey sort keys}, which are computed once before the sort and released
+   * after it. With at least {@link #PARALLEL_SORT_THRESHOLD} rows, the sort keys are computed and sorted in parallel.
+   * <br>
+   * The keys are not sorted if they are already in order (for example when the database returns the rows in the order
+   * of the primary keys).
+   * </p>
    */
   protected void sortRows() {
-    rowsList.sort(RowComparator.INSTANCE);
+    Row.SortKey[] sortKeys = new Row.SortKey[rowsList.size()];
+    boolean parallel = sortKeys.length >= PARALLEL_SORT_THRESHOLD;
+    if (parallel) {
+      Arrays.parallelSetAll(sortKeys, index -> rowsList.get(index).getSortKey());
+    } else {
+      for (int index = 0; index < sortKeys.length; index++) {
+        sortKeys[index] = rowsList.get(index).getSortKey();
+      }
+    }
+    if (areSorted(sortKeys)) {
+      return;
+    }
+    if (parallel) {
+      Arrays.parallelSort(sortKeys);
+    } else {
+      Arrays.sort(sortKeys);
+    }
+    ListIterator<Row> iterator = rowsList.listIterator();
+    for (Row.SortKey sortKey : sortKeys) {
+      iterator.next();
+      iterator.set(sortKey.getRow());
+    }
+  }
+
+  /**
+   * Returns if the sort keys are already in order.
+   *
+   * @param sortKeys The sort keys.
+   * @return {@code true} if the sort keys are in order.
+   */
+  private static boolean areSorted(Row.SortKey[] sortKeys) {
+    for (int index = 1; index < sortKeys.length; index++) {
+      if (sortKeys[index - 1].compareTo(sortKeys[index]) > 0) {
+        return false;
+      }
+    }
+    return true;
   }
 
   /**
@@ -149,11 +239,76 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
    */
   protected abstract void loadImpl(Connection connection) throws SQLException;
 
+  /**
+   * Implementation of the counting of the rows that depends of the kind of data.
+   * <p>
+   * This method is called by {@link #getNumberOfRows()} when the rows are not loaded : it executes a
+   * {@code SELECT COUNT(*)} request instead of getting all the rows.<br>
+   * This default implementation returns {@code -1} : the rows can not be counted and {@link #getNumberOfRows()} loads
+   * them.
+   * </p>
+   *
+   * @param connection {@link Connection} to the database provided by {@link #getNumberOfRows()} method.
+   * @return The number of rows or {@code -1} if the rows can not be counted without loading them.
+   * @throws SQLException SQL Exception.
+   * @see Table#countImpl(Connection)
+   * @see Request#countImpl(Connection)
+   * @since 3.1.0
+   */
+  protected int countImpl(Connection connection) throws SQLException {
+    return -1;
+  }
+
+  /**
+   * Returns the number of rows counted by a request.
+   *
+   * @param resultSet The {@link ResultSet} of the {@code SELECT COUNT(*)} request.
+   * @return The number of rows.
+   * @throws SQLException SQL Exception.
+   * @since 3.1.0
+   */
+  protected static int getCount(ResultSet resultSet) throws SQLException {
+    resultSet.next();
+    return resultSet.getInt(1);
+  }
+
+  /**
+   * Returns the value of the column at the index in the current row of the {@link ResultSet}.
+   *
+   * @param resultSet The {@link ResultSet}.
+   * @param index     The index of the column in the {@link ResultSet}.
+   * @param type      The SQL type of the column (from {@link Types}).
+   * @return The value.
+   * @throws SQLException A SQL Exception.
+   */
+  private static Object getObject(ResultSet resultSet, int index, int type) throws SQLException {
+    switch (type) {
+      case Types.DATE:
+        return resultSet.getDate(index);
+      case Types.TIME:
+        return resultSet.getTime(index);
+      case Types.TIMESTAMP:
+        return resultSet.getTimestamp(index);
+      case Types.BLOB:
+        return resultSet.getBytes(index);
+      case Types.CLOB:
+        return resultSet.getString(index);
+      case Types.ARRAY:
+        return resultSet.getArray(index);
+
+      default:
+        return resultSet.getObject(index);
+    }
+  }
+
   /**
    * Collects rows from a {@link ResultSet}.
    * <p>
    * This method browse the {@link ResultSet} in parameter to get the data and fill the list of {@link Row} (
-   * {@link #rowsList}) with these data.
+   * {@link #rowsList}) with these data.<br>
+   * The index and the SQL type of each column in the {@link ResultSet} are found once from the
+   * {@link ResultSetMetaData}, then the values are read by index and kept in a {@link ColumnarStore} (the rows are
+   * views of this store). The {@link ColumnType} of each column is created after the reading of the values.
    * </p>
    *
    * @param resultSet The {@link ResultSet}.
@@ -161,47 +316,48 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
    */
   protected void collectRowsFromResultSet(ResultSet resultSet) throws SQLException {
     ResultSetMetaData metaData = resultSet.getMetaData();
-    rowsList = new ArrayList<>();
+    LetterCase letterCase = getColumnLetterCase();
+    int columnCount = metaData.getColumnCount();
+    List<String> labelsList = new ArrayList<>(columnCount);
+    for (int i = 1; i <= columnCount; i++) {
+      labelsList.add(metaData.getColumnLabel(i));
+    }
+    NameIndex labelsIndex = new NameIndex(labelsList);
+    NameIndex columnsIndex = getColumnsNameIndex();
+    int[] indexes = new int[columnsNameList.size()];
+    int[] types = new int[columnsNameList.size()];
+    int[] precisions = new int[columnsNameList.size()];
+    int[] scales = new int[columnsNameList.size()];
+    for (int column = 0; column < indexes.length; column++) {
+      int index = labelsIndex.indexOf(columnsNameList.get(column), letterCase) + 1;
+      indexes[column] = index;
+      types[column] = metaData.getColumnType(index);
+      precisions[column] = metaData.getPrecision(index);
+      scales[column] = metaData.getScale(index);
+    }
+
+    ColumnarStore store = new ColumnarStore(columnsIndex, types, letterCase);
+    Object[] objects = new Object[indexes.length];
     while (resultSet.next()) {
-      List<Value> valuesList = new ArrayList<>();
-      for (String columnName : columnsNameList) {
-        // TODO Improve the check of the type
-        int index = -1;
-        for (int i = 1; i <= metaData.getColumnCount(); i++) {
-          if (getColumnLetterCase().isEqual(columnName, metaData.getColumnLabel(i))) {
-            index = i;
-            break;
-          }
-        }
-        Object object;
-        int type = metaData.getColumnType(index);
-        switch (type) {
-          case Types.DATE:
-            object = resultSet.getDate(columnName);
-            break;
-          case Types.TIME:
-            object = resultSet.getTime(columnName);
-            break;
-          case Types.TIMESTAMP:
-            object = resultSet.getTimestamp(columnName);
-            break;
-          case Types.BLOB:
-            object = resultSet.getBytes(columnName);
-            break;
-          case Types.CLOB:
-            object = resultSet.getString(columnName);
-            break;
-          case Types.ARRAY:
-            object = resultSet.getArray(columnName);
-            break;
-
-          default:
-            object = resultSet.getObject(columnName);
-            break;
-        }
-        valuesList.add(new Value(columnName, object, getColumnLetterCase()));
+      for (int column = 0; column < indexes.length; column++) {
+        objects[column] = getObject(resultSet, indexes[column], types[column]);
       }
-      rowsList.add(new Row(pksNameList, columnsNameList, valuesList, getColumnLetterCase(), getPrimaryKeyLetterCase()));
+      store.addRow(objects);
+    }
+    store.trimToSize();
+
+    List<ColumnType> typesList = new ArrayList<>(indexes.length);
+    for (int column = 0; column < indexes.length; column++) {
+      typesList.add(new ColumnType(store.getValueType(column), types[column], precisions[column], scales[column]));
+    }
+    columnsTypeList = Collections.unmodifiableList(typesList);
+
+    LetterCase primaryKeyLetterCase = getPrimaryKeyLetterCase();
+    rowsList = new ArrayList<>(store.size());
+    pksIndex = null;
+    numberOfRows = null;
+    for (int row = 0; row < store.size(); row++) {
+      rowsList.add(store.getRow(pksNameList, row, primaryKeyLetterCase));
     }
   }
 
@@ -230,6 +386,28 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
    */
   protected void setColumnsNameList(List<String> columnsNameList) {
     this.columnsNameList = columnsNameList;
+    this.columnsNameIndex = null;
+  }
+
+  /**
+   * Returns the index of the columns name for the data from database.
+   * <p>
+   * The index is created once for the list of the columns name and is shared by the rows.
+   * </p>
+   *
+   * @return The index of the columns name.
+   * @throws NullPointerException If the {@code connectionProvider} fields are {@code null}.
+   * @throws AssertJDBException   If triggered, this exception wrap a possible {@link SQLException} during the loading.
+   * @since 3.1.0
+   */
+  public NameIndex getColumnsNameIndex() {
+    List<String> namesList = getColumnsNameList();
+    NameIndex index = columnsNameIndex;
+    if (index == null || index.getNamesList() != namesList) {
+      index = new NameIndex(namesList);
+      columnsNameIndex = index;
+    }
+    return index;
   }
 
   /**
@@ -259,6 +437,7 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
   protected void setPksNameList(List<String> pksNameList) {
     this.pksNameList = new ArrayList<>();
     this.pksNameList.addAll(pksNameList);
+    pksIndex = null;
     if (rowsList != null) {
       for (Row row : rowsList) {
         row.setPksNameList(this.pksNameList);
@@ -275,13 +454,45 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
     if (pksNameList != null) {
       for (String pkName : pksNameList) {
         // If the list of columns name is not set, the presence of the column is not tested
-        if (columnsNameList != null && !NameComparator.INSTANCE.contains(columnsNameList, pkName, letterCase)) {
+        if (columnsNameList != null && !getColumnsNameIndex().contains(pkName, letterCase)) {
           throw new AssertJDBException("Primary key %s do not exist in the columns %s", pkName, columnsNameList);
         }
       }
     }
   }
 
+  /**
+   * Returns the list of the types of the columns for the data from database.
+   * <p>
+   * The types are found once for each column when the rows are loaded : if it is the first call to
+   * {@link #getRowsList()}, the data are loaded from database by calling the {@link #load()} private method.
+   * </p>
+   *
+   * @return The list of the types of the columns (in the order of {@link #getColumnsNameList()}), or {@code null} if
+   * the types are not known.
+   * @throws NullPointerException If the {@code connectionProvider} fields are {@code null}.
+   * @throws AssertJDBException   If triggered, this exception wrap a possible {@link SQLException} during the loading.
+   * @since 3.1.0
+   */
+  public List<ColumnType> getColumnsTypeList() {
+    getRowsList();
+    return columnsTypeList;
+  }
+
+  /**
+   * Returns the type of the column corresponding to the index.
+   *
+   * @param index The column index.
+   * @return The type of the column, or {@code null} if the type is not known.
+   */
+  private ColumnType getColumnType(int index) {
+    List<ColumnType> typesList = getColumnsTypeList();
+    if (typesList == null || index >= typesList.size()) {
+      return null;
+    }
+    return typesList.get(index);
+  }
+
   /**
    * Returns the list of the values in rows for the data from database.
    * <p>
@@ -300,6 +511,45 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
     return rowsList;
   }
 
+  /**
+   * Returns the number of rows for the data from database.
+   * <p>
+   * If the rows are already loaded, this method returns the size of {@link #getRowsList()}. Else the rows are counted
+   * in the database by calling the {@link #countImpl(Connection)} method (the rows are not loaded). If they can not be
+   * counted (for example with a request which can not be used as a sub-query), the rows are loaded by calling the
+   * {@link #load()} private method.
+   * </p>
+   * <p>
+   * The count is kept only until the rows are loaded : the rows are read later than the count, so if the database
+   * is modified in between, the size of {@link #getRowsList()} can be different from the number of rows returned
+   * before.
+   * </p>
+   *
+   * @return The number of rows.
+   * @throws NullPointerException If the {@code connectionProvider} fields are {@code null}.
+   * @throws AssertJDBException   If triggered, this exception wrap a possible {@link SQLException} during the counting
+   *                              or the loading.
+   * @since 3.1.0
+   */
+  public int getNumberOfRows() {
+    if (rowsList != null) {
+      return rowsList.size();
+    }
+    if (numberOfRows == null) {
+      int count;
+      try (Connection connection = getConnection()) {
+        count = countImpl(connection);
+      } catch (SQLException e) {
+        throw new AssertJDBException(e);
+      }
+      if (count < 0) {
+        return getRowsList().size();
+      }
+      numberOfRows = count;
+    }
+    return numberOfRows;
+  }
+
   /**
    * Returns the list of the values in columns for the data from database.
    * <p>
@@ -320,7 +570,7 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
       int index = 0;
       for (String name : loadedColumnsNameList) {
         List<Value> valuesList = getValuesList(index);
-        Column column = new Column(name, valuesList, getColumnLetterCase());
+        Column column = new Column(name, valuesList, getColumnType(index), getColumnLetterCase());
         columnsList.add(column);
         index++;
       }
@@ -376,22 +626,44 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
    * @throws NullPointerException If the {@code connectionProvider} fields are {@code null}.
    * @throws AssertJDBException   If triggered, this exception wrap a possible {@link SQLException} during the loading.
    */
-  private List<Value> getValuesList(int index) {
-    List<Value> valuesList = new ArrayList<>();
-    for (Row row : getRowsList()) {
-      valuesList.add(row.getColumnValue(index));
-    }
+  private List<Value> getValuesList(final int index) {
+    final List<Row> loadedRowsList = getRowsList();
+    return new AbstractList<Value>() {
+      @Override
+      public Value get(int rowIndex) {
+        return loadedRowsList.get(rowIndex).getColumnValue(index);
+      }
 
-    return valuesList;
+      @Override
+      public int size() {
+        return loadedRowsList.size();
+      }
+    };
   }
 
   /**
    * Returns the {@link Row} with the primary keys values in parameter.
+   * <p>
+   * The rows are found with an index on the hash code of the primary keys values (built at the first call), then the
+   * rows with the same hash code are compared with {@link Row#hasPksValuesEqualTo(Value[])}.<br>
+   * If the type of a value in parameter is not the type of the primary key in the rows (for example a text to compare
+   * with a number), or if a {@code Float} is compared with another class of number (see
+   * {@link Values#getHashCode(Value)}), the rows are browsed.
+   * </p>
    *
    * @param pksValues The primary keys values.
    * @return The {@link Row} with the same primary keys values.
    */
   public Row getRowFromPksValues(Value... pksValues) {
+    if (pksValues.length == 0) {
+      return null;
+    }
+    if (pksIndex == null) {
+      pksIndex = new PksIndex(getRowsList());
+    }
+    if (pksIndex.isUsableFor(pksValues)) {
+      return pksIndex.get(pksValues);
+    }
     for (Row row : getRowsList()) {
       if (row.hasPksValuesEqualTo(pksValues)) {
         return row;
@@ -399,4 +671,120 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
     }
     return null;
   }
+
+  /**
+   * Index of the rows by the hash code of their primary keys values.
+   */
+  private static final class PksIndex {
+
+    /**
+     * The rows by hash code of the primary keys values.
+     */
+    private final Map<Integer, List<Row>> rowsByHashCode;
+    /**
+     * The type of each primary key in the rows ({@code null} if there are different types).
+     */
+    private final ValueType[] valueTypes;
+    /**
+     * The indicators of the primary keys with {@code Float} values in the rows.
+     */
+    private final boolean[] withFloat;
+    /**
+     * The indicators of the primary keys with numbers which are not {@code Float} in the rows.
+     */
+    private final boolean[] withOtherNumber;
+
+    /**
+     * Constructor.
+     *
+     * @param rowsList The rows to index.
+     */
+    private PksIndex(List<Row> rowsList) {
+      rowsByHashCode = new HashMap<>(rowsList.size() * 4 / 3 + 1);
+      ValueType[] types = null;
+      boolean[] floats = null;
+      boolean[] otherNumbers = null;
+      for (Row row : rowsList) {
+        Value[] pksValues = row.getPksValues();
+        if (types == null) {
+          types = new ValueType[pksValues.length];
+          floats = new boolean[pksValues.length];
+          otherNumbers = new boolean[pksValues.length];
+        }
+        for (int index = 0; index < pksValues.length && index < types.length; index++) {
+          types[index] = Value.getCommonType(types[index], pksValues[index]);
+          Object object = pksValues[index].getValue();
+          if (object instanceof Float) {
+            floats[index] = true;
+          } else if (object instanceof Number) {
+            otherNumbers[index] = true;
+          }
+        }
+        rowsByHashCode.computeIfAbsent(getHashCode(pksValues), key -> new ArrayList<>(1)).add(row);
+      }
+      valueTypes = types;
+      withFloat = floats;
+      withOtherNumber = otherNumbers;
+    }
+
+    /**
+     * Returns the hash code of primary keys values.
+     *
+     * @param pksValues The primary keys values.
+     * @return The hash code.
+     */
+    private static int getHashCode(Value[] pksValues) {
+      int hashCode = 1;
+      for (Value value : pksValues) {
+        hashCode = 31 * hashCode + Values.getHashCode(value);
+      }
+      return hashCode;
+    }
+
+    /**
+     * Returns if the index can be used to find the primary keys values in parameter : the hash code is consistent with
+     * the comparison only if the values are of the same type as the primary keys in the rows and if a {@code Float} is
+     * not compared with another class of number.
+     *
+     * @param pksValues The primary keys values.
+     * @return {@code true} if the index can be used.
+     */
+    private boolean isUsableFor(Value[] pksValues) {
+      if (valueTypes == null) {
+        return true;
+      }
+      if (valueTypes.length != pksValues.length) {
+        return false;
+      }
+      for (int index = 0; index < pksValues.length; index++) {
+        Value value = pksValues[index];
+        Object object = value.getValue();
+        if (object != null && valueTypes[index] != null && valueTypes[index] != value.getValueType()) {
+          return false;
+        }
+        if (object instanceof Float ? withOtherNumber[index] : object instanceof Number && withFloat[index]) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    /**
+     * Returns the {@link Row} with the primary keys values in parameter.
+     *
+     * @param pksValues The primary keys values.
+     * @return The {@link Row} with the same primary keys values.
+     */
+    private Row get(Value[] pksValues) {
+      List<Row> rows = rowsByHashCode.get(getHashCode(pksValues));
+      if (rows != null) {
+        for (Row row : rows) {
+          if (row.hasPksValuesEqualTo(pksValues)) {
+            return row;
+          }
+        }
+      }
+      return null;
+    }
+  }
 }
@@ -39,7 +39,7 @@ package org.assertj.db.type;
  * @author Julien Roy
  * @since 3.0.0
  */
-public class AssertDbConnection {
+public class AssertDbConnection implements AutoCloseable {
 
   private final ConnectionProvider connectionProvider;
 
@@ -78,4 +78,39 @@ public class AssertDbConnection {
   public Changes.Builder changes() {
     return new Changes.Builder(this.connectionProvider);
   }
+
+  /**
+   * Invalidate the schema metadata of a table kept in cache (depending on {@link SchemaMetaDataMode}).
+   *
+   * @param tableName Name of the table
+   * @since 3.1.0
+   */
+  public void invalidateSchemaMetaData(String tableName) {
+    this.connectionProvider.getMetaData().invalidate(tableName);
+  }
+
+  /**
+   * Invalidate all the schema metadata kept in cache (depending on {@link SchemaMetaDataMode}).
+   *
+   * @since 3.1.0
+   */
+  public void invalidateSchemaMetaData() {
+    this.connectionProvider.getMetaData().invalidateAll();
+  }
+
+  /**
+   * Close the resources kept by the connection provider : the pool of connections created with
+   * {@link AssertDbConnectionFactory.JdbcUrlConnectionProviderFactory#pool(int, java.time.Duration)}.
+   * <p>
+   * The elements already built can not load their data from a closed pool.
+   * </p>
+   *
+   * @since 3.1.0
+   */
+  @Override
+  public void close() {
+    if (this.connectionProvider instanceof JdbcUrlConnectionProvider) {
+      ((JdbcUrlConnectionProvider) this.connectionProvider).close();
+    }
+  }
 }
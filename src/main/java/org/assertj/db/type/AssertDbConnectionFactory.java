@@ -12,6 +12,9 @@
  */
 package org.assertj.db.type;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.Executor;
 import javax.sql.DataSource;
 
 import org.assertj.db.type.lettercase.LetterCase;
@@ -95,6 +98,8 @@ public abstract class AssertDbConnectionFactory {
     private final String url;
     private final String user;
     private final String password;
+    private int poolMaxIdle;
+    private Duration poolIdleTimeout;
 
     private JdbcUrlConnectionProviderFactory(String url, String user, String password) {
       super();
@@ -104,12 +109,49 @@ public abstract class AssertDbConnectionFactory {
       this.password = password;
     }
 
+    /**
+     * Reuse the connections with a pool instead of opening a new connection each time.
+     * <p>
+     * The pool keeps at most {@code maxIdle} idle connections and closes the connections which are idle for more
+     * than {@code idleTimeout}. It never waits for a connection and does not limit the number of open connections : if
+     * all the connections are used, a new connection is opened. The pool is closed with
+     * {@link AssertDbConnection#close()}.
+     * </p>
+     * <pre>
+     * <code class='java'>
+     * AssertDbConnection connection = AssertDbConnectionFactory.of(&quot;jdbc:h2:mem:test&quot;, &quot;sa&quot;, &quot;&quot;)
+     *   .pool(4, Duration.ofMinutes(1))
+     *   .create();
+     * </code>
+     * </pre>
+     *
+     * @param maxIdle     Maximum number of idle connections kept by the pool.
+     * @param idleTimeout Time after which an idle connection is closed.
+     * @return the current instance of factory.
+     * @since 3.1.0
+     */
+    public JdbcUrlConnectionProviderFactory pool(int maxIdle, Duration idleTimeout) {
+      if (maxIdle < 1) {
+        throw new IllegalArgumentException("The maximum number of idle connections of the pool must be greater than 0");
+      }
+      if (idleTimeout == null || idleTimeout.isNegative()) {
+        throw new IllegalArgumentException("The idle timeout of the pool cannot be null or negative");
+      }
+      this.poolMaxIdle = maxIdle;
+      this.poolIdleTimeout = idleTimeout;
+      return this;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public ConnectionProvider createConnectionProvider() {
-      return new JdbcUrlConnectionProvider(url, user, password, this.schemaMetaDataMode.getType(), this.tableLetterCase, this.columnLetterCase, this.primaryKeyLetterCase);
+      JdbcConnectionPool connectionPool = null;
+      if (poolIdleTimeout != null) {
+        connectionPool = new JdbcConnectionPool(url, user, password, poolMaxIdle, poolIdleTimeout.toNanos());
+      }
+      return new JdbcUrlConnectionProvider(url, user, password, connectionPool, this.schemaMetaDataMode.getType(), this.tableLetterCase, this.columnLetterCase, this.primaryKeyLetterCase);
     }
   }
 
@@ -132,6 +174,19 @@ public abstract class AssertDbConnectionFactory {
      * PKs letter case.
      */
     protected LetterCase primaryKeyLetterCase = LetterCase.PRIMARY_KEY_DEFAULT;
+    /**
+     * Time to live of the schema metadata (with {@link SchemaMetaDataMode#EXPIRING} mode).
+     */
+    protected Duration schemaMetaDataTimeToLive = ExpiringSchemaMetaData.DEFAULT_TIME_TO_LIVE;
+    /**
+     * File which keeps the schema metadata between several JVM (with {@link SchemaMetaDataMode#STATIC} and
+     * {@link SchemaMetaDataMode#EXPIRING} modes).
+     */
+    protected Path schemaMetaDataFile;
+    /**
+     * Executor of the refresh of the schema metadata in background (with {@link SchemaMetaDataMode#EXPIRING} mode).
+     */
+    protected Executor schemaMetaDataRefreshExecutor;
 
     private AbstractConnectionProviderFactory() {
     }
@@ -165,6 +220,71 @@ public abstract class AssertDbConnectionFactory {
       return (T) this;
     }
 
+    /**
+     * Modify the time to live of the schema metadata with the {@link SchemaMetaDataMode#EXPIRING} mode.
+     *
+     * @param timeToLive The time to live.
+     * @return the current instance of factory.
+     * @since 3.1.0
+     */
+    public T schemaMetaDataTimeToLive(Duration timeToLive) {
+      if (timeToLive == null || timeToLive.isNegative()) {
+        throw new IllegalArgumentException("Time to live of schema metadata cannot be null or negative");
+      }
+      this.schemaMetaDataTimeToLive = timeToLive;
+      return (T) this;
+    }
+
+    /**
+     * Refresh the schema metadata in background with the {@link SchemaMetaDataMode#EXPIRING} mode.
+     * <p>
+     * When the time to live is elapsed, the metadata are not invalidated but refreshed by the executor : the current
+     * metadata are returned until the end of the refresh, so the tests are never blocked by the loading.
+     * </p>
+     *
+     * @param executor The executor which runs the refresh.
+     * @return the current instance of factory.
+     * @since 3.1.0
+     */
+    public T schemaMetaDataRefreshExecutor(Executor executor) {
+      if (executor == null) {
+        throw new IllegalArgumentException("Executor of schema metadata refresh cannot be null");
+      }
+      this.schemaMetaDataRefreshExecutor = executor;
+      return (T) this;
+    }
+
+    /**
+     * Keep the schema metadata in a file to share them between several JVM (the forks of a test suite for example)
+     * with the {@link SchemaMetaDataMode#STATIC} and {@link SchemaMetaDataMode#EXPIRING} modes.
+     * <p>
+     * The file is read at the first request for metadata if it was written for the same connection and if the names
+     * of the tables in the database are the same : else the metadata are loaded from the database and the file is
+     * written again. Only the names of the tables are compared (with one request) : after a modification of the
+     * columns or of the primary keys of an existing table, call {@link AssertDbConnection#invalidateSchemaMetaData()}
+     * (the metadata are then loaded from the database and the file is written again) or delete the file.
+     * </p>
+     * <pre>
+     * <code class='java'>
+     * AssertDbConnection connection = AssertDbConnectionFactory.of(&quot;jdbc:h2:mem:test&quot;, &quot;sa&quot;, &quot;&quot;)
+     *   .schemaMetaDataMode(SchemaMetaDataMode.STATIC)
+     *   .schemaMetaDataFile(Paths.get(&quot;target/assertj-db-metadata.bin&quot;))
+     *   .create();
+     * </code>
+     * </pre>
+     *
+     * @param file The file.
+     * @return the current instance of factory.
+     * @since 3.1.0
+     */
+    public T schemaMetaDataFile(Path file) {
+      if (file == null) {
+        throw new IllegalArgumentException("File of schema metadata cannot be null");
+      }
+      this.schemaMetaDataFile = file;
+      return (T) this;
+    }
+
     /**
      * Build the Connection Provider
      *
@@ -178,7 +298,15 @@ public abstract class AssertDbConnectionFactory {
      * @return Connection provider to use for Table, Request or Changes
      */
     public AssertDbConnection create() {
-      return new AssertDbConnection(createConnectionProvider());
+      ConnectionProvider connectionProvider = createConnectionProvider();
+      if (connectionProvider.getMetaData() instanceof ExpiringSchemaMetaData) {
+        ((ExpiringSchemaMetaData) connectionProvider.getMetaData()).setTimeToLive(schemaMetaDataTimeToLive);
+        ((ExpiringSchemaMetaData) connectionProvider.getMetaData()).setRefreshExecutor(schemaMetaDataRefreshExecutor);
+      }
+      if (schemaMetaDataFile != null && connectionProvider.getMetaData() instanceof CachedSchemaMetaData) {
+        ((CachedSchemaMetaData) connectionProvider.getMetaData()).setFile(new SchemaMetadataFile(schemaMetaDataFile));
+      }
+      return new AssertDbConnection(connectionProvider);
     }
   }
 }
@@ -14,29 +14,305 @@ package org.assertj.db.type;
 
 import java.util.Collection;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 /**
  * Implementation of SchemaMetadata that cache the metadata of the first request without any expiration.
+ * <p>
+ * At the first request, all the metadata of the schema (the tables, the columns of all the tables and their primary
+ * keys) are loaded together with only one connection. The metadata of a table which is not found in the schema (a view
+ * for example) are loaded at the first request on this table.<br>
+ * With a {@link SchemaMetadataFile}, the metadata of the schema are read in the file (if the schema has the same
+ * fingerprint) instead of being loaded from the database.
+ * </p>
+ * <p>
+ * The cache keeps a future for each key : when several threads request the same metadata, only the first one loads
+ * them (outside any lock) and the others wait for its result. The threads requesting other metadata are never blocked.
+ * <br>
+ * Each invalidation increments a generation : the metadata of the schema loaded during an invalidation are not put in
+ * the cache, so they can not replace the metadata loaded after the invalidation.
+ * </p>
  *
  * @author Julien Roy
  * @since 3.0.0
  */
 class CachedSchemaMetaData implements SchemaMetadata {
 
+  /**
+   * Key of the names of the tables in the cache.
+   */
+  static final String TABLES_KEY = "TABLES";
+
   private final FromConnectionSchemaMetadata metadata;
-  private final Map<String, Collection<String>> cache = new ConcurrentHashMap<>();
+  private final Map<String, CompletableFuture<Collection<String>>> cache = new ConcurrentHashMap<>();
+  /**
+   * The loading of the metadata of the schema ({@code null} if they are not loaded).
+   */
+  private final AtomicReference<CompletableFuture<Void>> schemaLoading = new AtomicReference<>();
+  /**
+   * Indicates if a refresh of the metadata is running.
+   */
+  private final AtomicBoolean refreshing = new AtomicBoolean();
+  /**
+   * The file which keeps the metadata between several JVM ({@code null} if there is no file).
+   */
+  private volatile SchemaMetadataFile file;
+  /**
+   * Indicates if the metadata can be read in the file (they are not after an invalidation).
+   */
+  private volatile boolean fileReadable = true;
+  /**
+   * The generation of the metadata : incremented by each invalidation and each refresh (modified with the lock on this
+   * instance).
+   */
+  private volatile long generation;
 
   public CachedSchemaMetaData(ConnectionProvider connectionProvider) {
     this.metadata = new FromConnectionSchemaMetadata(connectionProvider);
   }
 
+  /**
+   * Sets the file which keeps the metadata between several JVM.
+   *
+   * @param file The file.
+   * @since 3.1.0
+   */
+  void setFile(SchemaMetadataFile file) {
+    this.file = file;
+  }
+
+  /**
+   * Returns the key of the names of the columns of a table in the cache.
+   *
+   * @param tableName The name of the table.
+   * @return The key.
+   */
+  static String getColumnsKey(String tableName) {
+    return "COLUMNS#" + tableName;
+  }
+
+  /**
+   * Returns the key of the names of the primary keys of a table in the cache.
+   *
+   * @param tableName The name of the table.
+   * @return The key.
+   */
+  static String getPrimaryKeysKey(String tableName) {
+    return "PKS#" + tableName;
+  }
+
+  /**
+   * Returns the result of a future (the exception of the loading is thrown again).
+   *
+   * @param future The future.
+   * @param <T>    The type of the result.
+   * @return The result.
+   */
+  private static <T> T join(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Returns the generation of the metadata : it changes when the metadata are invalidated or refreshed.
+   *
+   * @return The generation.
+   * @since 3.1.0
+   */
+  long getGeneration() {
+    return generation;
+  }
+
+  /**
+   * Loads the metadata of the schema from the file or the database.
+   *
+   * @return The metadata of the schema.
+   */
+  private Map<String, Collection<String>> loadSchemaMetadata() {
+    SchemaMetadataFile schemaMetadataFile = file;
+    if (schemaMetadataFile == null) {
+      return metadata.getSchemaMetadata();
+    }
+    return metadata.getSchemaMetadata(schemaMetadataFile, fileReadable);
+  }
+
+  /**
+   * Puts the metadata of the schema in the cache if there was no invalidation since the start of their loading.
+   *
+   * @param schemaMetadata    The metadata of the schema.
+   * @param loadingGeneration The generation at the start of the loading.
+   * @param refresh           {@code true} if the metadata replace all the metadata in the cache.
+   * @return {@code true} if the metadata are put in the cache, {@code false} if they are discarded.
+   */
+  private synchronized boolean putSchemaMetadata(Map<String, Collection<String>> schemaMetadata,
+                                                 long loadingGeneration, boolean refresh) {
+    if (generation != loadingGeneration) {
+      return false;
+    }
+    if (refresh) {
+      cache.keySet().retainAll(schemaMetadata.keySet());
+      generation++;
+    }
+    for (Map.Entry<String, Collection<String>> entry : schemaMetadata.entrySet()) {
+      cache.put(entry.getKey(), CompletableFuture.completedFuture(entry.getValue()));
+    }
+    fileReadable = true;
+    schemaMetadataPut();
+    return true;
+  }
+
+  /**
+   * Called when the metadata of the schema (loaded or refreshed) are put in the cache : does nothing by default.
+   *
+   * @since 3.1.0
+   */
+  void schemaMetadataPut() {
+  }
+
+  /**
+   * Loads the metadata of the schema in the cache (only the first time).
+   * <p>
+   * If the metadata are being loaded by an other thread, waits the end of this loading. If the metadata are invalidated
+   * during the loading, they are discarded : the metadata are loaded again at the next request.
+   * </p>
+   */
+  private void loadSchema() {
+    while (true) {
+      CompletableFuture<Void> loading = schemaLoading.get();
+      if (loading != null) {
+        join(loading);
+        return;
+      }
+      long loadingGeneration = generation;
+      CompletableFuture<Void> newLoading = new CompletableFuture<>();
+      if (schemaLoading.compareAndSet(null, newLoading)) {
+        try {
+          if (!putSchemaMetadata(loadSchemaMetadata(), loadingGeneration, false)) {
+            schemaLoading.compareAndSet(newLoading, null);
+          }
+          newLoading.complete(null);
+          return;
+        } catch (RuntimeException | Error e) {
+          schemaLoading.compareAndSet(newLoading, null);
+          newLoading.completeExceptionally(e);
+          throw e;
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the metadata of a key in the cache or loads them.
+   * <p>
+   * If the metadata are being loaded by an other thread, waits the end of this loading. If the loading fails, the key
+   * is removed from the cache to load it again at the next request.
+   * </p>
+   *
+   * @param key    The key.
+   * @param loader The loader of the metadata.
+   * @return The metadata.
+   */
+  private Collection<String> get(String key, Supplier<Collection<String>> loader) {
+    CompletableFuture<Collection<String>> future = cache.get(key);
+    if (future == null) {
+      CompletableFuture<Collection<String>> newFuture = new CompletableFuture<>();
+      future = cache.putIfAbsent(key, newFuture);
+      if (future == null) {
+        try {
+          Collection<String> value = loader.get();
+          newFuture.complete(value);
+          return value;
+        } catch (RuntimeException | Error e) {
+          cache.remove(key, newFuture);
+          newFuture.completeExceptionally(e);
+          throw e;
+        }
+      }
+    }
+    return join(future);
+  }
+
+  /**
+   * Refreshes the metadata of the schema in background.
+   * <p>
+   * The current metadata are still returned during the refresh. Nothing is done if a refresh is already running or if
+   * the metadata of the schema are not loaded. If the refresh fails or if the metadata are invalidated during the
+   * refresh, the metadata of the refresh are discarded.
+   * </p>
+   *
+   * @param executor The executor which runs the refresh.
+   * @since 3.1.0
+   */
+  void refresh(Executor executor) {
+    if (schemaLoading.get() == null || !refreshing.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      executor.execute(() -> {
+        try {
+          long loadingGeneration = generation;
+          putSchemaMetadata(loadSchemaMetadata(), loadingGeneration, true);
+        } catch (RuntimeException e) {
+          // The current metadata are kept until the next refresh
+        } finally {
+          refreshing.set(false);
+        }
+      });
+    } catch (RuntimeException e) {
+      refreshing.set(false);
+      throw e;
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The metadata of the tables with the same name ignoring the case are invalidated.
+   * </p>
+   */
+  @Override
+  public synchronized void invalidate(String tableName) {
+    generation++;
+    fileReadable = false;
+    cache.remove(TABLES_KEY);
+    cache.keySet().removeIf(key -> key.equalsIgnoreCase(getColumnsKey(tableName))
+                                   || key.equalsIgnoreCase(getPrimaryKeysKey(tableName)));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public synchronized void invalidateAll() {
+    generation++;
+    fileReadable = false;
+    schemaLoading.set(null);
+    cache.clear();
+  }
+
   /**
    * {@inheritDoc}
    */
   @Override
   public Collection<String> getTablesName() {
-    return cache.computeIfAbsent("TABLES", key -> this.metadata.getTablesName());
+    loadSchema();
+    return get(TABLES_KEY, this.metadata::getTablesName);
   }
 
   /**
@@ -44,7 +320,8 @@ class CachedSchemaMetaData implements SchemaMetadata {
    */
   @Override
   public Collection<String> getColumnsName(String tableName) {
-    return cache.computeIfAbsent("COLUMNS#" + tableName, key -> this.metadata.getColumnsName(tableName));
+    loadSchema();
+    return get(getColumnsKey(tableName), () -> this.metadata.getColumnsName(tableName));
   }
 
   /**
@@ -52,6 +329,7 @@ class CachedSchemaMetaData implements SchemaMetadata {
    */
   @Override
   public Collection<String> getPrimaryKeys(String tableName) {
-    return cache.computeIfAbsent("PKS#" + tableName, key -> this.metadata.getPrimaryKeys(tableName));
+    loadSchema();
+    return get(getPrimaryKeysKey(tableName), () -> this.metadata.getPrimaryKeys(tableName));
   }
 }
@@ -18,6 +18,7 @@ import org.assertj.db.type.lettercase.LetterCase;
 import org.assertj.db.type.lettercase.WithColumnLetterCase;
 import org.assertj.db.type.lettercase.WithPrimaryKeyLetterCase;
 import org.assertj.db.type.lettercase.WithTableLetterCase;
+import org.assertj.db.util.NameIndex;
 
 /**
  * Change in the database.
@@ -248,6 +249,19 @@ public class Change implements DbElement, WithTableLetterCase, WithColumnLetterC
     return columnsNameList;
   }
 
+  /**
+   * Returns the index of the column names (shared with the rows).
+   *
+   * @return The index of the column names.
+   * @since 3.1.0
+   */
+  public NameIndex getColumnsNameIndex() {
+    if (rowAtStartPoint != null) {
+      return rowAtStartPoint.getColumnsNameIndex();
+    }
+    return rowAtEndPoint.getColumnsNameIndex();
+  }
+
   /**
    * Returns the type of the change.
    *
@@ -274,4 +288,75 @@ public class Change implements DbElement, WithTableLetterCase, WithColumnLetterC
   public Row getRowAtEndPoint() {
     return rowAtEndPoint;
   }
+
+  /**
+   * Returns a new key to sort the change (with the sort key of the row at start point, or of the row at end point if
+   * there is no row at start point).
+   *
+   * @return The key to sort the change.
+   * @since 3.1.0
+   */
+  SortKey getSortKey() {
+    Row row = rowAtStartPoint == null ? rowAtEndPoint : rowAtStartPoint;
+    return new SortKey(this, row.getSortKey());
+  }
+
+  /**
+   * Key to sort the changes : the type of change, the name of the data then the {@link Row.SortKey sort key} of the
+   * row.
+   * <p>
+   * The keys are only kept during the sort of the changes, so the comparisons do not create any object. The order is
+   * the same as with {@link org.assertj.db.util.ChangeComparator}.
+   * </p>
+   *
+   * @author Régis Pouiller
+   * @since 3.1.0
+   */
+  static final class SortKey implements Comparable<SortKey> {
+
+    /**
+     * The change.
+     */
+    private final Change change;
+    /**
+     * The key to sort the row of the change.
+     */
+    private final Row.SortKey rowSortKey;
+
+    /**
+     * Constructor.
+     *
+     * @param change     The change.
+     * @param rowSortKey The key to sort the row of the change.
+     */
+    private SortKey(Change change, Row.SortKey rowSortKey) {
+      this.change = change;
+      this.rowSortKey = rowSortKey;
+    }
+
+    /**
+     * Returns the change.
+     *
+     * @return The change.
+     */
+    Change getChange() {
+      return change;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int compareTo(SortKey sortKey) {
+      int compare = change.changeType.compareTo(sortKey.change.changeType);
+      if (compare != 0) {
+        return compare;
+      }
+      compare = change.dataName.compareTo(sortKey.change.dataName);
+      if (compare != 0) {
+        return compare;
+      }
+      return rowSortKey.compareTo(sortKey.rowSortKey);
+    }
+  }
 }
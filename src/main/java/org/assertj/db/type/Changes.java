@@ -16,19 +16,28 @@ import static org.assertj.db.type.Change.createCreationChange;
 import static org.assertj.db.type.Change.createDeletionChange;
 import static org.assertj.db.type.Change.createModificationChange;
 
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
 import org.assertj.core.api.AssertProvider;
 import org.assertj.db.api.Assertions;
 import org.assertj.db.api.ChangesAssert;
 import org.assertj.db.exception.AssertJDBException;
-import org.assertj.db.util.ChangeComparator;
+import org.assertj.db.util.ValueEquality;
+import org.assertj.db.util.Values;
 
 /**
  * Changes in the database.
@@ -84,6 +93,20 @@ import org.assertj.db.util.ChangeComparator;
  * </pre>
  *
  * </li>
+ * <li>
+ * <p>
+ * This {@link Changes} detect all changes in database and load the tables concurrently with an executor.
+ * </p>
+ *
+ * <pre>
+ * <code class='java'>
+ * AssertDbConnection connection = AssertDbConnectionFactory.of(dataSource).create();
+ * ExecutorService executor = Executors.newFixedThreadPool(8);
+ * Changes changes = connection.changes().executor(executor).build();
+ * </code>
+ * </pre>
+ *
+ * </li>
  * </ul>
  * @author Régis Pouiller
  * @author Julien Roy
@@ -115,9 +138,28 @@ public class Changes extends AbstractDbElement<Changes> implements AssertProvide
    */
   private Request requestAtEndPoint;
   /**
-   * The list of the changes.
+   * The sorted list of the changes (not modifiable, {@code null} if the changes are not computed yet).
    */
   private List<Change> changesList;
+  /**
+   * The index of the sorted list of the changes (created with the list).
+   *
+   * @since 3.1.0
+   */
+  private ChangesIndex changesIndex;
+  /**
+   * The executor used to load the tables concurrently ({@code null} to load the tables one after another).
+   *
+   * @since 3.1.0
+   */
+  private Executor executor;
+  /**
+   * The isolation level of the transaction used to load the data at start point and at end point ({@code null} to
+   * load each data with its own connection).
+   *
+   * @since 3.1.0
+   */
+  private Integer snapshotIsolation;
 
   /**
    * Constructor.
@@ -173,15 +215,26 @@ public class Changes extends AbstractDbElement<Changes> implements AssertProvide
   /**
    * Duplicate the {@link Table} in parameter and returns it.
    *
+   * <p>
+   * If the {@link Table} has the same {@link ConnectionProvider} with the {@link SchemaMetaDataMode#STATIC} mode and its
+   * metadata are not invalidated, the name and the columns already resolved from the metadata are reused (the metadata
+   * are not requested again). Else the metadata are resolved again, so the modifications of the schema are seen.
+   * </p>
+   *
    * @param table The {@link Table} to duplicate
    * @return The Duplication
    */
   private Table getDuplicatedTable(Table table) {
+    if (table.getConnectionProvider() != null && table.getConnectionProvider() == this.getConnectionProvider()
+        && table.hasReusableMetaData()) {
+      return table.duplicate();
+    }
     return new Table.Builder(this.getConnectionProvider(), table.getName())
       .delimiters(table.getStartDelimiter(), table.getEndDelimiter())
       .columnsToCheck(table.getColumnsToCheck())
       .columnsToExclude(table.getColumnsToExclude())
       .columnsToOrder(table.getColumnsToOrder())
+      .where(table.getWhereCondition(), table.getWhereParameters())
       .build();
   }
 
@@ -198,6 +251,7 @@ public class Changes extends AbstractDbElement<Changes> implements AssertProvide
     tablesAtStartPointList = null;
     tablesAtEndPointList = null;
     changesList = null;
+    changesIndex = null;
     for (Table table : tables) {
       if (table == null) {
         throw new NullPointerException("The tables must be not null");
@@ -241,6 +295,7 @@ public class Changes extends AbstractDbElement<Changes> implements AssertProvide
     requestAtStartPoint = null;
     requestAtEndPoint = null;
     changesList = null;
+    changesIndex = null;
   }
 
   /**
@@ -283,12 +338,194 @@ public class Changes extends AbstractDbElement<Changes> implements AssertProvide
     return requestAtEndPoint;
   }
 
+  /**
+   * Duplicates the tables and loads their rows.
+   * <p>
+   * If there is a {@link #snapshotIsolation}, the tables are loaded in the same transaction. Else if there is an
+   * {@link #executor}, the tables are loaded concurrently by this executor (each table with its own connection). The
+   * tables in the returned list are in the same order than {@link #tablesList}.
+   * </p>
+   *
+   * @return The list of the loaded tables.
+   * @throws AssertJDBException If triggered, this exception wrap a possible exception during the loading.
+   */
+  private List<Table> loadDuplicatedTables() {
+    List<Table> tables = new LinkedList<>();
+    if (snapshotIsolation != null) {
+      return loadInSnapshotTransaction(connection -> {
+        for (Table table : tablesList) {
+          Table t = getDuplicatedTable(table);
+          t.load(connection);
+          tables.add(t);
+        }
+        return tables;
+      });
+    }
+    if (executor == null) {
+      for (Table table : tablesList) {
+        Table t = getDuplicatedTable(table);
+        t.getRowsList();
+        tables.add(t);
+      }
+      return tables;
+    }
+
+    List<CompletableFuture<Table>> futuresList = new ArrayList<>(tablesList.size());
+    for (Table table : tablesList) {
+      futuresList.add(CompletableFuture.supplyAsync(() -> {
+        Table t = getDuplicatedTable(table);
+        t.getRowsList();
+        return t;
+      }, executor));
+    }
+    try {
+      for (CompletableFuture<Table> future : futuresList) {
+        tables.add(future.join());
+      }
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new AssertJDBException((Exception) cause);
+    }
+    return tables;
+  }
+
+  /**
+   * Duplicates the request and loads its rows.
+   *
+   * @return The loaded request.
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the loading.
+   */
+  private Request loadDuplicatedRequest() {
+    Request duplicatedRequest = getDuplicatedRequest(request);
+    if (snapshotIsolation != null) {
+      return loadInSnapshotTransaction(connection -> {
+        duplicatedRequest.load(connection);
+        return duplicatedRequest;
+      });
+    }
+    duplicatedRequest.getRowsList();
+    return duplicatedRequest;
+  }
+
+  /**
+   * Loads data in a read-only transaction with the {@link #snapshotIsolation} isolation level.
+   * <p>
+   * The same connection is used for all the data, then the transaction is ended and the state of the connection
+   * (auto-commit, read-only and isolation level) is restored before closing it.<br>
+   * If the loading fails, the exceptions of the rollback and of the restoration are added as suppressed exceptions to
+   * the exception of the loading. If only the restoration fails, the loaded data are kept and the connection is
+   * aborted (so it is not used again with the state of the transaction).
+   * </p>
+   *
+   * @param <T>     The type of the loaded data.
+   * @param loading The loading of the data with the connection.
+   * @return The loaded data.
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the loading.
+   */
+  private <T> T loadInSnapshotTransaction(SnapshotLoading<T> loading) {
+    try (Connection connection = getConnection()) {
+      boolean autoCommit = connection.getAutoCommit();
+      boolean readOnly = connection.isReadOnly();
+      int transactionIsolation = connection.getTransactionIsolation();
+      T loaded;
+      try {
+        connection.setReadOnly(true);
+        connection.setTransactionIsolation(snapshotIsolation);
+        connection.setAutoCommit(false);
+        loaded = loading.load(connection);
+        connection.commit();
+      } catch (SQLException | RuntimeException e) {
+        try {
+          connection.rollback();
+        } catch (SQLException | RuntimeException rollbackException) {
+          e.addSuppressed(rollbackException);
+        }
+        restoreState(connection, autoCommit, readOnly, transactionIsolation, e);
+        throw e;
+      }
+      Exception restoreException = restoreState(connection, autoCommit, readOnly, transactionIsolation, null);
+      if (restoreException != null) {
+        try {
+          connection.abort(Runnable::run);
+        } catch (SQLException | RuntimeException abortException) {
+          // The connection can not be discarded : the snapshot is lost rather than reusing the connection
+          restoreException.addSuppressed(abortException);
+          throw new AssertJDBException(restoreException);
+        }
+      }
+      return loaded;
+    } catch (SQLException e) {
+      throw new AssertJDBException(e);
+    }
+  }
+
+  /**
+   * Restores the state of a connection (auto-commit, read-only and isolation level) : each step is done even if a
+   * previous one fails.
+   *
+   * @param connection           The connection.
+   * @param autoCommit           The auto-commit to restore.
+   * @param readOnly             The read-only to restore.
+   * @param transactionIsolation The isolation level to restore.
+   * @param failure              The exception to which the exceptions of the restoration are added as suppressed
+   *                             exceptions ({@code null} if there is no exception yet).
+   * @return The exception in parameter, or the first exception of the restoration if the parameter is {@code null}
+   * ({@code null} if there is no exception).
+   */
+  private static Exception restoreState(Connection connection, boolean autoCommit, boolean readOnly,
+                                        int transactionIsolation, Exception failure) {
+    Exception exception = failure;
+    try {
+      connection.setAutoCommit(autoCommit);
+    } catch (SQLException | RuntimeException e) {
+      exception = addSuppressed(exception, e);
+    }
+    try {
+      connection.setReadOnly(readOnly);
+    } catch (SQLException | RuntimeException e) {
+      exception = addSuppressed(exception, e);
+    }
+    try {
+      connection.setTransactionIsolation(transactionIsolation);
+    } catch (SQLException | RuntimeException e) {
+      exception = addSuppressed(exception, e);
+    }
+    return exception;
+  }
+
+  /**
+   * Adds an exception as suppressed exception to another one.
+   *
+   * @param exception The exception ({@code null} if there is no exception yet).
+   * @param other     The exception to add.
+   * @return The exception in parameter, or the other exception if the parameter is {@code null}.
+   */
+  private static Exception addSuppressed(Exception exception, Exception other) {
+    if (exception == null) {
+      return other;
+    }
+    exception.addSuppressed(other);
+    return exception;
+  }
+
   /**
    * Sets the start point for comparison.
+   * <p>
+   * With the {@link SchemaMetaDataMode#EXPIRING} mode, the schema metadata in cache are invalidated before.
+   * </p>
    *
    * @return {@code this} actual instance.
    */
   public Changes setStartPointNow() {
+    if (getConnectionProvider() != null && getMetaData() instanceof ExpiringSchemaMetaData) {
+      getMetaData().invalidateAll();
+    }
     if (request == null && tablesList == null) {
       tablesList = new LinkedList<>();
       for (String tableName : getMetaData().getTablesName()) {
@@ -298,20 +535,15 @@ public class Changes extends AbstractDbElement<Changes> implements AssertProvide
 
     if (request != null) {
       tablesAtStartPointList = null;
-      requestAtStartPoint = getDuplicatedRequest(request);
-      requestAtStartPoint.getRowsList();
+      requestAtStartPoint = loadDuplicatedRequest();
     } else {
       requestAtStartPoint = null;
-      tablesAtStartPointList = new LinkedList<>();
-      for (Table table : tablesList) {
-        Table t = getDuplicatedTable(table);
-        t.getRowsList();
-        tablesAtStartPointList.add(t);
-      }
+      tablesAtStartPointList = loadDuplicatedTables();
     }
     tablesAtEndPointList = null;
     requestAtEndPoint = null;
     changesList = null;
+    changesIndex = null;
 
     return myself;
   }
@@ -328,17 +560,12 @@ public class Changes extends AbstractDbElement<Changes> implements AssertProvide
     }
 
     if (requestAtStartPoint != null) {
-      requestAtEndPoint = getDuplicatedRequest(request);
-      requestAtEndPoint.getRowsList();
+      requestAtEndPoint = loadDuplicatedRequest();
     } else {
-      tablesAtEndPointList = new LinkedList<>();
-      for (Table table : tablesList) {
-        Table t = getDuplicatedTable(table);
-        t.getRowsList();
-        tablesAtEndPointList.add(t);
-      }
+      tablesAtEndPointList = loadDuplicatedTables();
     }
     changesList = null;
+    changesIndex = null;
 
     return myself;
   }
@@ -355,6 +582,7 @@ public class Changes extends AbstractDbElement<Changes> implements AssertProvide
                                              AbstractDbData<?> dataAtEndPoint) {
 
     List<Change> changesListWithPks = new ArrayList<>();
+    ValueEquality[] equalities = getColumnsEquality(getColumnsValueType(dataAtStartPoint, dataAtEndPoint));
 
     // List the created rows : the row is not present at the start point
     for (Row row : dataAtEndPoint.getRowsList()) {
@@ -374,7 +602,7 @@ public class Changes extends AbstractDbElement<Changes> implements AssertProvide
         changesListWithPks.add(change);
       } else {
         // List the modified rows
-        if (!row.hasValues(rowAtEndPoint)) {
+        if (!row.hasValues(rowAtEndPoint, equalities)) {
           // If at least one value in the rows is different, add the change
           Change change = createModificationChange(dataAtStartPoint.getDataType(), dataName, row, rowAtEndPoint,
             getTableLetterCase(), getColumnLetterCase(), getPrimaryKeyLetterCase());
@@ -386,6 +614,222 @@ public class Changes extends AbstractDbElement<Changes> implements AssertProvide
     return changesListWithPks;
   }
 
+  /**
+   * Returns the type of the values of each column : the type which is common to all the values which are not
+   * {@code null} ({@code null} if all the values are {@code null}).
+   * <p>
+   * The types of the columns found when the rows are loaded are used if they are known for the two data, otherwise the
+   * values of the rows are browsed.
+   * </p>
+   *
+   * @param dataAtStartPoint The data at start point.
+   * @param dataAtEndPoint   The data at end point.
+   * @return The type of each column.
+   */
+  private static ValueType[] getColumnsValueType(AbstractDbData<?> dataAtStartPoint, AbstractDbData<?> dataAtEndPoint) {
+    List<ColumnType> typesAtStartPointList = dataAtStartPoint.getColumnsTypeList();
+    List<ColumnType> typesAtEndPointList = dataAtEndPoint.getColumnsTypeList();
+    if (typesAtStartPointList == null || typesAtEndPointList == null
+        || typesAtStartPointList.size() != typesAtEndPointList.size()) {
+      return getColumnsValueType(dataAtStartPoint.getRowsList(), dataAtEndPoint.getRowsList());
+    }
+    ValueType[] valueTypes = new ValueType[typesAtStartPointList.size()];
+    for (int index = 0; index < valueTypes.length; index++) {
+      valueTypes[index] = Value.getCommonType(typesAtStartPointList.get(index).getValueType(),
+                                              typesAtEndPointList.get(index).getValueType());
+    }
+    return valueTypes;
+  }
+
+  /**
+   * Returns the type of the values of each column : the type which is common to all the values which are not
+   * {@code null} ({@code null} if all the values are {@code null}).
+   *
+   * @param rowsLists The lists of rows.
+   * @return The type of each column.
+   */
+  @SafeVarargs
+  private static ValueType[] getColumnsValueType(List<Row>... rowsLists) {
+    ValueType[] valueTypes = null;
+    for (List<Row> rowsList : rowsLists) {
+      for (Row row : rowsList) {
+        int size = row.getValuesList().size();
+        if (valueTypes == null) {
+          valueTypes = new ValueType[size];
+        }
+        for (int index = 0; index < valueTypes.length && index < size; index++) {
+          ValueType valueType = row.getValueType(index);
+          if (valueType != ValueType.NOT_IDENTIFIED || row.getObject(index) != null) {
+            valueTypes[index] = Value.getCommonType(valueTypes[index], valueType);
+          }
+        }
+      }
+    }
+    if (valueTypes == null) {
+      return new ValueType[0];
+    }
+    return valueTypes;
+  }
+
+  /**
+   * Returns the indicators of the columns which can be used in the hash code of the rows : the hash code is consistent
+   * with the comparison only if all the values of the column are of the same type.
+   *
+   * @param valueTypes The type of each column.
+   * @return The indicators of the columns to use in the hash code.
+   */
+  private static boolean[] getColumnsForHashCode(ValueType[] valueTypes) {
+    boolean[] columnsForHashCode = new boolean[valueTypes.length];
+    for (int index = 0; index < valueTypes.length; index++) {
+      columnsForHashCode[index] = valueTypes[index] != ValueType.NOT_IDENTIFIED;
+    }
+    return columnsForHashCode;
+  }
+
+  /**
+   * Returns the equality of each column (resolved once from the type of the column to compare the rows).
+   *
+   * @param valueTypes The type of each column.
+   * @return The equality of each column.
+   */
+  private static ValueEquality[] getColumnsEquality(ValueType[] valueTypes) {
+    ValueEquality[] equalities = new ValueEquality[valueTypes.length];
+    for (int index = 0; index < valueTypes.length; index++) {
+      ValueType valueType = valueTypes[index];
+      equalities[index] = ValueEquality.of(valueType == null ? ValueType.NOT_IDENTIFIED : valueType);
+    }
+    return equalities;
+  }
+
+  /**
+   * Returns the hash code of the values of a row.
+   *
+   * @param row                    The row.
+   * @param columnsForHashCode     The indicators of the columns to use in the hash code.
+   * @param columnsWithFloat       The indicators of the columns with a {@code Float} value (set by this method).
+   * @param columnsWithOtherNumber The indicators of the columns with a number which is not a {@code Float} (set by this
+   *                               method).
+   * @return The hash code.
+   */
+  private static int getHashCode(Row row, boolean[] columnsForHashCode, boolean[] columnsWithFloat,
+                                 boolean[] columnsWithOtherNumber) {
+    int size = row.getValuesList().size();
+    int hashCode = 1;
+    for (int index = 0; index < columnsForHashCode.length && index < size; index++) {
+      if (columnsForHashCode[index]) {
+        Object object = row.getObject(index);
+        if (object instanceof Float) {
+          columnsWithFloat[index] = true;
+        } else if (object instanceof Number) {
+          columnsWithOtherNumber[index] = true;
+        }
+        hashCode = 31 * hashCode + Values.getHashCode(object, row.getValueType(index));
+      }
+    }
+    return hashCode;
+  }
+
+  /**
+   * Returns the hash codes of the values of the rows.
+   *
+   * @param rowsList               The rows.
+   * @param columnsForHashCode     The indicators of the columns to use in the hash code.
+   * @param columnsWithFloat       The indicators of the columns with a {@code Float} value (set by this method).
+   * @param columnsWithOtherNumber The indicators of the columns with a number which is not a {@code Float} (set by this
+   *                               method).
+   * @return The hash code of each row.
+   */
+  private static int[] getHashCodes(List<Row> rowsList, boolean[] columnsForHashCode, boolean[] columnsWithFloat,
+                                    boolean[] columnsWithOtherNumber) {
+    int[] hashCodes = new int[rowsList.size()];
+    int index = 0;
+    for (Row row : rowsList) {
+      hashCodes[index++] = getHashCode(row, columnsForHashCode, columnsWithFloat, columnsWithOtherNumber);
+    }
+    return hashCodes;
+  }
+
+  /**
+   * Returns the columns to use in the hash code without the columns which mix {@code Float} values with other numbers
+   * (their hash code is not consistent with their equality : see {@link Values#getHashCode(Value)}).
+   *
+   * @param columnsForHashCode     The indicators of the columns to use in the hash code.
+   * @param columnsWithFloat       The indicators of the columns with a {@code Float} value.
+   * @param columnsWithOtherNumber The indicators of the columns with a number which is not a {@code Float}.
+   * @return The indicators of the columns to use in the hash code ({@code columnsForHashCode} if no column is removed).
+   */
+  private static boolean[] getColumnsWithoutMixedFloat(boolean[] columnsForHashCode, boolean[] columnsWithFloat,
+                                                       boolean[] columnsWithOtherNumber) {
+    boolean[] columns = columnsForHashCode;
+    for (int index = 0; index < columnsForHashCode.length; index++) {
+      if (columnsWithFloat[index] && columnsWithOtherNumber[index]) {
+        if (columns == columnsForHashCode) {
+          columns = columnsForHashCode.clone();
+        }
+        columns[index] = false;
+      }
+    }
+    return columns;
+  }
+
+  /**
+   * Returns the rows which have no equal row in the other rows.
+   * <p>
+   * Each row is matched with the first equal row in the other rows which is not already matched (so if there is two
+   * times the same row in {@code rowsList} and once in {@code otherRowsList}, one of them is returned). The other rows
+   * are kept in a multiset indexed by the hash code of the values, so only the rows with the same hash code are
+   * compared with the equality of each column.<br>
+   * The columns which mix {@code Float} values with other numbers are not used in the hash code (the hash codes are
+   * computed again without them).
+   * </p>
+   *
+   * @param rowsList           The rows.
+   * @param otherRowsList      The other rows.
+   * @param columnsForHashCode The indicators of the columns to use in the hash code.
+   * @param equalities         The equality of each column.
+   * @return The rows which have no equal row.
+   */
+  private static List<Row> getRowsWithoutEqualRow(List<Row> rowsList, List<Row> otherRowsList,
+                                                  boolean[] columnsForHashCode, ValueEquality[] equalities) {
+
+    boolean[] columnsWithFloat = new boolean[columnsForHashCode.length];
+    boolean[] columnsWithOtherNumber = new boolean[columnsForHashCode.length];
+    int[] otherHashCodes = getHashCodes(otherRowsList, columnsForHashCode, columnsWithFloat, columnsWithOtherNumber);
+    int[] hashCodes = getHashCodes(rowsList, columnsForHashCode, columnsWithFloat, columnsWithOtherNumber);
+    boolean[] columns = getColumnsWithoutMixedFloat(columnsForHashCode, columnsWithFloat, columnsWithOtherNumber);
+    if (columns != columnsForHashCode) {
+      otherHashCodes = getHashCodes(otherRowsList, columns, columnsWithFloat, columnsWithOtherNumber);
+      hashCodes = getHashCodes(rowsList, columns, columnsWithFloat, columnsWithOtherNumber);
+    }
+
+    Map<Integer, LinkedList<Row>> otherRowsByHashCode = new HashMap<>(otherRowsList.size() * 4 / 3 + 1);
+    int otherIndex = 0;
+    for (Row otherRow : otherRowsList) {
+      otherRowsByHashCode.computeIfAbsent(otherHashCodes[otherIndex++], key -> new LinkedList<>()).add(otherRow);
+    }
+
+    List<Row> rowsWithoutEqualRowList = new ArrayList<>();
+    int index = 0;
+    for (Row row : rowsList) {
+      boolean found = false;
+      LinkedList<Row> otherRows = otherRowsByHashCode.get(hashCodes[index++]);
+      if (otherRows != null) {
+        Iterator<Row> iterator = otherRows.iterator();
+        while (iterator.hasNext()) {
+          if (row.hasValues(iterator.next(), equalities)) {
+            iterator.remove();
+            found = true;
+            break;
+          }
+        }
+      }
+      if (!found) {
+        rowsWithoutEqualRowList.add(row);
+      }
+    }
+    return rowsWithoutEqualRowList;
+  }
+
   /**
    * Returns the list of changes for the data when there is no primary key.
    *
@@ -399,45 +843,25 @@ public class Changes extends AbstractDbElement<Changes> implements AssertProvide
 
     List<Change> changesListWithoutPks = new ArrayList<>();
 
+    List<Row> rowsAtStartPointList = dataAtStartPoint.getRowsList();
+    List<Row> rowsAtEndPointList = dataAtEndPoint.getRowsList();
+    ValueType[] valueTypes = getColumnsValueType(dataAtStartPoint, dataAtEndPoint);
+    boolean[] columnsForHashCode = getColumnsForHashCode(valueTypes);
+    ValueEquality[] equalities = getColumnsEquality(valueTypes);
+
     // List the created rows : the row is not present at the start point
-    List<Row> rowsAtStartPointList = new ArrayList<>(dataAtStartPoint.getRowsList());
-    for (Row rowAtEndPoint : dataAtEndPoint.getRowsList()) {
-      int index = -1;
-      int index1 = 0;
-      for (Row rowAtStartPoint : rowsAtStartPointList) {
-        if (rowAtEndPoint.hasValues(rowAtStartPoint)) {
-          index = index1;
-          break;
-        }
-        index1++;
-      }
-      if (index == -1) {
-        Change change = createCreationChange(dataAtStartPoint.getDataType(), dataName, rowAtEndPoint,
-          getTableLetterCase(), getColumnLetterCase(), getPrimaryKeyLetterCase());
-        changesListWithoutPks.add(change);
-      } else {
-        rowsAtStartPointList.remove(index);
-      }
+    for (Row rowAtEndPoint : getRowsWithoutEqualRow(rowsAtEndPointList, rowsAtStartPointList,
+                                                    columnsForHashCode, equalities)) {
+      Change change = createCreationChange(dataAtStartPoint.getDataType(), dataName, rowAtEndPoint,
+        getTableLetterCase(), getColumnLetterCase(), getPrimaryKeyLetterCase());
+      changesListWithoutPks.add(change);
     }
     // List the deleted rows : the row is not present at the end point
-    List<Row> rowsAtEndPointList = new ArrayList<>(dataAtEndPoint.getRowsList());
-    for (Row rowAtStartPoint : dataAtStartPoint.getRowsList()) {
-      int index = -1;
-      int index1 = 0;
-      for (Row rowAtEndPoint : rowsAtEndPointList) {
-        if (rowAtStartPoint.hasValues(rowAtEndPoint)) {
-          index = index1;
-          break;
-        }
-        index1++;
-      }
-      if (index == -1) {
-        Change change = createDeletionChange(dataAtStartPoint.getDataType(), dataName, rowAtStartPoint,
-          getTableLetterCase(), getColumnLetterCase(), getPrimaryKeyLetterCase());
-        changesListWithoutPks.add(change);
-      } else {
-        rowsAtEndPointList.remove(index);
-      }
+    for (Row rowAtStartPoint : getRowsWithoutEqualRow(rowsAtStartPointList, rowsAtEndPointList,
+                                                      columnsForHashCode, equalities)) {
+      Change change = createDeletionChange(dataAtStartPoint.getDataType(), dataName, rowAtStartPoint,
+        getTableLetterCase(), getColumnLetterCase(), getPrimaryKeyLetterCase());
+      changesListWithoutPks.add(change);
     }
 
     return changesListWithoutPks;
@@ -464,7 +888,7 @@ public class Changes extends AbstractDbElement<Changes> implements AssertProvide
   /**
    * Returns the list of the changes.
    *
-   * @return The list of the changes.
+   * @return The sorted list of the changes (not modifiable).
    * @throws AssertJDBException If the changes are on all the tables and if the number of tables change between the
    *                            start point and the end point. It is normally impossible.
    */
@@ -475,23 +899,75 @@ public class Changes extends AbstractDbElement<Changes> implements AssertProvide
       }
 
       if (requestAtEndPoint != null) {
-        changesList = getChangesList(requestAtStartPoint.getRequest(), requestAtStartPoint, requestAtEndPoint);
+        setChangesList(getChangesList(requestAtStartPoint.getRequest(), requestAtStartPoint, requestAtEndPoint));
       } else {
-        changesList = new ArrayList<>();
+        List<Change> computedChangesList = new ArrayList<>();
         Iterator<Table> iteratorAtStartPoint = tablesAtStartPointList.iterator();
         Iterator<Table> iteratorAtEndPoint = tablesAtEndPointList.iterator();
         while (iteratorAtStartPoint.hasNext()) {
           Table tableAtStartPoint = iteratorAtStartPoint.next();
           Table tableAtEndPoint = iteratorAtEndPoint.next();
-          changesList.addAll(getChangesList(tableAtStartPoint.getName(), tableAtStartPoint, tableAtEndPoint));
+          computedChangesList.addAll(getChangesList(tableAtStartPoint.getName(), tableAtStartPoint, tableAtEndPoint));
         }
+        setChangesList(computedChangesList);
       }
     }
-
-    changesList.sort(ChangeComparator.INSTANCE);
     return changesList;
   }
 
+  /**
+   * Sets the list of the changes : the list is sorted, can not be modified after and its index is created.
+   * <p>
+   * The changes are sorted with their {@link Change.SortKey sort keys}, which are computed once before the sort and
+   * released after it.
+   * </p>
+   *
+   * @param changesList The list of the changes.
+   */
+  private void setChangesList(List<Change> changesList) {
+    Change.SortKey[] sortKeys = new Change.SortKey[changesList.size()];
+    int index = 0;
+    for (Change change : changesList) {
+      sortKeys[index++] = change.getSortKey();
+    }
+    if (sortKeys.length < AbstractDbData.PARALLEL_SORT_THRESHOLD) {
+      Arrays.sort(sortKeys);
+    } else {
+      Arrays.parallelSort(sortKeys);
+    }
+    List<Change> sortedChangesList = new ArrayList<>(sortKeys.length);
+    for (Change.SortKey sortKey : sortKeys) {
+      sortedChangesList.add(sortKey.getChange());
+    }
+    this.changesList = Collections.unmodifiableList(sortedChangesList);
+    this.changesIndex = new ChangesIndex(this.changesList);
+  }
+
+  /**
+   * Returns the sorted list of the changes of a type of change and of a table.
+   * <p>
+   * The list is got from an index created once (when the list of the changes is sorted), so unlike
+   * {@link #getChangesOfType(ChangeType)} and {@link #getChangesOfTable(String)} the changes are not filtered and
+   * sorted again.
+   * </p>
+   *
+   * @param changeType The type of change ({@code null} if there is no filter on the type of change).
+   * @param tableName  The name of the table ({@code null} if there is no filter on the table).
+   * @return The list of the changes (not modifiable).
+   * @throws AssertJDBException If the end point is not set.
+   * @since 3.1.0
+   */
+  public List<Change> getChangesList(ChangeType changeType, String tableName) {
+    getChangesList();
+    if (tableName == null) {
+      return changesIndex.getChangesList(changeType, null, null);
+    }
+    if (tablesList == null) {
+      return Collections.emptyList();
+    }
+    return changesIndex.getChangesList(changeType, tableName, getTableLetterCase());
+  }
+
   /**
    * Returns {@code Changes} only on the table name in parameter.
    *
@@ -503,14 +979,7 @@ public class Changes extends AbstractDbElement<Changes> implements AssertProvide
       throw new NullPointerException("tableName must be not null");
     }
     Changes changes = createChangesFromThis();
-    List<Change> changesListOfTable = getChangesList();
-    if (tablesList != null) {
-      for (Change change : changesListOfTable) {
-        if (getTableLetterCase().isEqual(tableName, change.getDataName())) {
-          changes.changesList.add(change);
-        }
-      }
-    }
+    changes.setChangesList(getChangesList(null, tableName));
     return changes;
   }
 
@@ -525,35 +994,52 @@ public class Changes extends AbstractDbElement<Changes> implements AssertProvide
       throw new NullPointerException("changeType must be not null");
     }
     Changes changes = createChangesFromThis();
-    List<Change> changesListOfType = getChangesList();
-    for (Change change : changesListOfType) {
-      if (changeType.equals(change.getChangeType())) {
-        changes.changesList.add(change);
-      }
-    }
+    changes.setChangesList(getChangesList(changeType, null));
     return changes;
   }
 
   /**
    * Creates a new instance of {@code Changes} from {@code this} one.
+   * <p>
+   * The new instance only keeps a part of the changes already computed (it is not loaded again), so the tables are
+   * copied with {@link Table#duplicate()} in any {@link SchemaMetaDataMode} : their metadata are not requested again.
+   * </p>
    *
    * @return The new instance.
    */
   private Changes createChangesFromThis() {
     Changes changes = new Changes(this.getConnectionProvider());
+    changes.executor = executor;
+    changes.snapshotIsolation = snapshotIsolation;
     if (request != null) {
       changes.request = getDuplicatedRequest(request);
     }
     if (tablesList != null) {
       changes.tablesList = new ArrayList<>();
       for (Table table : tablesList) {
-        changes.tablesList.add(getDuplicatedTable(table));
+        changes.tablesList.add(table.duplicate());
       }
     }
-    changes.changesList = new ArrayList<>();
     return changes;
   }
 
+  /**
+   * Loading of data with a connection.
+   *
+   * @param <T> The type of the loaded data.
+   */
+  private interface SnapshotLoading<T> {
+
+    /**
+     * Loads the data.
+     *
+     * @param connection The {@link Connection} to the database.
+     * @return The loaded data.
+     * @throws SQLException SQL Exception.
+     */
+    T load(Connection connection) throws SQLException;
+  }
+
   /**
    * Fluent {@link Changes} builder.
    * Use {@link AssertDbConnection} to construct new instance of this builder.
@@ -572,6 +1058,8 @@ public class Changes extends AbstractDbElement<Changes> implements AssertProvide
     private final ConnectionProvider connectionProvider;
     private Request request;
     private List<Table> tables = new ArrayList<>();
+    private Executor executor;
+    private Integer snapshotIsolation;
 
     Builder(ConnectionProvider connectionProvider) {
       this.connectionProvider = connectionProvider;
@@ -667,19 +1155,77 @@ public class Changes extends AbstractDbElement<Changes> implements AssertProvide
       return this;
     }
 
+    /**
+     * Set the executor used to load the tables concurrently at start point and at end point (each table with its own
+     * connection). The executor is not shut down by the {@link Changes}.
+     * <pre>
+     * <code class='java'>
+     * AssertDbConnection connection = ....;
+     * Changes changes = connection.changes()
+     *  .executor(Executors.newFixedThreadPool(8))
+     *  .build();
+     * </code>
+     * </pre>
+     *
+     * <p>
+     * The executor can not be used with a {@link #snapshotIsolation(Integer) snapshot isolation} (all the tables are
+     * loaded with the same connection) : {@link #build()} throws an exception if both are set.
+     * </p>
+     *
+     * @param executor Executor to use to load the tables. If {@code null} the tables are loaded one after another.
+     * @return Current builder instance.
+     * @since 3.1.0
+     */
+    public Changes.Builder executor(Executor executor) {
+      this.executor = executor;
+      return this;
+    }
+
+    /**
+     * Set the isolation level of a read-only transaction in which all the tables (or the request) are loaded at start
+     * point and at end point. All the data of a point are loaded with the same connection, so the point is consistent
+     * across the tables. This mode can not be used with an {@link #executor(Executor) executor} : {@link #build()}
+     * throws an exception if both are set.
+     * <pre>
+     * <code class='java'>
+     * AssertDbConnection connection = ....;
+     * Changes changes = connection.changes()
+     *  .snapshotIsolation(Connection.TRANSACTION_REPEATABLE_READ)
+     *  .build();
+     * </code>
+     * </pre>
+     *
+     * @param snapshotIsolation Isolation level of the transaction (one of the {@code Connection.TRANSACTION_*}
+     *                          constants). If {@code null} each data is loaded with its own connection.
+     * @return Current builder instance.
+     * @since 3.1.0
+     */
+    public Changes.Builder snapshotIsolation(Integer snapshotIsolation) {
+      this.snapshotIsolation = snapshotIsolation;
+      return this;
+    }
+
     /**
      * Build the Changes instance.
      *
      * @return Changes instance to use in assertThat.
+     * @throws AssertJDBException If both the executor and the snapshot isolation are set.
      */
     public Changes build() {
-      if (this.tables != null && !tables.isEmpty()) {
-        return new Changes(this.connectionProvider, tables);
+      if (executor != null && snapshotIsolation != null) {
+        throw new AssertJDBException("The snapshot isolation can not be used with an executor");
       }
-      if (this.request != null) {
-        return new Changes(this.connectionProvider, request);
+      Changes changes;
+      if (this.tables != null && !tables.isEmpty()) {
+        changes = new Changes(this.connectionProvider, tables);
+      } else if (this.request != null) {
+        changes = new Changes(this.connectionProvider, request);
+      } else {
+        changes = new Changes(this.connectionProvider);
       }
-      return new Changes(this.connectionProvider);
+      changes.executor = executor;
+      changes.snapshotIsolation = snapshotIsolation;
+      return changes;
     }
   }
 
@@ -0,0 +1,137 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2025 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.assertj.db.type.lettercase.LetterCase;
+
+/**
+ * Index of the sorted list of the changes of a {@link Changes}.
+ * <p>
+ * The changes are partitioned by type of change, by table and by type of change and table when the index is created.
+ * The partitions keep the order of the sorted list, so the changes of a type or a table are got without filtering and
+ * sorting again the list.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 3.1.0
+ */
+final class ChangesIndex {
+
+  /**
+   * The sorted list of the changes (not modifiable).
+   */
+  private final List<Change> changesList;
+  /**
+   * The changes by type of change.
+   */
+  private final Map<ChangeType, List<Change>> changesByType = new EnumMap<>(ChangeType.class);
+  /**
+   * The changes by name of data.
+   */
+  private final Map<String, List<Change>> changesByDataName = new LinkedHashMap<>();
+  /**
+   * The changes by type of change and by name of data.
+   */
+  private final Map<ChangeType, Map<String, List<Change>>> changesByTypeAndDataName = new EnumMap<>(ChangeType.class);
+
+  /**
+   * Constructor.
+   *
+   * @param changesList The sorted list of the changes (not modifiable).
+   */
+  ChangesIndex(List<Change> changesList) {
+    this.changesList = changesList;
+    for (Change change : changesList) {
+      ChangeType changeType = change.getChangeType();
+      String dataName = change.getDataName();
+      changesByType.computeIfAbsent(changeType, key -> new ArrayList<>()).add(change);
+      changesByDataName.computeIfAbsent(dataName, key -> new ArrayList<>()).add(change);
+      changesByTypeAndDataName.computeIfAbsent(changeType, key -> new LinkedHashMap<>())
+                              .computeIfAbsent(dataName, key -> new ArrayList<>()).add(change);
+    }
+  }
+
+  /**
+   * Returns the changes of a type of change and of a table.
+   *
+   * @param changeType The type of change ({@code null} if there is no filter on the type of change).
+   * @param tableName  The name of the table ({@code null} if there is no filter on the table).
+   * @param letterCase The letter case of the tables (only used if there is a filter on the table).
+   * @return The sorted list of the changes (not modifiable).
+   */
+  List<Change> getChangesList(ChangeType changeType, String tableName, LetterCase letterCase) {
+    if (tableName == null) {
+      if (changeType == null) {
+        return changesList;
+      }
+      return unmodifiableList(changesByType.get(changeType));
+    }
+
+    Map<String, List<Change>> changesByName;
+    if (changeType == null) {
+      changesByName = changesByDataName;
+    } else {
+      changesByName = changesByTypeAndDataName.getOrDefault(changeType, Collections.emptyMap());
+    }
+    List<Change> changesOfTable = null;
+    for (Map.Entry<String, List<Change>> entry : changesByName.entrySet()) {
+      if (letterCase.isEqual(tableName, entry.getKey())) {
+        if (changesOfTable != null) {
+          // Several names of data are equal to the name of table : the partitions must be merged in the order
+          return filter(changeType, tableName, letterCase);
+        }
+        changesOfTable = entry.getValue();
+      }
+    }
+    return unmodifiableList(changesOfTable);
+  }
+
+  /**
+   * Returns the changes of a type of change and of a table by filtering the sorted list.
+   *
+   * @param changeType The type of change ({@code null} if there is no filter on the type of change).
+   * @param tableName  The name of the table.
+   * @param letterCase The letter case of the tables.
+   * @return The sorted list of the changes (not modifiable).
+   */
+  private List<Change> filter(ChangeType changeType, String tableName, LetterCase letterCase) {
+    List<Change> filteredChangesList = new ArrayList<>();
+    for (Change change : changesList) {
+      if ((changeType == null || changeType == change.getChangeType())
+          && letterCase.isEqual(tableName, change.getDataName())) {
+        filteredChangesList.add(change);
+      }
+    }
+    return Collections.unmodifiableList(filteredChangesList);
+  }
+
+  /**
+   * Returns a list which can not be modified.
+   *
+   * @param list The list ({@code null} for an empty list).
+   * @return The list which can not be modified.
+   */
+  private static List<Change> unmodifiableList(List<Change> list) {
+    if (list == null) {
+      return Collections.emptyList();
+    }
+    return Collections.unmodifiableList(list);
+  }
+}
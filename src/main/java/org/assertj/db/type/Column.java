@@ -39,6 +39,12 @@ public class Column implements DbElement, WithColumnLetterCase {
    * The values of the column.
    */
   private final List<Value> valuesList;
+  /**
+   * The type of the column ({@code null} if not known).
+   *
+   * @since 3.1.0
+   */
+  private final ColumnType type;
   /**
    * Letter case of the columns.
    *
@@ -54,8 +60,21 @@ public class Column implements DbElement, WithColumnLetterCase {
    * @param columnLetterCase The letter case of the columns.
    */
   Column(String name, List<Value> valuesList, LetterCase columnLetterCase) {
+    this(name, valuesList, null, columnLetterCase);
+  }
+
+  /**
+   * Constructor of the column with its type and with visibility in the package.
+   *
+   * @param name             The name of the column.
+   * @param valuesList       The values in the column.
+   * @param type             The type of the column ({@code null} if not known).
+   * @param columnLetterCase The letter case of the columns.
+   */
+  Column(String name, List<Value> valuesList, ColumnType type, LetterCase columnLetterCase) {
     this.name = name;
     this.valuesList = valuesList;
+    this.type = type;
     this.columnLetterCase = columnLetterCase;
   }
 
@@ -76,6 +95,16 @@ public class Column implements DbElement, WithColumnLetterCase {
     return name;
   }
 
+  /**
+   * Returns the type of the column.
+   *
+   * @return The type of the column, or {@code null} if the type is not known.
+   * @since 3.1.0
+   */
+  public ColumnType getType() {
+    return type;
+  }
+
   /**
    * Returns the values of the column.
    *
@@ -0,0 +1,119 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2025 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import java.sql.ResultSetMetaData;
+import java.sql.Types;
+
+/**
+ * Type of a column in a {@link Table} or a {@link Request}.
+ * <p>
+ * The SQL type, the precision and the scale come from the {@link ResultSetMetaData} and the type of value is the type
+ * which is common to all the values of the column which are not {@code null} : they are found once for the column when
+ * the rows are collected.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 3.1.0
+ */
+public final class ColumnType {
+
+  /**
+   * The type of the values ({@code null} if all the values are {@code null}).
+   */
+  private final ValueType valueType;
+  /**
+   * The SQL type (from {@link Types}).
+   */
+  private final int sqlType;
+  /**
+   * The precision.
+   */
+  private final int precision;
+  /**
+   * The scale.
+   */
+  private final int scale;
+
+  /**
+   * Constructor.
+   *
+   * @param valueType The type of the values ({@code null} if all the values are {@code null}).
+   * @param sqlType   The SQL type (from {@link Types}).
+   * @param precision The precision.
+   * @param scale     The scale.
+   */
+  ColumnType(ValueType valueType, int sqlType, int precision, int scale) {
+    this.valueType = valueType;
+    this.sqlType = sqlType;
+    this.precision = precision;
+    this.scale = scale;
+  }
+
+  /**
+   * Returns the type which is common to all the values of the column which are not {@code null}.
+   *
+   * @return The type of the values : {@link ValueType#NOT_IDENTIFIED} if the values have different types and
+   * {@code null} if all the values are {@code null}.
+   */
+  public ValueType getValueType() {
+    return valueType;
+  }
+
+  /**
+   * Returns the SQL type of the column.
+   *
+   * @return The SQL type (from {@link Types}).
+   * @see ResultSetMetaData#getColumnType(int)
+   */
+  public int getSqlType() {
+    return sqlType;
+  }
+
+  /**
+   * Returns the precision of the column.
+   *
+   * @return The precision.
+   * @see ResultSetMetaData#getPrecision(int)
+   */
+  public int getPrecision() {
+    return precision;
+  }
+
+  /**
+   * Returns the scale of the column.
+   *
+   * @return The scale.
+   * @see ResultSetMetaData#getScale(int)
+   */
+  public int getScale() {
+    return scale;
+  }
+
+  /**
+   * Returns if all the values of the column which are not {@code null} are of the same identified type.
+   *
+   * @return {@code true} if the values are of the same identified type (or if all the values are {@code null}).
+   */
+  public boolean isValueTypeIdentified() {
+    return valueType != ValueType.NOT_IDENTIFIED;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String toString() {
+    return valueType + " (SQL type " + sqlType + ", precision " + precision + ", scale " + scale + ")";
+  }
+}
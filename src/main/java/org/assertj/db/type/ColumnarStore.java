@@ -0,0 +1,649 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2025 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import java.sql.Types;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.assertj.db.type.lettercase.LetterCase;
+import org.assertj.db.util.NameIndex;
+
+/**
+ * Columnar storage of the values of a {@link AbstractDbData}.
+ * <p>
+ * The values are stored with an array for each column :
+ * </p>
+ * <ul>
+ * <li>a {@code long[]} for the integer SQL types ({@code TINYINT}, {@code SMALLINT}, {@code INTEGER} and
+ * {@code BIGINT}),</li>
+ * <li>a {@code double[]} for the floating point SQL types ({@code REAL}, {@code FLOAT} and {@code DOUBLE}),</li>
+ * <li>an {@code int[]} of codes in a dictionary for the text SQL types,</li>
+ * <li>an {@code Object[]} for the other SQL types.</li>
+ * </ul>
+ * <p>
+ * The {@code null} values of the primitive arrays are kept in a {@link BitSet}. If the driver returns an object which
+ * can not be stored in the typed array of the column (with a database with dynamic typing for example), the column is
+ * stored in an {@code Object[]}.<br>
+ * The {@link Row} created with {@link #getRow(List, int, LetterCase)} are views of the store : their {@link Value} are
+ * created when they are read. The type of the values is found for each column when the rows are added (the values of
+ * a column with an identified type are not classified when they are created).
+ * </p>
+ * <p>
+ * The {@link Value} (and the boxed numbers) are not kept : each reading creates them again. This is the price of the
+ * smaller footprint of the store (a {@code Value} kept for each cell would cost more memory than the store itself) :
+ * reading a value allocates short-lived objects, which is slower than reading a kept {@code Value} when all the
+ * values are read several times (see {@code ColumnarStore_GetValue_Benchmark}). So the passes on all the rows (the
+ * sort, the hash codes and the comparisons of the rows of the changes) read the objects with
+ * {@link Row#getObject(int)} and {@link Row#getValueType(int)}, which do not create a {@code Value}.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 3.1.0
+ */
+final class ColumnarStore {
+
+  /**
+   * Initial capacity of the arrays.
+   */
+  private static final int INITIAL_CAPACITY = 16;
+
+  /**
+   * The index of the columns name (shared by the rows).
+   */
+  private final NameIndex columnsNameIndex;
+  /**
+   * Letter case of the columns.
+   */
+  private final LetterCase columnLetterCase;
+  /**
+   * The data of each column.
+   */
+  private final ColumnData[] columns;
+  /**
+   * The number of rows.
+   */
+  private int size;
+
+  /**
+   * Constructor.
+   *
+   * @param columnsNameList  The list of the columns name.
+   * @param types            The SQL type of each column (from {@link Types}).
+   * @param columnLetterCase The letter case of the columns.
+   */
+  ColumnarStore(List<String> columnsNameList, int[] types, LetterCase columnLetterCase) {
+    this(new NameIndex(columnsNameList), types, columnLetterCase);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param columnsNameIndex The index of the columns name (shared by the rows).
+   * @param types            The SQL type of each column (from {@link Types}).
+   * @param columnLetterCase The letter case of the columns.
+   */
+  ColumnarStore(NameIndex columnsNameIndex, int[] types, LetterCase columnLetterCase) {
+    this.columnsNameIndex = columnsNameIndex;
+    this.columnLetterCase = columnLetterCase;
+    columns = new ColumnData[types.length];
+    for (int column = 0; column < types.length; column++) {
+      columns[column] = createColumnData(types[column]);
+    }
+  }
+
+  /**
+   * Creates the data of a column.
+   *
+   * @param type The SQL type of the column (from {@link Types}).
+   * @return The data of the column.
+   */
+  private static ColumnData createColumnData(int type) {
+    switch (type) {
+      case Types.TINYINT:
+      case Types.SMALLINT:
+      case Types.INTEGER:
+      case Types.BIGINT:
+        return new LongColumnData();
+      case Types.REAL:
+      case Types.FLOAT:
+      case Types.DOUBLE:
+        return new DoubleColumnData();
+      case Types.CHAR:
+      case Types.VARCHAR:
+      case Types.LONGVARCHAR:
+      case Types.NCHAR:
+      case Types.NVARCHAR:
+      case Types.LONGNVARCHAR:
+      case Types.CLOB:
+        return new StringColumnData();
+
+      default:
+        return new ObjectColumnData();
+    }
+  }
+
+  /**
+   * Adds a row.
+   *
+   * @param objects The values of the row (one for each column).
+   * @return The index of the row.
+   */
+  int addRow(Object[] objects) {
+    for (int column = 0; column < columns.length; column++) {
+      if (!columns[column].add(size, objects[column])) {
+        ObjectColumnData objectColumnData = new ObjectColumnData(columns[column], size);
+        objectColumnData.add(size, objects[column]);
+        columns[column] = objectColumnData;
+      }
+    }
+    return size++;
+  }
+
+  /**
+   * Trims the arrays to the number of rows and releases the data only used during the adding of rows.
+   */
+  void trimToSize() {
+    for (ColumnData column : columns) {
+      column.trimToSize(size);
+    }
+  }
+
+  /**
+   * Returns the number of rows.
+   *
+   * @return The number of rows.
+   */
+  int size() {
+    return size;
+  }
+
+  /**
+   * Returns the object at the index of row and the index of column.
+   *
+   * @param row    The index of the row.
+   * @param column The index of the column.
+   * @return The object.
+   */
+  Object getObject(int row, int column) {
+    return columns[column].get(row);
+  }
+
+  /**
+   * Returns the value at the index of row and the index of column (a new instance for each call).
+   *
+   * @param row    The index of the row.
+   * @param column The index of the column.
+   * @return The value.
+   */
+  Value getValue(int row, int column) {
+    return new Value(columnsNameIndex.getNamesList().get(column), getObject(row, column),
+                     columns[column].getValueType(), columnLetterCase);
+  }
+
+  /**
+   * Returns the type which is common to the values of a column which are not {@code null}.
+   *
+   * @param column The index of the column.
+   * @return The type of the values : {@link ValueType#NOT_IDENTIFIED} if the values have different types and
+   * {@code null} if all the values are {@code null}.
+   */
+  ValueType getValueType(int column) {
+    return columns[column].getValueType();
+  }
+
+  /**
+   * Returns the list of the values of a row.
+   *
+   * @param row The index of the row.
+   * @return The view of the values of the row.
+   */
+  RowValues getValuesList(int row) {
+    return new RowValues(row);
+  }
+
+  /**
+   * Returns the row at the index.
+   *
+   * @param pksNameList          The list of the primary keys name.
+   * @param row                  The index of the row.
+   * @param primaryKeyLetterCase The letter case of the primary keys.
+   * @return The view of the row.
+   */
+  Row getRow(List<String> pksNameList, int row, LetterCase primaryKeyLetterCase) {
+    return new Row(pksNameList, columnsNameIndex, getValuesList(row), columnLetterCase, primaryKeyLetterCase);
+  }
+
+  /**
+   * View of the values of a row.
+   * <p>
+   * Besides the {@link Value} created for each reading, the view gives the objects and their types without creating a
+   * {@code Value} (see {@link Row#getObject(int)}).
+   * </p>
+   */
+  final class RowValues extends AbstractList<Value> {
+
+    /**
+     * The index of the row.
+     */
+    private final int row;
+
+    /**
+     * Constructor.
+     *
+     * @param row The index of the row.
+     */
+    private RowValues(int row) {
+      this.row = row;
+    }
+
+    /**
+     * Checks the index of a column.
+     *
+     * @param index The index of the column.
+     * @throws IndexOutOfBoundsException If the index is out of the columns.
+     */
+    private void checkIndex(int index) {
+      if (index < 0 || index >= columns.length) {
+        throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + columns.length);
+      }
+    }
+
+    @Override
+    public Value get(int index) {
+      checkIndex(index);
+      return getValue(row, index);
+    }
+
+    @Override
+    public int size() {
+      return columns.length;
+    }
+
+    /**
+     * Returns the object of a column without creating a {@link Value}.
+     *
+     * @param index The index of the column.
+     * @return The object.
+     */
+    Object getObject(int index) {
+      checkIndex(index);
+      return ColumnarStore.this.getObject(row, index);
+    }
+
+    /**
+     * Returns the type of the value of a column without creating a {@link Value}.
+     *
+     * @param index The index of the column.
+     * @return The type of the value (the same as {@link Value#getValueType()}).
+     */
+    ValueType getValueType(int index) {
+      checkIndex(index);
+      ColumnData column = columns[index];
+      ValueType columnValueType = column.getValueType();
+      if (columnValueType != null && columnValueType != ValueType.NOT_IDENTIFIED) {
+        return column.isNull(row) ? Value.getType(null) : columnValueType;
+      }
+      return Value.getType(column.get(row), columnValueType);
+    }
+  }
+
+  /**
+   * Data of a column.
+   */
+  private abstract static class ColumnData {
+
+    /**
+     * Adds an object at the end of the column.
+     *
+     * @param row    The index of the row (the current size of the column).
+     * @param object The object to add.
+     * @return {@code false} if the object can not be stored in this column (nothing is added).
+     */
+    abstract boolean add(int row, Object object);
+
+    /**
+     * Returns the object at the index of row.
+     *
+     * @param row The index of the row.
+     * @return The object.
+     */
+    abstract Object get(int row);
+
+    /**
+     * Returns if the object at the index of row is {@code null} (without boxing the primitive values).
+     *
+     * @param row The index of the row.
+     * @return {@code true} if the object is {@code null}.
+     */
+    boolean isNull(int row) {
+      return get(row) == null;
+    }
+
+    /**
+     * Trims the arrays to the number of rows.
+     *
+     * @param size The number of rows.
+     */
+    abstract void trimToSize(int size);
+
+    /**
+     * Returns the type which is common to the values which are not {@code null}.
+     *
+     * @return The type of the values ({@code null} if all the values are {@code null}).
+     */
+    abstract ValueType getValueType();
+
+    /**
+     * Returns the new capacity of an array to contain the index.
+     *
+     * @param capacity The current capacity.
+     * @param index    The index to contain.
+     * @return The new capacity.
+     */
+    static int grow(int capacity, int index) {
+      int newCapacity = Math.max(capacity, INITIAL_CAPACITY);
+      while (newCapacity <= index) {
+        newCapacity = newCapacity << 1;
+      }
+      return newCapacity;
+    }
+  }
+
+  /**
+   * Data of a column with integer values in a {@code long[]}.
+   */
+  private static final class LongColumnData extends ColumnData {
+
+    /**
+     * The class of the values ({@code Byte}, {@code Short}, {@code Integer} or {@code Long}).
+     */
+    private Class<?> valueClass;
+    /**
+     * The values.
+     */
+    private long[] values = new long[0];
+    /**
+     * The indexes of the rows with a {@code null} value.
+     */
+    private final BitSet nulls = new BitSet();
+
+    @Override
+    boolean add(int row, Object object) {
+      if (object != null) {
+        Class<?> objectClass = object.getClass();
+        if (valueClass == null) {
+          if (objectClass != Long.class && objectClass != Integer.class
+              && objectClass != Short.class && objectClass != Byte.class) {
+            return false;
+          }
+          valueClass = objectClass;
+        } else if (objectClass != valueClass) {
+          return false;
+        }
+      }
+      if (row >= values.length) {
+        values = Arrays.copyOf(values, grow(values.length, row));
+      }
+      if (object == null) {
+        nulls.set(row);
+      } else {
+        values[row] = ((Number) object).longValue();
+      }
+      return true;
+    }
+
+    @Override
+    boolean isNull(int row) {
+      return nulls.get(row);
+    }
+
+    @Override
+    Object get(int row) {
+      if (nulls.get(row)) {
+        return null;
+      }
+      long value = values[row];
+      if (valueClass == Integer.class) {
+        return (int) value;
+      } else if (valueClass == Short.class) {
+        return (short) value;
+      } else if (valueClass == Byte.class) {
+        return (byte) value;
+      }
+      return value;
+    }
+
+    @Override
+    void trimToSize(int size) {
+      if (values.length != size) {
+        values = Arrays.copyOf(values, size);
+      }
+    }
+
+    @Override
+    ValueType getValueType() {
+      return valueClass == null ? null : ValueType.NUMBER;
+    }
+  }
+
+  /**
+   * Data of a column with floating point values in a {@code double[]}.
+   */
+  private static final class DoubleColumnData extends ColumnData {
+
+    /**
+     * The class of the values ({@code Float} or {@code Double}).
+     */
+    private Class<?> valueClass;
+    /**
+     * The values.
+     */
+    private double[] values = new double[0];
+    /**
+     * The indexes of the rows with a {@code null} value.
+     */
+    private final BitSet nulls = new BitSet();
+
+    @Override
+    boolean add(int row, Object object) {
+      if (object != null) {
+        Class<?> objectClass = object.getClass();
+        if (valueClass == null) {
+          if (objectClass != Double.class && objectClass != Float.class) {
+            return false;
+          }
+          valueClass = objectClass;
+        } else if (objectClass != valueClass) {
+          return false;
+        }
+      }
+      if (row >= values.length) {
+        values = Arrays.copyOf(values, grow(values.length, row));
+      }
+      if (object == null) {
+        nulls.set(row);
+      } else {
+        values[row] = ((Number) object).doubleValue();
+      }
+      return true;
+    }
+
+    @Override
+    boolean isNull(int row) {
+      return nulls.get(row);
+    }
+
+    @Override
+    Object get(int row) {
+      if (nulls.get(row)) {
+        return null;
+      }
+      double value = values[row];
+      if (valueClass == Float.class) {
+        return (float) value;
+      }
+      return value;
+    }
+
+    @Override
+    void trimToSize(int size) {
+      if (values.length != size) {
+        values = Arrays.copyOf(values, size);
+      }
+    }
+
+    @Override
+    ValueType getValueType() {
+      return valueClass == null ? null : ValueType.NUMBER;
+    }
+  }
+
+  /**
+   * Data of a column with texts encoded with a dictionary.
+   */
+  private static final class StringColumnData extends ColumnData {
+
+    /**
+     * The code of the values in the dictionary ({@code -1} for {@code null}).
+     */
+    private int[] codes = new int[0];
+    /**
+     * The dictionary of the distinct texts.
+     */
+    private List<String> dictionary = new ArrayList<>();
+    /**
+     * The code of the texts (only used during the adding of rows).
+     */
+    private Map<String, Integer> codesByText = new HashMap<>();
+
+    @Override
+    boolean add(int row, Object object) {
+      if (object != null && !(object instanceof String)) {
+        return false;
+      }
+      if (row >= codes.length) {
+        codes = Arrays.copyOf(codes, grow(codes.length, row));
+      }
+      if (object == null) {
+        codes[row] = -1;
+      } else {
+        String text = (String) object;
+        Integer code = codesByText.get(text);
+        if (code == null) {
+          code = dictionary.size();
+          dictionary.add(text);
+          codesByText.put(text, code);
+        }
+        codes[row] = code;
+      }
+      return true;
+    }
+
+    @Override
+    Object get(int row) {
+      int code = codes[row];
+      return code == -1 ? null : dictionary.get(code);
+    }
+
+    @Override
+    void trimToSize(int size) {
+      if (codes.length != size) {
+        codes = Arrays.copyOf(codes, size);
+      }
+      dictionary = new ArrayList<>(dictionary);
+      codesByText = null;
+    }
+
+    @Override
+    ValueType getValueType() {
+      return dictionary.isEmpty() ? null : ValueType.TEXT;
+    }
+  }
+
+  /**
+   * Data of a column with any values in an {@code Object[]}.
+   */
+  private static final class ObjectColumnData extends ColumnData {
+
+    /**
+     * The values.
+     */
+    private Object[] values;
+    /**
+     * The class of the last value which is not {@code null}.
+     */
+    private Class<?> valueClass;
+    /**
+     * The type which is common to the values which are not {@code null}.
+     */
+    private ValueType valueType;
+
+    /**
+     * Constructor of an empty column.
+     */
+    private ObjectColumnData() {
+      values = new Object[0];
+    }
+
+    /**
+     * Constructor with the values of an other column.
+     *
+     * @param columnData The other column.
+     * @param size       The number of rows in the other column.
+     */
+    private ObjectColumnData(ColumnData columnData, int size) {
+      values = new Object[grow(0, size)];
+      for (int row = 0; row < size; row++) {
+        values[row] = columnData.get(row);
+      }
+      valueType = columnData.getValueType();
+    }
+
+    @Override
+    boolean add(int row, Object object) {
+      if (row >= values.length) {
+        values = Arrays.copyOf(values, grow(values.length, row));
+      }
+      values[row] = object;
+      // The value is only classified when its class is different from the class of the previous value
+      if (object != null && object.getClass() != valueClass) {
+        valueClass = object.getClass();
+        valueType = Value.getCommonType(valueType, Value.getType(object));
+      }
+      return true;
+    }
+
+    @Override
+    Object get(int row) {
+      return values[row];
+    }
+
+    @Override
+    void trimToSize(int size) {
+      if (values.length != size) {
+        values = Arrays.copyOf(values, size);
+      }
+    }
+
+    @Override
+    ValueType getValueType() {
+      return valueType;
+    }
+  }
+}
@@ -0,0 +1,173 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2025 the original author or authors.
+ */
+package org.assertj.db.type;
+
+/**
+ * Parsing of the {@code String} representations of the dates and the times.
+ * <p>
+ * The formats are checked character by character and the numbers are read directly in the {@code String} : the
+ * parsing does not compile any regular expression and does not create any intermediate {@code String}. The accepted
+ * formats are the same as the regular expressions {@code \d\d\d\d-\d\d-\d\d} for a date and {@code \d\d:\d\d},
+ * {@code \d\d:\d\d:\d\d} or {@code \d\d:\d\d:\d\d.\d\d\d\d\d\d\d\d\d} for a time.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 3.1.0
+ */
+final class DateTimeStrings {
+
+  /**
+   * Length of a date ({@code yyyy-mm-dd}).
+   */
+  static final int DATE_LENGTH = 10;
+  /**
+   * Length of a time without seconds ({@code hh:mm}).
+   */
+  static final int TIME_LENGTH = 5;
+  /**
+   * Length of a time with seconds ({@code hh:mm:ss}).
+   */
+  static final int TIME_WITH_SECONDS_LENGTH = 8;
+  /**
+   * Length of a time with nanoseconds ({@code hh:mm:ss.nnnnnnnnn}).
+   */
+  static final int TIME_WITH_NANO_LENGTH = 18;
+
+  /**
+   * Private constructor.
+   */
+  private DateTimeStrings() {
+    // Empty
+  }
+
+  /**
+   * Returns if the characters between two indexes are digits (from {@code 0} to {@code 9}).
+   *
+   * @param string The {@code String}.
+   * @param start  The start index (inclusive).
+   * @param end    The end index (exclusive).
+   * @return {@code true} if the characters are digits.
+   */
+  private static boolean areDigits(String string, int start, int end) {
+    for (int index = start; index < end; index++) {
+      char character = string.charAt(index);
+      if (character < '0' || character > '9') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns if the character is a line terminator (which is not matched by {@code .} in a regular expression).
+   *
+   * @param character The character.
+   * @return {@code true} if the character is a line terminator.
+   */
+  private static boolean isLineTerminator(char character) {
+    return character == '\n' || character == '\r' || character == '\u0085'
+           || character == '\u2028' || character == '\u2029';
+  }
+
+  /**
+   * Returns the number represented by the digits between two indexes (the characters must be digits).
+   *
+   * @param string The {@code String}.
+   * @param start  The start index (inclusive).
+   * @param end    The end index (exclusive).
+   * @return The number.
+   */
+  static int parseDigits(String string, int start, int end) {
+    int number = 0;
+    for (int index = start; index < end; index++) {
+      number = number * 10 + (string.charAt(index) - '0');
+    }
+    return number;
+  }
+
+  /**
+   * Returns if the characters between two indexes represent a date ({@code yyyy-mm-dd}).
+   *
+   * @param string The {@code String}.
+   * @param start  The start index (inclusive).
+   * @param end    The end index (exclusive).
+   * @return {@code true} if the characters represent a date.
+   */
+  static boolean isDate(String string, int start, int end) {
+    return end - start == DATE_LENGTH
+           && areDigits(string, start, start + 4)
+           && string.charAt(start + 4) == '-'
+           && areDigits(string, start + 5, start + 7)
+           && string.charAt(start + 7) == '-'
+           && areDigits(string, start + 8, end);
+  }
+
+  /**
+   * Returns if the characters between two indexes represent a time ({@code hh:mm}, {@code hh:mm:ss} or
+   * {@code hh:mm:ss.nnnnnnnnn}).
+   *
+   * @param string The {@code String}.
+   * @param start  The start index (inclusive).
+   * @param end    The end index (exclusive).
+   * @return {@code true} if the characters represent a time.
+   */
+  static boolean isTime(String string, int start, int end) {
+    int length = end - start;
+    if (length != TIME_LENGTH && length != TIME_WITH_SECONDS_LENGTH && length != TIME_WITH_NANO_LENGTH) {
+      return false;
+    }
+    if (!areDigits(string, start, start + 2) || string.charAt(start + 2) != ':'
+        || !areDigits(string, start + 3, start + 5)) {
+      return false;
+    }
+    if (length == TIME_LENGTH) {
+      return true;
+    }
+    if (string.charAt(start + 5) != ':' || !areDigits(string, start + 6, start + 8)) {
+      return false;
+    }
+    if (length == TIME_WITH_SECONDS_LENGTH) {
+      return true;
+    }
+    return !isLineTerminator(string.charAt(start + 8)) && areDigits(string, start + 9, end);
+  }
+
+  /**
+   * Returns the date represented by the characters from an index (they must represent a date).
+   *
+   * @param string The {@code String}.
+   * @param start  The start index (inclusive).
+   * @return The date.
+   */
+  static DateValue toDateValue(String string, int start) {
+    return new DateValue(parseDigits(string, start, start + 4),
+                         parseDigits(string, start + 5, start + 7),
+                         parseDigits(string, start + 8, start + 10));
+  }
+
+  /**
+   * Returns the time represented by the characters between two indexes (they must represent a time).
+   *
+   * @param string The {@code String}.
+   * @param start  The start index (inclusive).
+   * @param end    The end index (exclusive).
+   * @return The time.
+   */
+  static TimeValue toTimeValue(String string, int start, int end) {
+    int length = end - start;
+    int seconds = length >= TIME_WITH_SECONDS_LENGTH ? parseDigits(string, start + 6, start + 8) : 0;
+    int nanoSeconds = length == TIME_WITH_NANO_LENGTH ? parseDigits(string, start + 9, end) : 0;
+    return new TimeValue(parseDigits(string, start, start + 2), parseDigits(string, start + 3, start + 5),
+                         seconds, nanoSeconds);
+  }
+}
@@ -25,24 +25,6 @@ import java.util.Calendar;
 public class DateTimeValue implements Comparable<DateTimeValue>, DateValueContainer {
 
   private static final String DATE_TIME_SHOULD_BE_NOT_NULL = "date/time should be not null";
-  /**
-   * Indicates where there are the digits in the {@code String} for {@link DateValue#DateValue(String)}.
-   */
-  private static final String DATE_FORMAT = "\\d\\d\\d\\d-\\d\\d-\\d\\d";
-  /**
-   * Indicates where there are the digits for {@code String} for {@link TimeValue#TimeValue(String)}.
-   */
-  private static final String TIME_FORMAT = "\\d\\d\\d\\d-\\d\\d-\\d\\dT\\d\\d:\\d\\d";
-  /**
-   * Indicates where there are the digits in style with seconds for {@code String} for
-   * {@link TimeValue#TimeValue(String)}.
-   */
-  private static final String TIME_FORMAT_WITH_SECONDS = "\\d\\d\\d\\d-\\d\\d-\\d\\dT\\d\\d:\\d\\d:\\d\\d";
-  /**
-   * Indicates where there are the digits in style with nanoseconds for {@code String} for
-   * {@link TimeValue#TimeValue(String)}.
-   */
-  private static final String TIME_FORMAT_WITH_NANO = "\\d\\d\\d\\d-\\d\\d-\\d\\dT\\d\\d:\\d\\d:\\d\\d.\\d\\d\\d\\d\\d\\d\\d\\d\\d";
   /**
    * The date part.
    */
@@ -84,14 +66,17 @@ public class DateTimeValue implements Comparable<DateTimeValue>, DateValueContai
       throw new NullPointerException(DATE_TIME_SHOULD_BE_NOT_NULL);
     }
 
-    if (dateTime.matches(DATE_FORMAT)) {
-      date = DateValue.parse(dateTime);
+    int length = dateTime.length();
+    int timeStart = DateTimeStrings.DATE_LENGTH + 1;
+    if (DateTimeStrings.isDate(dateTime, 0, length)) {
+      date = DateTimeStrings.toDateValue(dateTime, 0);
       time = new TimeValue(0, 0);
-    } else if (dateTime.matches(TIME_FORMAT) || dateTime.matches(TIME_FORMAT_WITH_SECONDS)
-      || dateTime.matches(TIME_FORMAT_WITH_NANO)) {
+    } else if (length > timeStart && DateTimeStrings.isDate(dateTime, 0, DateTimeStrings.DATE_LENGTH)
+               && dateTime.charAt(DateTimeStrings.DATE_LENGTH) == 'T'
+               && DateTimeStrings.isTime(dateTime, timeStart, length)) {
 
-      date = DateValue.parse(dateTime.substring(0, 10));
-      time = TimeValue.parse(dateTime.substring(11));
+      date = DateTimeStrings.toDateValue(dateTime, 0);
+      time = DateTimeStrings.toTimeValue(dateTime, timeStart, length);
     } else {
       throw new ParseException("date/time must respect yyyy-mm-dd, yyyy-mm-ddThh:mm, "
         + "yyyy-mm-ddThh:mm:ss or yyyy-mm-ddThh:mm:ss.nnnnnnnnn format", dateTime.length());
@@ -25,10 +25,6 @@ import java.util.Calendar;
 public class DateValue implements Comparable<DateValue>, DateValueContainer {
 
   private static final String DATE_SHOULD_BE_NOT_NULL = "date should be not null";
-  /**
-   * Indicates where there are the digits in the {@code String} for {@link DateValue#DateValue(String)}.
-   */
-  private static final String DATE_FORMAT = "\\d\\d\\d\\d-\\d\\d-\\d\\d";
   /**
    * Day of the month.
    */
@@ -67,10 +63,10 @@ public class DateValue implements Comparable<DateValue>, DateValueContainer {
       throw new NullPointerException(DATE_SHOULD_BE_NOT_NULL);
     }
 
-    if (date.matches(DATE_FORMAT)) {
-      year = Integer.parseInt(date.substring(0, 4));
-      month = Integer.parseInt(date.substring(5, 7));
-      dayOfTheMonth = Integer.parseInt(date.substring(8));
+    if (DateTimeStrings.isDate(date, 0, date.length())) {
+      year = DateTimeStrings.parseDigits(date, 0, 4);
+      month = DateTimeStrings.parseDigits(date, 5, 7);
+      dayOfTheMonth = DateTimeStrings.parseDigits(date, 8, 10);
     } else {
       throw new ParseException("date must respect yyyy-mm-dd format", date.length());
     }
@@ -0,0 +1,128 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2025 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Implementation of SchemaMetadata that cache the metadata with an expiration.
+ * <p>
+ * The metadata are cached like with {@link CachedSchemaMetaData} but all the cache is invalidated when the time to live
+ * is elapsed since the loading (or the refresh) of the metadata of the schema, when {@link #invalidateAll()} is called
+ * and when the start point of a {@link Changes} is set.<br>
+ * With a refresh executor, the metadata are not invalidated when the time to live is elapsed but refreshed in
+ * background : the current metadata are returned until the end of the refresh.
+ * </p>
+ *
+ * @author Julien Roy
+ * @since 3.1.0
+ */
+class ExpiringSchemaMetaData extends CachedSchemaMetaData {
+
+  /**
+   * Default time to live of the metadata.
+   */
+  static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(1);
+
+  /**
+   * Time to live (in nanoseconds) of the metadata.
+   */
+  private volatile long timeToLiveNanos = DEFAULT_TIME_TO_LIVE.toNanos();
+  /**
+   * Time (in nanoseconds) of the loading of the metadata of the schema in the cache (or of the last expiration).
+   */
+  private final AtomicLong loadingTime = new AtomicLong(System.nanoTime());
+  /**
+   * Executor of the refresh in background ({@code null} to invalidate the metadata when the time to live is elapsed).
+   */
+  private volatile Executor refreshExecutor;
+
+  public ExpiringSchemaMetaData(ConnectionProvider connectionProvider) {
+    super(connectionProvider);
+  }
+
+  /**
+   * Sets the time to live of the metadata.
+   *
+   * @param timeToLive The time to live.
+   */
+  void setTimeToLive(Duration timeToLive) {
+    this.timeToLiveNanos = timeToLive.toNanos();
+  }
+
+  /**
+   * Sets the executor of the refresh in background.
+   *
+   * @param refreshExecutor The executor ({@code null} to invalidate the metadata when the time to live is elapsed).
+   */
+  void setRefreshExecutor(Executor refreshExecutor) {
+    this.refreshExecutor = refreshExecutor;
+  }
+
+  /**
+   * Invalidates (or refreshes in background) the cache if the time to live is elapsed.
+   * <p>
+   * When several threads see the time to live elapsed, only the one which updates the time expires the cache.
+   * </p>
+   */
+  private void expire() {
+    long time = loadingTime.get();
+    long now = System.nanoTime();
+    if (now - time >= timeToLiveNanos && loadingTime.compareAndSet(time, now)) {
+      Executor executor = refreshExecutor;
+      if (executor == null) {
+        invalidateAll();
+      } else {
+        refresh(executor);
+      }
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  void schemaMetadataPut() {
+    loadingTime.set(System.nanoTime());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Collection<String> getTablesName() {
+    expire();
+    return super.getTablesName();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Collection<String> getColumnsName(String tableName) {
+    expire();
+    return super.getColumnsName(tableName);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Collection<String> getPrimaryKeys(String tableName) {
+    expire();
+    return super.getPrimaryKeys(tableName);
+  }
+}
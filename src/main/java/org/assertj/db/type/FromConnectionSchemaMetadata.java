@@ -18,7 +18,9 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.assertj.db.exception.AssertJDBException;
 
@@ -68,18 +70,162 @@ class FromConnectionSchemaMetadata implements SchemaMetadata {
     }
   }
 
-  @Override
-  public Collection<String> getTablesName() {
+  /**
+   * Returns the names of the tables.
+   *
+   * @param connection The connection.
+   * @return The names of the tables.
+   * @throws SQLException SQL Exception
+   */
+  private static List<String> getTablesName(Connection connection) throws SQLException {
+    List<String> tables = new ArrayList<>();
+    DatabaseMetaData metaData = connection.getMetaData();
+    try (ResultSet tableResultSet = metaData.getTables(getCatalog(connection), getSchema(connection), null, new String[]{"TABLE"})) {
+      while (tableResultSet.next()) {
+        String tableName = tableResultSet.getString("TABLE_NAME");
+        tables.add(tableName);
+      }
+    }
+    return tables;
+  }
+
+  /**
+   * Returns the names of the primary keys of a table.
+   *
+   * @param connection The connection.
+   * @param tableName  The name of the table.
+   * @return The names of the primary keys.
+   * @throws SQLException SQL Exception
+   */
+  private static List<String> getPrimaryKeys(Connection connection, String tableName) throws SQLException {
+    List<String> pksNameList = new ArrayList<>();
+    try (ResultSet resultSet = connection.getMetaData().getPrimaryKeys(getCatalog(connection), getSchema(connection), tableName)) {
+      while (resultSet.next()) {
+        String pkName = resultSet.getString("COLUMN_NAME");
+        pksNameList.add(pkName);
+      }
+    }
+    return pksNameList;
+  }
+
+  /**
+   * Returns the names of the primary keys of all the tables with only one request (if the driver accepts a
+   * {@code null} table name).
+   *
+   * @param connection The connection.
+   * @return The names of the primary keys by table name ({@code null} if the driver does not accept a {@code null}
+   * table name or returns no primary key).
+   */
+  private static Map<String, List<String>> getPrimaryKeysByTable(Connection connection) {
+    Map<String, List<String>> pksByTable = new HashMap<>();
+    try (ResultSet resultSet = connection.getMetaData().getPrimaryKeys(getCatalog(connection), getSchema(connection), null)) {
+      while (resultSet.next()) {
+        String tableName = resultSet.getString("TABLE_NAME");
+        String pkName = resultSet.getString("COLUMN_NAME");
+        pksByTable.computeIfAbsent(tableName, key -> new ArrayList<>()).add(pkName);
+      }
+    } catch (SQLException | RuntimeException e) {
+      return null;
+    }
+    return pksByTable.isEmpty() ? null : pksByTable;
+  }
+
+  /**
+   * Returns all the metadata of the schema with only one connection.
+   * <p>
+   * The columns of all the tables are got with one request. The primary keys are also got with one request when the
+   * driver accepts it, else with one request by table.<br>
+   * The keys of the returned map are the keys used by {@link CachedSchemaMetaData} : the names of the tables with
+   * {@link CachedSchemaMetaData#TABLES_KEY}, the names of the columns of a table with
+   * {@link CachedSchemaMetaData#getColumnsKey(String)} and the names of the primary keys of a table with
+   * {@link CachedSchemaMetaData#getPrimaryKeysKey(String)}.
+   * </p>
+   *
+   * @return The metadata of the schema.
+   * @since 3.1.0
+   */
+  Map<String, Collection<String>> getSchemaMetadata() {
+    try (Connection connection = connectionProvider.getConnection()) {
+      return getSchemaMetadata(connection, getTablesName(connection));
+    } catch (SQLException e) {
+      throw new AssertJDBException(e);
+    }
+  }
+
+  /**
+   * Returns all the metadata of the schema with only one connection and a file which keeps the metadata between
+   * several JVM.
+   * <p>
+   * The names of the tables are always got from the database to compute the fingerprint of the schema. The other
+   * metadata are read in the file if it is for the same connection and the same fingerprint, else they are got like
+   * with {@link #getSchemaMetadata()} and written in the file.<br>
+   * The modification of the columns or of the primary keys of an existing table does not change the fingerprint : the
+   * file is not read after an invalidation of the metadata.
+   * </p>
+   *
+   * @param file     The file which keeps the metadata.
+   * @param readFile {@code true} if the metadata can be read in the file, {@code false} to only write it.
+   * @return The metadata of the schema.
+   * @since 3.1.0
+   */
+  Map<String, Collection<String>> getSchemaMetadata(SchemaMetadataFile file, boolean readFile) {
     try (Connection connection = connectionProvider.getConnection()) {
-      List<String> tables = new ArrayList<>();
       DatabaseMetaData metaData = connection.getMetaData();
-      try (ResultSet tableResultSet = metaData.getTables(getCatalog(connection), getSchema(connection), null, new String[]{"TABLE"})) {
-        while (tableResultSet.next()) {
-          String tableName = tableResultSet.getString("TABLE_NAME");
-          tables.add(tableName);
+      String identity = metaData.getURL() + "#" + metaData.getUserName();
+      List<String> tables = getTablesName(connection);
+      String fingerprint = SchemaMetadataFile.getFingerprint(tables);
+      if (readFile) {
+        Map<String, Collection<String>> schemaMetadata = file.read(identity, fingerprint);
+        if (schemaMetadata != null) {
+          return schemaMetadata;
         }
       }
-      return tables;
+      Map<String, Collection<String>> schemaMetadata = getSchemaMetadata(connection, tables);
+      file.write(identity, fingerprint, schemaMetadata);
+      return schemaMetadata;
+    } catch (SQLException e) {
+      throw new AssertJDBException(e);
+    }
+  }
+
+  /**
+   * Returns all the metadata of the schema.
+   *
+   * @param connection The connection.
+   * @param tables     The names of the tables.
+   * @return The metadata of the schema.
+   * @throws SQLException SQL Exception
+   */
+  private static Map<String, Collection<String>> getSchemaMetadata(Connection connection, List<String> tables) throws SQLException {
+    Map<String, Collection<String>> schemaMetadata = new HashMap<>();
+    schemaMetadata.put(CachedSchemaMetaData.TABLES_KEY, tables);
+
+    try (ResultSet columnsResultSet = connection.getMetaData().getColumns(getCatalog(connection), getSchema(connection), null, null)) {
+      while (columnsResultSet.next()) {
+        String tableName = columnsResultSet.getString("TABLE_NAME");
+        String column = columnsResultSet.getString("COLUMN_NAME");
+        schemaMetadata.computeIfAbsent(CachedSchemaMetaData.getColumnsKey(tableName), key -> new ArrayList<>())
+                      .add(column);
+      }
+    }
+
+    Map<String, List<String>> pksByTable = getPrimaryKeysByTable(connection);
+    for (String tableName : tables) {
+      List<String> pksNameList;
+      if (pksByTable != null) {
+        pksNameList = pksByTable.getOrDefault(tableName, new ArrayList<>());
+      } else {
+        pksNameList = getPrimaryKeys(connection, tableName);
+      }
+      schemaMetadata.put(CachedSchemaMetaData.getPrimaryKeysKey(tableName), pksNameList);
+    }
+    return schemaMetadata;
+  }
+
+  @Override
+  public Collection<String> getTablesName() {
+    try (Connection connection = connectionProvider.getConnection()) {
+      return getTablesName(connection);
     } catch (SQLException e) {
       throw new AssertJDBException(e);
     }
@@ -104,14 +250,7 @@ class FromConnectionSchemaMetadata implements SchemaMetadata {
   @Override
   public Collection<String> getPrimaryKeys(String tableName) {
     try (Connection connection = connectionProvider.getConnection()) {
-      List<String> pksNameList = new ArrayList<>();
-      try (ResultSet resultSet = connection.getMetaData().getPrimaryKeys(getCatalog(connection), getSchema(connection), tableName)) {
-        while (resultSet.next()) {
-          String pkName = resultSet.getString("COLUMN_NAME");
-          pksNameList.add(pkName);
-        }
-      }
-      return pksNameList;
+      return getPrimaryKeys(connection, tableName);
     } catch (SQLException e) {
       throw new AssertJDBException(e);
     }
@@ -0,0 +1,543 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2025 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Lightweight pool of the connections of a {@link JdbcUrlConnectionProvider}.
+ * <p>
+ * The connections returned by {@link #getConnection()} are proxies : closing them gives back the physical connection
+ * to the pool (with its auto-commit, read-only and isolation level restored and its statements closed) instead of
+ * closing it. The statements, the result sets and the database metadata of these connections are proxies too, so
+ * their {@code getConnection()} (or {@code getStatement()}) returns a proxy and never the physical objects.<br>
+ * The pool never blocks and does not limit the number of open connections : when there is no idle connection, a new
+ * physical connection is opened. When a connection is given back and the pool already keeps {@code maxIdle} idle
+ * connections, the physical connection is closed.
+ * The idle connections which are not used during the {@code idleTimeout} are closed when the pool is used and an idle
+ * connection is checked with {@link Connection#isValid(int)} before being reused (the dropped ones are closed).
+ * </p>
+ *
+ * @author Julien Roy
+ * @since 3.1.0
+ */
+final class JdbcConnectionPool {
+
+  /**
+   * Time (in seconds) to wait for the validation of an idle connection.
+   */
+  private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+  /**
+   * The method {@code close} of {@link Connection}.
+   */
+  private static final Method CLOSE_METHOD;
+  /**
+   * The method {@code isClosed} of {@link Connection}.
+   */
+  private static final Method IS_CLOSED_METHOD;
+  /**
+   * The method {@code close} of {@link Statement}.
+   */
+  private static final Method STATEMENT_CLOSE_METHOD;
+
+  static {
+    try {
+      CLOSE_METHOD = Connection.class.getMethod("close");
+      IS_CLOSED_METHOD = Connection.class.getMethod("isClosed");
+      STATEMENT_CLOSE_METHOD = Statement.class.getMethod("close");
+    } catch (NoSuchMethodException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  private final String url;
+  private final String user;
+  private final String password;
+  /**
+   * Maximum number of idle connections kept by the pool (this is not a limit of the number of open connections).
+   */
+  private final int maxIdle;
+  /**
+   * Time (in nanoseconds) after which an idle connection is closed.
+   */
+  private final long idleTimeoutNanos;
+  /**
+   * The idle connections (the most recently used first).
+   */
+  private final Deque<IdleConnection> idleConnections = new ArrayDeque<>();
+  /**
+   * Indicates if the pool is closed (guarded by the lock on {@code idleConnections}).
+   */
+  private boolean closed;
+
+  /**
+   * Constructor.
+   *
+   * @param url              JDBC url of database.
+   * @param user             Connection username.
+   * @param password         Connection password.
+   * @param maxIdle          Maximum number of idle connections kept by the pool.
+   * @param idleTimeoutNanos Time (in nanoseconds) after which an idle connection is closed.
+   */
+  JdbcConnectionPool(String url, String user, String password, int maxIdle, long idleTimeoutNanos) {
+    if (maxIdle < 1) {
+      throw new IllegalArgumentException("The maximum number of idle connections of the pool must be greater than 0");
+    }
+    if (idleTimeoutNanos < 0) {
+      throw new IllegalArgumentException("The idle timeout of the pool can not be negative");
+    }
+    this.url = url;
+    this.user = user;
+    this.password = password;
+    this.maxIdle = maxIdle;
+    this.idleTimeoutNanos = idleTimeoutNanos;
+  }
+
+  /**
+   * Returns a connection : an idle connection of the pool or a new connection.
+   *
+   * @return A connection which gives back the physical connection to the pool when it is closed.
+   * @throws SQLException SQL Exception (or if the pool is closed).
+   */
+  Connection getConnection() throws SQLException {
+    Connection physicalConnection = null;
+    ConnectionState state = null;
+    while (physicalConnection == null) {
+      IdleConnection idleConnection;
+      synchronized (idleConnections) {
+        if (closed) {
+          throw new SQLException("The pool of connections is closed");
+        }
+        evictExpiredConnections(System.nanoTime());
+        idleConnection = idleConnections.pollFirst();
+      }
+      if (idleConnection == null) {
+        physicalConnection = DriverManager.getConnection(url, user, password);
+        try {
+          state = new ConnectionState(physicalConnection);
+        } catch (SQLException e) {
+          closeQuietly(physicalConnection);
+          throw e;
+        }
+      } else if (isValid(idleConnection.connection)) {
+        physicalConnection = idleConnection.connection;
+        state = idleConnection.state;
+      } else {
+        // The connection is dropped (by the server or the network) : another one is tried
+        closeQuietly(idleConnection.connection);
+      }
+    }
+    return newProxy(Connection.class, new PooledConnectionHandler(physicalConnection, state));
+  }
+
+  /**
+   * Returns the number of idle connections in the pool.
+   *
+   * @return The number of idle connections.
+   */
+  int getIdleSize() {
+    synchronized (idleConnections) {
+      return idleConnections.size();
+    }
+  }
+
+  /**
+   * Closes the idle connections.
+   */
+  void closeIdleConnections() {
+    synchronized (idleConnections) {
+      for (IdleConnection idleConnection : idleConnections) {
+        closeQuietly(idleConnection.connection);
+      }
+      idleConnections.clear();
+    }
+  }
+
+  /**
+   * Closes the pool : the idle connections are closed, the connections in use are closed when they are given back and
+   * no more connection can be obtained.
+   */
+  void close() {
+    synchronized (idleConnections) {
+      closed = true;
+      closeIdleConnections();
+    }
+  }
+
+  /**
+   * Gives back a physical connection to the pool.
+   *
+   * @param connection The physical connection.
+   * @param state      The state of the connection when it was opened.
+   */
+  private void release(Connection connection, ConnectionState state) {
+    try {
+      if (connection.isClosed()) {
+        return;
+      }
+      if (!connection.getAutoCommit()) {
+        connection.rollback();
+      }
+      state.restore(connection);
+    } catch (SQLException e) {
+      closeQuietly(connection);
+      return;
+    }
+
+    long now = System.nanoTime();
+    synchronized (idleConnections) {
+      evictExpiredConnections(now);
+      if (!closed && idleTimeoutNanos > 0 && idleConnections.size() < maxIdle) {
+        idleConnections.addFirst(new IdleConnection(connection, state, now));
+        return;
+      }
+    }
+    closeQuietly(connection);
+  }
+
+  /**
+   * Closes the idle connections which are not used during the idle timeout (must be called with the lock).
+   *
+   * @param now The current time (in nanoseconds).
+   */
+  private void evictExpiredConnections(long now) {
+    Iterator<IdleConnection> iterator = idleConnections.descendingIterator();
+    while (iterator.hasNext()) {
+      IdleConnection idleConnection = iterator.next();
+      if (now - idleConnection.releaseTime < idleTimeoutNanos) {
+        break;
+      }
+      iterator.remove();
+      closeQuietly(idleConnection.connection);
+    }
+  }
+
+  /**
+   * Returns if an idle connection can be used : the connection is checked with {@link Connection#isValid(int)} (or only
+   * with {@link Connection#isClosed()} if the driver does not support it).
+   *
+   * @param connection The connection.
+   * @return {@code true} if the connection can be used.
+   */
+  private static boolean isValid(Connection connection) {
+    try {
+      return connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+    } catch (SQLFeatureNotSupportedException | AbstractMethodError e) {
+      try {
+        return !connection.isClosed();
+      } catch (SQLException exception) {
+        return false;
+      }
+    } catch (SQLException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Closes a connection without throwing exception.
+   *
+   * @param connection The connection.
+   */
+  private static void closeQuietly(Connection connection) {
+    try {
+      connection.close();
+    } catch (SQLException e) {
+      // The connection is discarded
+    }
+  }
+
+  /**
+   * Creates a proxy.
+   *
+   * @param type    The interface of the proxy.
+   * @param handler The handler of the proxy.
+   * @param <T>     The type of the proxy.
+   * @return The proxy.
+   */
+  private static <T> T newProxy(Class<T> type, InvocationHandler handler) {
+    return type.cast(Proxy.newProxyInstance(JdbcConnectionPool.class.getClassLoader(), new Class<?>[]{type}, handler));
+  }
+
+  /**
+   * Invokes a method on the physical object behind a proxy.
+   *
+   * @param target The physical object.
+   * @param method The method.
+   * @param args   The arguments.
+   * @return The result of the method.
+   * @throws Throwable The exception thrown by the method.
+   */
+  private static Object invokeOn(Object target, Method method, Object[] args) throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+
+  /**
+   * Returns the result of a method of {@link Object} called on a proxy.
+   *
+   * @param proxy  The proxy.
+   * @param method The method.
+   * @param args   The arguments.
+   * @param target The physical object.
+   * @return The result of the method.
+   */
+  private static Object invokeObjectMethod(Object proxy, Method method, Object[] args, Object target) {
+    if ("equals".equals(method.getName())) {
+      return proxy == args[0];
+    }
+    if ("hashCode".equals(method.getName())) {
+      return System.identityHashCode(proxy);
+    }
+    return "Pooled " + target;
+  }
+
+  /**
+   * Idle connection in the pool.
+   */
+  private static final class IdleConnection {
+
+    private final Connection connection;
+    private final ConnectionState state;
+    /**
+     * The time (in nanoseconds) when the connection was given back to the pool.
+     */
+    private final long releaseTime;
+
+    private IdleConnection(Connection connection, ConnectionState state, long releaseTime) {
+      this.connection = connection;
+      this.state = state;
+      this.releaseTime = releaseTime;
+    }
+  }
+
+  /**
+   * State of a connection which is restored when the connection is given back to the pool.
+   */
+  private static final class ConnectionState {
+
+    private final boolean autoCommit;
+    private final boolean readOnly;
+    private final int transactionIsolation;
+
+    private ConnectionState(Connection connection) throws SQLException {
+      autoCommit = connection.getAutoCommit();
+      readOnly = connection.isReadOnly();
+      transactionIsolation = connection.getTransactionIsolation();
+    }
+
+    private void restore(Connection connection) throws SQLException {
+      if (connection.getAutoCommit() != autoCommit) {
+        connection.setAutoCommit(autoCommit);
+      }
+      if (connection.isReadOnly() != readOnly) {
+        connection.setReadOnly(readOnly);
+      }
+      if (connection.getTransactionIsolation() != transactionIsolation) {
+        connection.setTransactionIsolation(transactionIsolation);
+      }
+    }
+  }
+
+  /**
+   * Handler of the proxy of a pooled connection.
+   */
+  private final class PooledConnectionHandler implements InvocationHandler {
+
+    private final Connection connection;
+    private final ConnectionState state;
+    /**
+     * The statements created from this connection and not closed yet.
+     */
+    private final Set<Statement> openStatements = Collections.newSetFromMap(new IdentityHashMap<>());
+    private volatile boolean closed;
+
+    private PooledConnectionHandler(Connection connection, ConnectionState state) {
+      this.connection = connection;
+      this.state = state;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      if (method.getDeclaringClass() == Object.class) {
+        return invokeObjectMethod(proxy, method, args, connection);
+      }
+      if (CLOSE_METHOD.equals(method)) {
+        if (!closed) {
+          closed = true;
+          closeStatements();
+          release(connection, state);
+        }
+        return null;
+      }
+      if (IS_CLOSED_METHOD.equals(method)) {
+        return closed || connection.isClosed();
+      }
+      checkNotClosed();
+      Object result = invokeOn(connection, method, args);
+      if (result instanceof Statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+        Statement statement = (Statement) result;
+        synchronized (openStatements) {
+          openStatements.add(statement);
+        }
+        return newProxy(method.getReturnType().asSubclass(Statement.class),
+                        new PooledStatementHandler((Connection) proxy, statement));
+      }
+      if (result instanceof DatabaseMetaData && method.getReturnType() == DatabaseMetaData.class) {
+        return newProxy(DatabaseMetaData.class, new PooledMetaDataHandler((Connection) proxy, (DatabaseMetaData) result));
+      }
+      return result;
+    }
+
+    /**
+     * Throws an exception if the connection is given back to the pool.
+     *
+     * @throws SQLException If the connection is closed.
+     */
+    private void checkNotClosed() throws SQLException {
+      if (closed) {
+        throw new SQLException("Connection is closed");
+      }
+    }
+
+    /**
+     * Closes the statements which are not closed by the user (so they are not kept by the next user of the connection).
+     */
+    private void closeStatements() {
+      List<Statement> statements;
+      synchronized (openStatements) {
+        statements = new ArrayList<>(openStatements);
+        openStatements.clear();
+      }
+      for (Statement statement : statements) {
+        try {
+          statement.close();
+        } catch (SQLException e) {
+          // The statement is discarded
+        }
+      }
+    }
+
+    /**
+     * Handler of the proxy of a statement of a pooled connection.
+     */
+    private final class PooledStatementHandler implements InvocationHandler {
+
+      private final Connection connectionProxy;
+      private final Statement statement;
+
+      private PooledStatementHandler(Connection connectionProxy, Statement statement) {
+        this.connectionProxy = connectionProxy;
+        this.statement = statement;
+      }
+
+      @Override
+      public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+          return invokeObjectMethod(proxy, method, args, statement);
+        }
+        if ("getConnection".equals(method.getName()) && method.getParameterCount() == 0) {
+          return connectionProxy;
+        }
+        if (STATEMENT_CLOSE_METHOD.equals(method)) {
+          synchronized (openStatements) {
+            openStatements.remove(statement);
+          }
+        }
+        Object result = invokeOn(statement, method, args);
+        if (result instanceof ResultSet && method.getReturnType() == ResultSet.class) {
+          return newProxy(ResultSet.class, new PooledResultSetHandler((Statement) proxy, (ResultSet) result));
+        }
+        return result;
+      }
+    }
+
+    /**
+     * Handler of the proxy of a result set of a pooled connection.
+     */
+    private final class PooledResultSetHandler implements InvocationHandler {
+
+      /**
+       * The proxy of the statement of the result set ({@code null} for the result sets of the database metadata).
+       */
+      private final Statement statementProxy;
+      private final ResultSet resultSet;
+
+      private PooledResultSetHandler(Statement statementProxy, ResultSet resultSet) {
+        this.statementProxy = statementProxy;
+        this.resultSet = resultSet;
+      }
+
+      @Override
+      public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+          return invokeObjectMethod(proxy, method, args, resultSet);
+        }
+        if ("getStatement".equals(method.getName()) && method.getParameterCount() == 0) {
+          return statementProxy;
+        }
+        return invokeOn(resultSet, method, args);
+      }
+    }
+
+    /**
+     * Handler of the proxy of the database metadata of a pooled connection.
+     */
+    private final class PooledMetaDataHandler implements InvocationHandler {
+
+      private final Connection connectionProxy;
+      private final DatabaseMetaData metaData;
+
+      private PooledMetaDataHandler(Connection connectionProxy, DatabaseMetaData metaData) {
+        this.connectionProxy = connectionProxy;
+        this.metaData = metaData;
+      }
+
+      @Override
+      public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+          return invokeObjectMethod(proxy, method, args, metaData);
+        }
+        if ("getConnection".equals(method.getName()) && method.getParameterCount() == 0) {
+          return connectionProxy;
+        }
+        checkNotClosed();
+        Object result = invokeOn(metaData, method, args);
+        if (result instanceof ResultSet && method.getReturnType() == ResultSet.class) {
+          return newProxy(ResultSet.class, new PooledResultSetHandler(null, (ResultSet) result));
+        }
+        return result;
+      }
+    }
+  }
+}
@@ -30,25 +30,68 @@ public class JdbcUrlConnectionProvider extends AbstractConnectionProvider {
   private final String url;
   private final String user;
   private final String password;
+  /**
+   * The pool of connections ({@code null} if a new connection is opened each time).
+   *
+   * @since 3.1.0
+   */
+  private final JdbcConnectionPool connectionPool;
 
   JdbcUrlConnectionProvider(String url, String user, String password,
                             Class<? extends SchemaMetadata> schemaMetadataType,
                             LetterCase tableLetterCase, LetterCase columnLetterCase, LetterCase primaryKeyLetterCase) {
 
+    this(url, user, password, null, schemaMetadataType, tableLetterCase, columnLetterCase, primaryKeyLetterCase);
+  }
+
+  JdbcUrlConnectionProvider(String url, String user, String password, JdbcConnectionPool connectionPool,
+                            Class<? extends SchemaMetadata> schemaMetadataType,
+                            LetterCase tableLetterCase, LetterCase columnLetterCase, LetterCase primaryKeyLetterCase) {
+
     super(schemaMetadataType, tableLetterCase, columnLetterCase, primaryKeyLetterCase);
     this.url = url;
     this.user = user;
     this.password = password;
+    this.connectionPool = connectionPool;
   }
 
   /**
    * {@inheritDoc}
+   * <p>
+   * If the provider is created with a pool, the connection comes from the pool and closing it gives it back to the pool.
+   * </p>
    */
   @Override
   public Connection getConnection() throws SQLException {
+    if (connectionPool != null) {
+      return connectionPool.getConnection();
+    }
     return DriverManager.getConnection(this.url, this.user, this.password);
   }
 
+  /**
+   * Closes the idle connections of the pool (if the provider is created with a pool).
+   *
+   * @since 3.1.0
+   */
+  public void closeIdleConnections() {
+    if (connectionPool != null) {
+      connectionPool.closeIdleConnections();
+    }
+  }
+
+  /**
+   * Closes the pool of connections (if the provider is created with a pool) : the idle connections are closed, the
+   * connections in use are closed when they are given back and no more connection can be obtained.
+   *
+   * @since 3.1.0
+   */
+  public void close() {
+    if (connectionPool != null) {
+      connectionPool.close();
+    }
+  }
+
   /**
    * {@inheritDoc}
    */
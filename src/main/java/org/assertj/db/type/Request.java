@@ -17,6 +17,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.SQLSyntaxErrorException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -173,6 +174,57 @@ public class Request extends AbstractDbData<Request> implements AssertProvider<R
     }
   }
 
+  /**
+   * Specific implementation of the counting for a {@code Request}.
+   * <p>
+   * The request is used as a sub-query of a {@code SELECT COUNT(*)} request. If the database refuses this request with
+   * a syntax error (for example because the request is not a {@code SELECT}), {@code -1} is returned so that the rows
+   * are loaded with the request itself. The other errors are thrown.
+   * </p>
+   *
+   * @param connection {@link Connection} to the database provided by {@link AbstractDbData#getNumberOfRows()} method.
+   * @return The number of rows or {@code -1} if the request can not be used as a sub-query.
+   * @throws NullPointerException If the {@link #request} field is {@code null}.
+   * @throws SQLException         SQL Exception.
+   * @see AbstractDbData#countImpl(Connection)
+   */
+  @Override
+  protected int countImpl(Connection connection) throws SQLException {
+    if (request == null) {
+      throw new NullPointerException("request can not be null");
+    }
+
+    String subQuery = request.trim();
+    while (subQuery.endsWith(";")) {
+      subQuery = subQuery.substring(0, subQuery.length() - 1).trim();
+    }
+    try (PreparedStatement statement = connection.prepareStatement("SELECT COUNT(*) FROM (" + subQuery + ") COUNTED")) {
+      for (int i = 0; i < parameters.length; i++) {
+        statement.setObject(i + 1, parameters[i]);
+      }
+      try (ResultSet resultSet = statement.executeQuery()) {
+        return getCount(resultSet);
+      }
+    } catch (SQLException e) {
+      if (isSyntaxError(e)) {
+        return -1;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Returns if an exception is a syntax error (or an access rule violation) : {@link SQLSyntaxErrorException} or
+   * SQLState of class {@code 42}.
+   *
+   * @param exception The exception.
+   * @return {@code true} if the exception is a syntax error.
+   */
+  private static boolean isSyntaxError(SQLException exception) {
+    String sqlState = exception.getSQLState();
+    return exception instanceof SQLSyntaxErrorException || (sqlState != null && sqlState.startsWith("42"));
+  }
+
   /**
    * Fluent {@link Request} builder.
    * Use {@link AssertDbConnection} to construct new instance of this builder.
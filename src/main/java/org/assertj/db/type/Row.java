@@ -18,7 +18,8 @@ import java.util.List;
 import org.assertj.db.type.lettercase.LetterCase;
 import org.assertj.db.type.lettercase.WithColumnLetterCase;
 import org.assertj.db.type.lettercase.WithPrimaryKeyLetterCase;
-import org.assertj.db.util.NameComparator;
+import org.assertj.db.util.NameIndex;
+import org.assertj.db.util.ValueEquality;
 import org.assertj.db.util.Values;
 
 /**
@@ -40,6 +41,12 @@ public class Row implements DbElement, WithColumnLetterCase, WithPrimaryKeyLette
    * The list of columns name.
    */
   private final List<String> columnsNameList;
+  /**
+   * The index of the columns name (shared by the rows of the same data, or {@code null} if it is not created yet).
+   *
+   * @since 3.1.0
+   */
+  private NameIndex columnsNameIndex;
   /**
    * The list of value.
    */
@@ -60,6 +67,12 @@ public class Row implements DbElement, WithColumnLetterCase, WithPrimaryKeyLette
    * List of the primary key names.
    */
   private List<String> pksNameList;
+  /**
+   * The indexes of the primary keys in the list of columns (or {@code null} if they are not computed yet).
+   *
+   * @since 3.1.0
+   */
+  private int[] pksIndexes;
 
   /**
    * Constructor of the row with visibility in the package.
@@ -80,6 +93,23 @@ public class Row implements DbElement, WithColumnLetterCase, WithPrimaryKeyLette
     this.primaryKeyLetterCase = primaryKeyLetterCase;
   }
 
+  /**
+   * Constructor of the row with visibility in the package and with the index of the columns name.
+   *
+   * @param pksNameList          The list of the primary keys name.
+   * @param columnsNameIndex     The index of the columns name (shared by the rows of the same data).
+   * @param valuesList           The values in the row.
+   * @param columnLetterCase     The letter case of the columns.
+   * @param primaryKeyLetterCase The letter case of the primary keys.
+   * @since 3.1.0
+   */
+  Row(List<String> pksNameList, NameIndex columnsNameIndex, List<Value> valuesList,
+      LetterCase columnLetterCase, LetterCase primaryKeyLetterCase) {
+
+    this(pksNameList, columnsNameIndex.getNamesList(), valuesList, columnLetterCase, primaryKeyLetterCase);
+    this.columnsNameIndex = columnsNameIndex;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -112,6 +142,46 @@ public class Row implements DbElement, WithColumnLetterCase, WithPrimaryKeyLette
    */
   void setPksNameList(List<String> pksNameList) {
     this.pksNameList = pksNameList;
+    this.pksIndexes = null;
+  }
+
+  /**
+   * Returns the indexes of the primary keys in the list of columns (they are computed only the first time).
+   *
+   * @return The indexes of the primary keys.
+   */
+  private int[] getPksIndexes() {
+    int[] indexes = pksIndexes;
+    if (indexes == null) {
+      if (pksNameList == null) {
+        indexes = new int[0];
+      } else {
+        indexes = new int[pksNameList.size()];
+        for (int index = 0; index < indexes.length; index++) {
+          indexes[index] = getColumnsNameIndex().indexOf(pksNameList.get(index), primaryKeyLetterCase);
+        }
+      }
+      pksIndexes = indexes;
+    }
+    return indexes;
+  }
+
+  /**
+   * Returns a new key to sort the row (with a copy of the objects of the values).
+   *
+   * @return The key to sort the row.
+   */
+  SortKey getSortKey() {
+    int[] indexes = getPksIndexes();
+    Object[] pksObjects = new Object[indexes.length];
+    for (int index = 0; index < indexes.length; index++) {
+      pksObjects[index] = getObject(indexes[index]);
+    }
+    Object[] objects = new Object[valuesList.size()];
+    for (int index = 0; index < objects.length; index++) {
+      objects[index] = getObject(index);
+    }
+    return new SortKey(this, pksObjects, objects);
   }
 
   /**
@@ -120,13 +190,10 @@ public class Row implements DbElement, WithColumnLetterCase, WithPrimaryKeyLette
    * @return The list of the primary keys value.
    */
   public List<Value> getPksValueList() {
-    List<Value> pksValueList = new ArrayList<>();
-    if (pksNameList != null) {
-      for (String name : pksNameList) {
-        int index = NameComparator.INSTANCE.indexOf(columnsNameList, name, primaryKeyLetterCase);
-        Value value = valuesList.get(index);
-        pksValueList.add(value);
-      }
+    int[] indexes = getPksIndexes();
+    List<Value> pksValueList = new ArrayList<>(indexes.length);
+    for (int index : indexes) {
+      pksValueList.add(valuesList.get(index));
     }
     return pksValueList;
   }
@@ -140,6 +207,21 @@ public class Row implements DbElement, WithColumnLetterCase, WithPrimaryKeyLette
     return columnsNameList;
   }
 
+  /**
+   * Returns the index of the columns name (it is created only the first time if it is not shared).
+   *
+   * @return The index of the columns name.
+   * @since 3.1.0
+   */
+  public NameIndex getColumnsNameIndex() {
+    NameIndex index = columnsNameIndex;
+    if (index == null) {
+      index = new NameIndex(columnsNameList);
+      columnsNameIndex = index;
+    }
+    return index;
+  }
+
   /**
    * Returns the list of the values for the data from database.
    *
@@ -155,15 +237,12 @@ public class Row implements DbElement, WithColumnLetterCase, WithPrimaryKeyLette
    * @return The primary keys value.
    */
   public Value[] getPksValues() {
-    List<Value> pksValuesList = new ArrayList<>();
-    if (pksNameList != null) {
-      for (String pkName : pksNameList) {
-        int index = NameComparator.INSTANCE.indexOf(columnsNameList, pkName, primaryKeyLetterCase);
-        Value value = valuesList.get(index);
-        pksValuesList.add(value);
-      }
+    int[] indexes = getPksIndexes();
+    Value[] pksValues = new Value[indexes.length];
+    for (int index = 0; index < indexes.length; index++) {
+      pksValues[index] = valuesList.get(indexes[index]);
     }
-    return pksValuesList.toArray(new Value[0]);
+    return pksValues;
   }
 
   /**
@@ -206,6 +285,71 @@ public class Row implements DbElement, WithColumnLetterCase, WithPrimaryKeyLette
     return true;
   }
 
+  /**
+   * Returns if the values of the {@code Row} are equal to the values of the {@code Row} in parameter, with the
+   * equalities resolved once for each column.
+   *
+   * @param row        The row to compare.
+   * @param equalities The equality of each column.
+   * @return {@code true} if the values are equal, {@code false} otherwise.
+   * @since 3.1.0
+   */
+  boolean hasValues(Row row, ValueEquality[] equalities) {
+    int size = valuesList.size();
+    for (int index = 0; index < size; index++) {
+      Object object = getObject(index);
+      Object rowObject = row.getObject(index);
+      Boolean equal = ValueEquality.areEqualWithoutConversion(object, rowObject);
+      if (equal == null) {
+        // The value is only created when it must be compared with conversions
+        Value value = valuesList.get(index);
+        equal = index < equalities.length ? equalities[index].areEqual(value, rowObject)
+                                          : Values.areEqual(value, rowObject);
+      }
+      if (!equal) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Returns the object of the value corresponding to the column index.
+   * <p>
+   * Unlike {@code getColumnValue(index).getValue()}, this method does not create a {@link Value} when the row is a view
+   * of a {@link ColumnarStore}.
+   * </p>
+   *
+   * @param index The index
+   * @return The object of the value.
+   * @since 3.1.0
+   */
+  Object getObject(int index) {
+    if (valuesList instanceof ColumnarStore.RowValues) {
+      return ((ColumnarStore.RowValues) valuesList).getObject(index);
+    }
+    return valuesList.get(index).getValue();
+  }
+
+  /**
+   * Returns the type of the value corresponding to the column index.
+   * <p>
+   * Unlike {@code getColumnValue(index).getValueType()}, this method does not create a {@link Value} when the row is a
+   * view of a {@link ColumnarStore}.
+   * </p>
+   *
+   * @param index The index
+   * @return The type of the value.
+   * @since 3.1.0
+   */
+  ValueType getValueType(int index) {
+    if (valuesList instanceof ColumnarStore.RowValues) {
+      return ((ColumnarStore.RowValues) valuesList).getValueType(index);
+    }
+    return valuesList.get(index).getValueType();
+  }
+
   /**
    * Returns the value corresponding to the column index.
    *
@@ -228,10 +372,102 @@ public class Row implements DbElement, WithColumnLetterCase, WithPrimaryKeyLette
       throw new NullPointerException("Column name must be not null");
     }
 
-    int index = NameComparator.INSTANCE.indexOf(columnsNameList, columnName, columnLetterCase);
+    int index = getColumnsNameIndex().indexOf(columnName, columnLetterCase);
     if (index == -1) {
       return null;
     }
     return getColumnValue(index);
   }
+
+  /**
+   * Key to sort the rows : the objects of the values of the primary keys then the objects of all the values.
+   * <p>
+   * The keys are only kept during the sort of the rows (see {@link AbstractDbData#sortRows()}), so the comparisons do
+   * not create any object. The {@code null} objects are after the other objects and the objects which are not
+   * {@link Comparable} are considered as equal (as with {@link org.assertj.db.util.RowComparator}).
+   * </p>
+   *
+   * @author Régis Pouiller
+   */
+  static final class SortKey implements Comparable<SortKey> {
+
+    /**
+     * The row.
+     */
+    private final Row row;
+    /**
+     * The objects of the values of the primary keys.
+     */
+    private final Object[] pksObjects;
+    /**
+     * The objects of all the values.
+     */
+    private final Object[] objects;
+
+    /**
+     * Constructor.
+     *
+     * @param row        The row.
+     * @param pksObjects The objects of the values of the primary keys.
+     * @param objects    The objects of all the values.
+     */
+    private SortKey(Row row, Object[] pksObjects, Object[] objects) {
+      this.row = row;
+      this.pksObjects = pksObjects;
+      this.objects = objects;
+    }
+
+    /**
+     * Returns the row.
+     *
+     * @return The row.
+     */
+    Row getRow() {
+      return row;
+    }
+
+    /**
+     * Compare one array of objects to another (the arrays with different lengths are equal).
+     *
+     * @param objects1 The first array of objects.
+     * @param objects2 The second array of objects.
+     * @return The result.
+     * @see Comparable#compareTo(Object)
+     */
+    private static int compare(Object[] objects1, Object[] objects2) {
+      if (objects1.length == objects2.length) {
+        for (int index = 0; index < objects1.length; index++) {
+          Object object1 = objects1[index];
+          Object object2 = objects2[index];
+          if (object1 == null && object2 != null) {
+            return 1;
+          }
+          if (object1 != null && object2 == null) {
+            return -1;
+          }
+          if (object1 instanceof Comparable && object2 instanceof Comparable) {
+            @SuppressWarnings("unchecked")
+            Comparable<Object> comparable1 = (Comparable<Object>) object1;
+            int compare = comparable1.compareTo(object2);
+            if (compare != 0) {
+              return compare;
+            }
+          }
+        }
+      }
+      return 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int compareTo(SortKey sortKey) {
+      int compare = compare(pksObjects, sortKey.pksObjects);
+      if (compare != 0) {
+        return compare;
+      }
+      return compare(objects, sortKey.objects);
+    }
+  }
 }
@@ -24,6 +24,15 @@ public enum SchemaMetaDataMode {
    * To use when database schema is not modified during tests.
    */
   STATIC(CachedSchemaMetaData.class),
+  /**
+   * Retrieve schema metadata once and keep in memory until the time to live is elapsed, an explicit invalidation (with
+   * {@link SchemaMetadata#invalidate(String)} or {@link SchemaMetadata#invalidateAll()}) or the start point of a
+   * {@link Changes} is set.
+   * To use when database schema is modified during tests (by a migration for example).
+   *
+   * @since 3.1.0
+   */
+  EXPIRING(ExpiringSchemaMetaData.class),
   /**
    * Retrieve schema metadata each time is required.
    * To use when database schema is modified during tests.
@@ -45,4 +45,24 @@ public interface SchemaMetadata {
    */
   Collection<String> getPrimaryKeys(String tableName);
 
+  /**
+   * Invalidate the metadata of a table which are kept in a cache (and the list of the tables).
+   * The metadata are discovered again at the next request.
+   * Do nothing if the implementation has no cache.
+   *
+   * @param tableName Name of the table to invalidate.
+   * @since 3.1.0
+   */
+  default void invalidate(String tableName) {
+  }
+
+  /**
+   * Invalidate all the metadata which are kept in a cache.
+   * The metadata are discovered again at the next request.
+   * Do nothing if the implementation has no cache.
+   *
+   * @since 3.1.0
+   */
+  default void invalidateAll() {
+  }
 }
@@ -0,0 +1,186 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2025 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * File which keeps the metadata of a schema between several JVM (the forks of a test suite for example).
+ * <p>
+ * The file contains the identity of the connection (the url and the user), a fingerprint of the schema (a hash of the
+ * names of the tables) and the metadata with the keys used by {@link CachedSchemaMetaData}. The metadata are read only
+ * if the identity and the fingerprint are the same : else the metadata are loaded from the database and the file is
+ * written again.<br>
+ * The fingerprint only depends on the names of the tables (got with one request, so checking the file costs less than
+ * loading the metadata) : the modification of the columns or of the primary keys of an existing table is not detected.
+ * The metadata must be invalidated in this case (with {@link AssertDbConnection#invalidateSchemaMetaData()}, the file
+ * is then written again) or the file deleted.
+ * </p>
+ *
+ * @author Julien Roy
+ * @since 3.1.0
+ */
+final class SchemaMetadataFile {
+
+  /**
+   * Version of the format of the file.
+   */
+  private static final int VERSION = 1;
+
+  /**
+   * The path of the file.
+   */
+  private final Path path;
+
+  /**
+   * Constructor.
+   *
+   * @param path The path of the file.
+   */
+  SchemaMetadataFile(Path path) {
+    this.path = path;
+  }
+
+  /**
+   * Returns the path of the file.
+   *
+   * @return The path of the file.
+   */
+  Path getPath() {
+    return path;
+  }
+
+  /**
+   * Returns the fingerprint of a schema.
+   *
+   * @param tablesName The names of the tables of the schema.
+   * @return The fingerprint.
+   */
+  static String getFingerprint(Collection<String> tablesName) {
+    List<String> sortedTablesName = new ArrayList<>(tablesName);
+    sortedTablesName.sort(null);
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      for (String tableName : sortedTablesName) {
+        digest.update(tableName.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+      }
+      StringBuilder fingerprint = new StringBuilder();
+      for (byte b : digest.digest()) {
+        fingerprint.append(String.format("%02x", b));
+      }
+      return fingerprint.toString();
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Reads the metadata in the file.
+   *
+   * @param identity    The identity of the connection.
+   * @param fingerprint The fingerprint of the schema.
+   * @return The metadata or {@code null} if the file does not exist, can not be read or is for an other identity or
+   * fingerprint.
+   */
+  Map<String, Collection<String>> read(String identity, String fingerprint) {
+    if (!Files.isRegularFile(path)) {
+      return null;
+    }
+    try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+      if (input.readInt() != VERSION || !identity.equals(input.readUTF()) || !fingerprint.equals(input.readUTF())) {
+        return null;
+      }
+      int size = input.readInt();
+      Map<String, Collection<String>> schemaMetadata = new HashMap<>(size * 2);
+      for (int index = 0; index < size; index++) {
+        String key = input.readUTF();
+        int valuesSize = input.readInt();
+        List<String> values = new ArrayList<>(valuesSize);
+        for (int valueIndex = 0; valueIndex < valuesSize; valueIndex++) {
+          values.add(input.readUTF());
+        }
+        schemaMetadata.put(key, values);
+      }
+      return schemaMetadata;
+    } catch (IOException | RuntimeException e) {
+      // A corrupted file is ignored : it will be written again
+      return null;
+    }
+  }
+
+  /**
+   * Writes the metadata in the file.
+   * <p>
+   * The metadata are written in a temporary file which is then moved : a concurrent reader never reads a partial file.
+   * If the file can not be written, nothing is done (the metadata will be loaded from the database next time).
+   * </p>
+   *
+   * @param identity       The identity of the connection.
+   * @param fingerprint    The fingerprint of the schema.
+   * @param schemaMetadata The metadata.
+   */
+  void write(String identity, String fingerprint, Map<String, Collection<String>> schemaMetadata) {
+    Path temporaryFile = null;
+    try {
+      Path directory = path.toAbsolutePath().getParent();
+      Files.createDirectories(directory);
+      temporaryFile = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+      try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+        output.writeInt(VERSION);
+        output.writeUTF(identity);
+        output.writeUTF(fingerprint);
+        output.writeInt(schemaMetadata.size());
+        for (Map.Entry<String, Collection<String>> entry : schemaMetadata.entrySet()) {
+          output.writeUTF(entry.getKey());
+          output.writeInt(entry.getValue().size());
+          for (String value : entry.getValue()) {
+            output.writeUTF(value);
+          }
+        }
+      }
+      try {
+        Files.move(temporaryFile, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temporaryFile, path, StandardCopyOption.REPLACE_EXISTING);
+      }
+      temporaryFile = null;
+    } catch (IOException | RuntimeException e) {
+      // The file is only an optimization : the metadata will be loaded from the database next time
+    } finally {
+      if (temporaryFile != null) {
+        try {
+          Files.deleteIfExists(temporaryFile);
+        } catch (IOException e) {
+          // Nothing more can be done
+        }
+      }
+    }
+  }
+}
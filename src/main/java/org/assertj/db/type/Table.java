@@ -14,12 +14,13 @@ package org.assertj.db.type;
 
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
-import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 
 import org.assertj.core.api.AssertProvider;
@@ -27,7 +28,7 @@ import org.assertj.db.api.Assertions;
 import org.assertj.db.api.TableAssert;
 import org.assertj.db.exception.AssertJDBException;
 import org.assertj.db.type.lettercase.LetterCase;
-import org.assertj.db.util.NameComparator;
+import org.assertj.db.util.NameIndex;
 
 /**
  * A table in the database to read to get the values.
@@ -86,6 +87,25 @@ public class Table extends AbstractDbData<Table> implements AssertProvider<Table
    * The list of columns of the table.
    */
   private List<String> columnsList;
+  /**
+   * The index of the columns of the table (or {@code null} if the columns are not set).
+   *
+   * @since 3.1.0
+   */
+  private NameIndex columnsIndex;
+  /**
+   * The primary keys of the table in the database (or {@code null} if they are not requested yet).
+   *
+   * @since 3.1.0
+   */
+  private Collection<String> primaryKeysList;
+  /**
+   * The generation of the {@link CachedSchemaMetaData} when the name and the columns are resolved (or {@code -1} if
+   * they are not resolved from a {@link SchemaMetaDataMode#STATIC} cache).
+   *
+   * @since 3.1.0
+   */
+  private long metaDataGeneration = -1;
   /**
    * The columns to check.
    */
@@ -100,6 +120,18 @@ public class Table extends AbstractDbData<Table> implements AssertProvider<Table
    * @since 1.2.0
    */
   private Order[] columnsToOrder;
+  /**
+   * The condition of the {@code WHERE} clause (or {@code null} if there is no condition).
+   *
+   * @since 3.1.0
+   */
+  private String whereCondition;
+  /**
+   * The parameters of the condition of the {@code WHERE} clause.
+   *
+   * @since 3.1.0
+   */
+  private Object[] whereParameters = new Object[0];
   /**
    * Start delimiter for column name and table name.
    *
@@ -126,10 +158,12 @@ public class Table extends AbstractDbData<Table> implements AssertProvider<Table
    *                           columns.
    * @param columnsToExclude   Array of the name of the columns to exclude. If {@code null} that means to exclude no
    *                           column.
+   * @param whereCondition     Condition of the {@code WHERE} clause. If {@code null} that means to get all the rows.
+   * @param whereParameters    Parameters of the condition of the {@code WHERE} clause.
    * @since 3.0.0
    */
   private Table(ConnectionProvider connectionProvider, String name, Character startDelimiter, Character endDelimiter, Order[] columnsToOrder,
-                String[] columnsToCheck, String[] columnsToExclude) {
+                String[] columnsToCheck, String[] columnsToExclude, String whereCondition, Object[] whereParameters) {
     super(Table.class, DataType.TABLE, connectionProvider);
     setName(name);
     setStartDelimiter(startDelimiter);
@@ -137,6 +171,33 @@ public class Table extends AbstractDbData<Table> implements AssertProvider<Table
     setColumnsToOrder(columnsToOrder);
     setColumnsToCheck(columnsToCheck);
     setColumnsToExclude(columnsToExclude);
+    setWhere(whereCondition, whereParameters);
+  }
+
+  /**
+   * Constructor which copies the information of a table without its rows.
+   * <p>
+   * The name, the columns and the primary keys already resolved from the metadata of the database are reused : the
+   * metadata are not requested again (the primary keys are requested by the copy if they are not resolved yet).
+   * </p>
+   *
+   * @param table The table to copy.
+   * @since 3.1.0
+   */
+  private Table(Table table) {
+    super(Table.class, DataType.TABLE, table.getConnectionProvider());
+    name = table.name;
+    columnsList = table.columnsList;
+    columnsIndex = table.columnsIndex;
+    primaryKeysList = table.primaryKeysList;
+    metaDataGeneration = table.metaDataGeneration;
+    startDelimiter = table.startDelimiter;
+    endDelimiter = table.endDelimiter;
+    columnsToOrder = table.columnsToOrder;
+    columnsToCheck = table.columnsToCheck;
+    columnsToExclude = table.columnsToExclude;
+    whereCondition = table.whereCondition;
+    whereParameters = table.whereParameters;
   }
 
   /**
@@ -146,6 +207,40 @@ public class Table extends AbstractDbData<Table> implements AssertProvider<Table
     super(Table.class, DataType.TABLE);
   }
 
+  /**
+   * Returns a copy of this table without its rows.
+   * <p>
+   * Unlike the {@link Table.Builder}, the copy does not request the metadata of the database (the name, the columns and
+   * the primary keys of this table are reused) : it must be used only if {@link #hasReusableMetaData()} returns
+   * {@code true} or if the copy is not loaded again (the {@link Changes} filtered from already computed changes).
+   * </p>
+   *
+   * @return The copy of this table.
+   * @since 3.1.0
+   */
+  Table duplicate() {
+    return new Table(this);
+  }
+
+  /**
+   * Indicates if the name, the columns and the primary keys resolved from the metadata can be reused by a copy.
+   * <p>
+   * They are reused only with the {@link SchemaMetaDataMode#STATIC} mode and if the metadata are not invalidated since
+   * they were resolved. With the other modes, the metadata can change so they must be resolved again.
+   * </p>
+   *
+   * @return {@code true} if the metadata can be reused.
+   * @since 3.1.0
+   */
+  boolean hasReusableMetaData() {
+    if (metaDataGeneration < 0) {
+      return false;
+    }
+    SchemaMetadata metaData = getMetaData();
+    return metaData.getClass() == CachedSchemaMetaData.class
+           && ((CachedSchemaMetaData) metaData).getGeneration() == metaDataGeneration;
+  }
+
   /**
    * Return the name of the table.
    *
@@ -181,6 +276,9 @@ public class Table extends AbstractDbData<Table> implements AssertProvider<Table
       LetterCase tableLetterCase = getTableLetterCase();
       LetterCase columnLetterCase = getColumnLetterCase();
       SchemaMetadata metaData = getMetaData();
+      if (metaData.getClass() == CachedSchemaMetaData.class) {
+        metaDataGeneration = ((CachedSchemaMetaData) metaData).getGeneration();
+      }
       for (String tableName : metaData.getTablesName()) {
         if (tableLetterCase.isEqual(tableName, name)) {
           name = tableLetterCase.convert(tableName);
@@ -192,6 +290,7 @@ public class Table extends AbstractDbData<Table> implements AssertProvider<Table
       for (String column : metaData.getColumnsName(name)) {
         columnsList.add(columnLetterCase.convert(column));
       }
+      columnsIndex = new NameIndex(columnsList);
     }
   }
 
@@ -235,7 +334,7 @@ public class Table extends AbstractDbData<Table> implements AssertProvider<Table
       if (column == null) {
         throw new NullPointerException("The name of the column can not be null");
       }
-      int indexOf = NameComparator.INSTANCE.indexOf(columnsList, column, letterCase);
+      int indexOf = columnsIndex.indexOf(column, letterCase);
       if (indexOf != -1) {
         columnsToCheckList.add(columnsList.get(indexOf));
       }
@@ -281,7 +380,7 @@ public class Table extends AbstractDbData<Table> implements AssertProvider<Table
       if (column == null) {
         throw new NullPointerException("The name of the column can not be null");
       }
-      int indexOf = NameComparator.INSTANCE.indexOf(columnsList, column, letterCase);
+      int indexOf = columnsIndex.indexOf(column, letterCase);
       if (indexOf != -1) {
         columnsToExcludeList.add(columnsList.get(indexOf));
       }
@@ -331,7 +430,7 @@ public class Table extends AbstractDbData<Table> implements AssertProvider<Table
       if (column == null) {
         throw new NullPointerException("The name of the column for order can not be null");
       }
-      int indexOf = NameComparator.INSTANCE.indexOf(columnsList, column, letterCase);
+      int indexOf = columnsIndex.indexOf(column, letterCase);
       if (indexOf != -1) {
         String columnName = columnsList.get(indexOf);
         columnsToOrderList.add(Order.getOrder(columnName, order.getType()));
@@ -341,6 +440,44 @@ public class Table extends AbstractDbData<Table> implements AssertProvider<Table
     return this;
   }
 
+  /**
+   * Returns the condition of the {@code WHERE} clause.
+   *
+   * @return The condition of the {@code WHERE} clause. If {@code null} that means to get all the rows.
+   * @see #setWhere(String, Object[])
+   * @since 3.1.0
+   */
+  public String getWhereCondition() {
+    return whereCondition;
+  }
+
+  /**
+   * Returns the parameters of the condition of the {@code WHERE} clause.
+   *
+   * @return The parameters of the condition of the {@code WHERE} clause.
+   * @see #setWhere(String, Object[])
+   * @since 3.1.0
+   */
+  public Object[] getWhereParameters() {
+    return whereParameters.clone();
+  }
+
+  /**
+   * Sets the condition of the {@code WHERE} clause and its parameters.
+   *
+   * @param whereCondition  The condition of the {@code WHERE} clause. If {@code null} that means to get all the rows.
+   * @param whereParameters The parameters of the condition of the {@code WHERE} clause.
+   * @return The actual instance.
+   * @see #getWhereCondition()
+   * @see #getWhereParameters()
+   * @since 3.1.0
+   */
+  private Table setWhere(String whereCondition, Object[] whereParameters) {
+    this.whereCondition = whereCondition;
+    this.whereParameters = whereParameters == null ? new Object[0] : whereParameters.clone();
+    return this;
+  }
+
   /**
    * Returns the start delimiter for column name and table name.
    *
@@ -433,6 +570,7 @@ public class Table extends AbstractDbData<Table> implements AssertProvider<Table
     }
     stringBuilder.append(" FROM ");
     stringBuilder.append(encode(name));
+    appendWhere(stringBuilder);
     if (columnsToOrder != null) {
       for (int index = 0; index < columnsToOrder.length; index++) {
         if (index == 0) {
@@ -449,6 +587,69 @@ public class Table extends AbstractDbData<Table> implements AssertProvider<Table
     return stringBuilder.toString();
   }
 
+  /**
+   * Returns the SQL request used to load the rows.
+   * <p>
+   * If there is no columns to order, the request is {@link #getRequest()} with an {@code ORDER BY} on the primary keys
+   * of the table : the database can return the rows in the order of the primary keys index, so most of the time the
+   * rows do not need to be sorted in memory.
+   * </p>
+   *
+   * @return The SQL request used to load the rows.
+   * @since 3.1.0
+   */
+  private String getLoadingRequest() {
+    String request = getRequest();
+    Collection<String> primaryKeys = getPrimaryKeysList();
+    if (columnsToOrder != null || primaryKeys == null || primaryKeys.isEmpty()) {
+      return request;
+    }
+
+    StringBuilder stringBuilder = new StringBuilder(request);
+    LetterCase letterCase = getPrimaryKeyLetterCase();
+    for (String primaryKey : primaryKeys) {
+      if (!columnsIndex.contains(primaryKey, letterCase)) {
+        return request;
+      }
+      stringBuilder.append(stringBuilder.length() == request.length() ? " ORDER BY " : ", ");
+      stringBuilder.append(encode(primaryKey));
+    }
+    return stringBuilder.toString();
+  }
+
+  /**
+   * Appends the {@code WHERE} clause (if there is a condition) to the request.
+   *
+   * @param stringBuilder The request.
+   */
+  private void appendWhere(StringBuilder stringBuilder) {
+    if (whereCondition != null) {
+      stringBuilder.append(" WHERE ");
+      stringBuilder.append(whereCondition);
+    }
+  }
+
+  /**
+   * Prepares a statement with the parameters of the condition of the {@code WHERE} clause.
+   *
+   * @param connection The {@link Connection} to the database.
+   * @param request    The SQL request.
+   * @return The statement.
+   * @throws SQLException SQL Exception.
+   */
+  private PreparedStatement prepareStatement(Connection connection, String request) throws SQLException {
+    PreparedStatement statement = connection.prepareStatement(request);
+    try {
+      for (int i = 0; i < whereParameters.length; i++) {
+        statement.setObject(i + 1, whereParameters[i]);
+      }
+    } catch (SQLException e) {
+      statement.close();
+      throw e;
+    }
+    return statement;
+  }
+
   /**
    * Collects the columns name from the {@code ResultSet} on the table.
    * <p>
@@ -463,15 +664,14 @@ public class Table extends AbstractDbData<Table> implements AssertProvider<Table
     LetterCase letterCase = getColumnLetterCase();
     ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
     List<String> columnsNameList = new ArrayList<>();
-    List<String> columnsToExcludeList = null;
+    NameIndex columnsToExcludeIndex = null;
     if (columnsToExclude != null) {
-      columnsToExcludeList = Arrays.asList(columnsToExclude);
+      columnsToExcludeIndex = new NameIndex(Arrays.asList(columnsToExclude));
     }
 
     for (int i = 1; i <= resultSetMetaData.getColumnCount(); i++) {
       String columnName = letterCase.convert(resultSetMetaData.getColumnLabel(i));
-      if (columnsToExcludeList == null
-        || !NameComparator.INSTANCE.contains(columnsToExcludeList, columnName, letterCase)) {
+      if (columnsToExcludeIndex == null || !columnsToExcludeIndex.contains(columnName, letterCase)) {
 
         columnsNameList.add(columnName);
       }
@@ -479,6 +679,29 @@ public class Table extends AbstractDbData<Table> implements AssertProvider<Table
     setColumnsNameList(columnsNameList);
   }
 
+  /**
+   * Returns the primary keys of the table in the database (they are requested from the metadata only the first time).
+   *
+   * @return The primary keys of the table in the database.
+   * @since 3.1.0
+   */
+  private Collection<String> getPrimaryKeysList() {
+    if (primaryKeysList == null && getConnectionProvider() != null) {
+      SchemaMetadata metaData = getMetaData();
+
+      String tableName = name;
+      LetterCase letterCase = getTableLetterCase();
+      for (String tableResult : metaData.getTablesName()) {
+        if (letterCase.isEqual(tableName, tableResult)) {
+          tableName = tableResult;
+          break;
+        }
+      }
+      primaryKeysList = new ArrayList<>(metaData.getPrimaryKeys(tableName));
+    }
+    return primaryKeysList;
+  }
+
   /**
    * Collects the primary key name from the {@code Connection} to the database.
    * <p>
@@ -488,20 +711,11 @@ public class Table extends AbstractDbData<Table> implements AssertProvider<Table
    */
   private void collectPrimaryKeyName() {
     List<String> pksNameList = new ArrayList<>();
-    SchemaMetadata metaData = getMetaData();
-
-    String tableName = name;
-    LetterCase letterCase = getTableLetterCase();
-    for (String tableResult : metaData.getTablesName()) {
-      if (letterCase.isEqual(tableName, tableResult)) {
-        tableName = tableResult;
-        break;
-      }
-    }
 
     LetterCase pkLetterCase = getPrimaryKeyLetterCase();
-    for (String primaryKey : metaData.getPrimaryKeys(tableName)) {
-      if (NameComparator.INSTANCE.contains(getColumnsNameList(), primaryKey, pkLetterCase)) {
+    NameIndex columnsNameIndex = getColumnsNameIndex();
+    for (String primaryKey : getPrimaryKeysList()) {
+      if (columnsNameIndex.contains(primaryKey, pkLetterCase)) {
         String pkName = pkLetterCase.convert(primaryKey);
         pksNameList.add(pkName);
       }
@@ -524,8 +738,8 @@ public class Table extends AbstractDbData<Table> implements AssertProvider<Table
       throw new NullPointerException("name can not be null");
     }
 
-    try (Statement statement = connection.createStatement()) {
-      try (ResultSet resultSet = statement.executeQuery(getRequest())) {
+    try (PreparedStatement statement = prepareStatement(connection, getLoadingRequest())) {
+      try (ResultSet resultSet = statement.executeQuery()) {
         collectColumnsNameFromResultSet(resultSet);
         collectRowsFromResultSet(resultSet);
       }
@@ -536,6 +750,31 @@ public class Table extends AbstractDbData<Table> implements AssertProvider<Table
     }
   }
 
+  /**
+   * Specific implementation of the counting for a {@code Table}.
+   *
+   * @param connection {@link Connection} to the database provided by {@link AbstractDbData#getNumberOfRows()} method.
+   * @return The number of rows.
+   * @throws NullPointerException If the {@link #name} field is {@code null}.
+   * @throws SQLException         SQL Exception.
+   * @see AbstractDbData#countImpl(Connection)
+   */
+  @Override
+  protected int countImpl(Connection connection) throws SQLException {
+    if (name == null) {
+      throw new NullPointerException("name can not be null");
+    }
+
+    StringBuilder stringBuilder = new StringBuilder("SELECT COUNT(*) FROM ");
+    stringBuilder.append(encode(name));
+    appendWhere(stringBuilder);
+    try (PreparedStatement statement = prepareStatement(connection, stringBuilder.toString())) {
+      try (ResultSet resultSet = statement.executeQuery()) {
+        return getCount(resultSet);
+      }
+    }
+  }
+
   /**
    * Fluent {@link Table} builder.
    * Use {@link AssertDbConnection} to construct new instance of this builder.
@@ -544,6 +783,7 @@ public class Table extends AbstractDbData<Table> implements AssertProvider<Table
    * AssertDbConnection connection = ....;
    * Table table = connection.table(&quot;movie&quot;).build();
    * Table table2 = connection.table(&quot;movie&quot;).columnToCheck(new String[] { &quot;number&quot;, &quot;title&quot; }).build();
+   * Table table3 = connection.table(&quot;movie&quot;).where(&quot;year &gt; ?&quot;, 2000).build();
    * </code>
    * </pre>
    *
@@ -558,6 +798,8 @@ public class Table extends AbstractDbData<Table> implements AssertProvider<Table
     private Character endDelimiter;
     private String[] columnsToCheck;
     private String[] columnsToExclude;
+    private String whereCondition;
+    private Object[] whereParameters = new Object[0];
 
     Builder(ConnectionProvider connectionProvider, String name) {
       this.connectionProvider = connectionProvider;
@@ -610,13 +852,32 @@ public class Table extends AbstractDbData<Table> implements AssertProvider<Table
       return this;
     }
 
+    /**
+     * Set the condition of the {@code WHERE} clause to get only some rows of the table.
+     * <p>
+     * The condition is added to the SQL queries and the parameters are bound with a {@link PreparedStatement}.
+     * </p>
+     *
+     * @param whereCondition  Condition of the {@code WHERE} clause (with {@code ?} for the parameters). If {@code null}
+     *                        that means to get all the rows.
+     * @param whereParameters List of the parameters of the condition.
+     * @return Current builder instance.
+     * @since 3.1.0
+     */
+    public Builder where(String whereCondition, Object... whereParameters) {
+      this.whereCondition = whereCondition;
+      this.whereParameters = whereParameters == null ? new Object[0] : whereParameters.clone();
+      return this;
+    }
+
     /**
      * Build the Table instance.
      *
      * @return Table instance to use in assertThat.
      */
     public Table build() {
-      return new Table(this.connectionProvider, this.name, this.startDelimiter, this.endDelimiter, this.columnsToOrder, this.columnsToCheck, this.columnsToExclude);
+      return new Table(this.connectionProvider, this.name, this.startDelimiter, this.endDelimiter, this.columnsToOrder, this.columnsToCheck, this.columnsToExclude,
+        this.whereCondition, this.whereParameters);
     }
   }
 
@@ -25,20 +25,6 @@ import java.util.Calendar;
  */
 public class TimeValue implements Comparable<TimeValue> {
 
-  /**
-   * Indicates where there are the digits for {@code String} for {@link TimeValue#TimeValue(String)}.
-   */
-  private static final String TIME_FORMAT = "\\d\\d:\\d\\d";
-  /**
-   * Indicates where there are the digits in style with seconds for {@code String} for
-   * {@link TimeValue#TimeValue(String)}.
-   */
-  private static final String TIME_FORMAT_WITH_SECONDS = "\\d\\d:\\d\\d:\\d\\d";
-  /**
-   * Indicates where there are the digits in style with nanoseconds for {@code String} for
-   * {@link TimeValue#TimeValue(String)}.
-   */
-  private static final String TIME_FORMAT_WITH_NANO = "\\d\\d:\\d\\d:\\d\\d.\\d\\d\\d\\d\\d\\d\\d\\d\\d";
   /**
    * Hours.
    */
@@ -105,21 +91,12 @@ public class TimeValue implements Comparable<TimeValue> {
       throw new NullPointerException("time should be not null");
     }
 
-    if (time.matches(TIME_FORMAT)) {
-      hours = Integer.parseInt(time.substring(0, 2));
-      minutes = Integer.parseInt(time.substring(3));
-      seconds = 0;
-      nanoSeconds = 0;
-    } else if (time.matches(TIME_FORMAT_WITH_SECONDS)) {
-      hours = Integer.parseInt(time.substring(0, 2));
-      minutes = Integer.parseInt(time.substring(3, 5));
-      seconds = Integer.parseInt(time.substring(6));
-      nanoSeconds = 0;
-    } else if (time.matches(TIME_FORMAT_WITH_NANO)) {
-      hours = Integer.parseInt(time.substring(0, 2));
-      minutes = Integer.parseInt(time.substring(3, 5));
-      seconds = Integer.parseInt(time.substring(6, 8));
-      nanoSeconds = Integer.parseInt(time.substring(9));
+    int length = time.length();
+    if (DateTimeStrings.isTime(time, 0, length)) {
+      hours = DateTimeStrings.parseDigits(time, 0, 2);
+      minutes = DateTimeStrings.parseDigits(time, 3, 5);
+      seconds = length >= DateTimeStrings.TIME_WITH_SECONDS_LENGTH ? DateTimeStrings.parseDigits(time, 6, 8) : 0;
+      nanoSeconds = length == DateTimeStrings.TIME_WITH_NANO_LENGTH ? DateTimeStrings.parseDigits(time, 9, 18) : 0;
     } else {
       throw new ParseException("time must respect hh:mm, hh:mm:ss or hh:mm:ss.nnnnnnnnn format", time.length());
     }
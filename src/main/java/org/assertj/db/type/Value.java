@@ -68,6 +68,26 @@ public class Value implements DbElement, WithColumnLetterCase {
     valueType = getType(value);
   }
 
+  /**
+   * Constructor with the type of the values of the column.
+   * <p>
+   * The type of the column is used for the value (which is not classified) if the value is not {@code null} and if the
+   * type of the column is identified.
+   * </p>
+   *
+   * @param columnName       The name of the column.
+   * @param value            The value.
+   * @param columnValueType  The type which is common to the values of the column ({@code null} if unknown).
+   * @param columnLetterCase The letter case of the columns.
+   * @see ColumnType#getValueType()
+   */
+  Value(String columnName, Object value, ValueType columnValueType, LetterCase columnLetterCase) {
+    this.columnName = columnName;
+    this.value = value;
+    this.columnLetterCase = columnLetterCase;
+    valueType = getType(value, columnValueType);
+  }
+
   /**
    * Returns a NULL value.
    *
@@ -79,6 +99,22 @@ public class Value implements DbElement, WithColumnLetterCase {
     return new Value(columnName, null, columnLetterCase);
   }
 
+  /**
+   * Returns the type of the actual value (data) with the type of the values of the column : the type of the column is
+   * used if the value is not {@code null} and if the type of the column is identified.
+   *
+   * @param object          The actual object contained in the value.
+   * @param columnValueType The type which is common to the values of the column ({@code null} if unknown).
+   * @return The type of the actual value
+   * @since 3.1.0
+   */
+  static ValueType getType(Object object, ValueType columnValueType) {
+    if (object != null && columnValueType != null && columnValueType != ValueType.NOT_IDENTIFIED) {
+      return columnValueType;
+    }
+    return getType(object);
+  }
+
   /**
    * Returns the type of the actual value (data).
    *
@@ -126,6 +162,40 @@ public class Value implements DbElement, WithColumnLetterCase {
     return ValueType.NOT_IDENTIFIED;
   }
 
+  /**
+   * Returns the type which is common to a type and to the type of the value in parameter.
+   * <p>
+   * This method is used to find the type of the values in a column : a {@code null} value has no incidence on the type.
+   * </p>
+   *
+   * @param type  The type common to the previous values ({@code null} if there are no previous values).
+   * @param value The value.
+   * @return The common type ({@link ValueType#NOT_IDENTIFIED} if the types are different).
+   */
+  static ValueType getCommonType(ValueType type, Value value) {
+    if (value.value == null) {
+      return type;
+    }
+    return getCommonType(type, value.valueType);
+  }
+
+  /**
+   * Returns the type which is common to two types.
+   *
+   * @param type      The type common to the previous values ({@code null} if there are no previous values).
+   * @param otherType The other type ({@code null} if there are no other values).
+   * @return The common type ({@link ValueType#NOT_IDENTIFIED} if the types are different).
+   */
+  static ValueType getCommonType(ValueType type, ValueType otherType) {
+    if (type == null || type == otherType) {
+      return otherType;
+    }
+    if (otherType == null) {
+      return type;
+    }
+    return ValueType.NOT_IDENTIFIED;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -93,6 +93,16 @@ public class LetterCase implements CaseConversion, CaseComparison {
     return letterCase;
   }
 
+  /**
+   * Returns the comparison on {@link java.lang.String} which consider the case.
+   *
+   * @return The comparison.
+   * @since 3.1.0
+   */
+  public CaseComparison getComparison() {
+    return comparison;
+  }
+
   /**
    * {@inheritDoc}
    */
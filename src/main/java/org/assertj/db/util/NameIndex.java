@@ -0,0 +1,185 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2025 the original author or authors.
+ */
+package org.assertj.db.util;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.assertj.db.type.lettercase.CaseComparison;
+import org.assertj.db.type.lettercase.CaseComparisons;
+import org.assertj.db.type.lettercase.LetterCase;
+
+/**
+ * Index of a list of names.
+ * <p>
+ * The index of a name is found without comparing the name with each name of the list when the comparison is one of the
+ * {@link CaseComparisons} (or a {@link LetterCase} with one of them) : the names are kept in a map with a key
+ * normalized for the comparison. This map is created at the first search with the comparison. With an other
+ * comparison, the names of the list are compared one by one like with {@link NameComparator}.
+ * </p>
+ * <p>
+ * The index is immutable : it can be shared by all the rows (and the changes) with the same list of names.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 3.1.0
+ */
+public final class NameIndex {
+
+  /**
+   * The list of the names.
+   */
+  private final List<String> namesList;
+  /**
+   * The indexes of the names by name (or {@code null} if they are not computed yet).
+   */
+  private volatile Map<String, Integer> indexesByName;
+  /**
+   * The indexes of the names by name ignoring the case (or {@code null} if they are not computed yet).
+   */
+  private volatile Map<String, Integer> indexesByNameIgnoringCase;
+
+  /**
+   * Constructor.
+   *
+   * @param namesList The list of the names.
+   * @throws NullPointerException If {@code namesList} is {@code null}.
+   */
+  public NameIndex(List<String> namesList) {
+    if (namesList == null) {
+      throw new NullPointerException("The list of names must be not null");
+    }
+    this.namesList = namesList;
+  }
+
+  /**
+   * Returns the list of the names.
+   *
+   * @return The list of the names.
+   */
+  public List<String> getNamesList() {
+    return namesList;
+  }
+
+  /**
+   * Returns if the list contains {@code name} by comparing using {@code comparison}.
+   *
+   * @param name       The name to search.
+   * @param comparison Case comparison to compare the name.
+   * @return The result.
+   */
+  public boolean contains(String name, CaseComparison comparison) {
+    return indexOf(name, comparison) != -1;
+  }
+
+  /**
+   * Returns the index of {@code name} in the list by comparing using {@code comparison}.
+   *
+   * @param name       The name to search.
+   * @param comparison Case comparison to compare the name.
+   * @return The index of the first name equal to {@code name} (or {@code -1} if there is no equal name).
+   */
+  public int indexOf(String name, CaseComparison comparison) {
+    CaseComparison caseComparison = comparison;
+    if (caseComparison instanceof LetterCase) {
+      caseComparison = ((LetterCase) caseComparison).getComparison();
+    }
+    if (name != null) {
+      if (caseComparison == CaseComparisons.STRICT) {
+        return getIndex(getIndexesByName(), name);
+      }
+      if (caseComparison == CaseComparisons.IGNORE) {
+        return getIndex(getIndexesByNameIgnoringCase(), toKeyIgnoringCase(name));
+      }
+    }
+    return NameComparator.INSTANCE.indexOf(namesList, name, comparison);
+  }
+
+  /**
+   * Returns the index of a key in the map.
+   *
+   * @param indexes The map of the indexes.
+   * @param key     The key.
+   * @return The index (or {@code -1} if the key is not in the map).
+   */
+  private static int getIndex(Map<String, Integer> indexes, String key) {
+    Integer index = indexes.get(key);
+    if (index == null) {
+      return -1;
+    }
+    return index;
+  }
+
+  /**
+   * Returns the indexes of the names by name (they are computed only the first time).
+   *
+   * @return The indexes of the names.
+   */
+  private Map<String, Integer> getIndexesByName() {
+    Map<String, Integer> indexes = indexesByName;
+    if (indexes == null) {
+      indexes = createIndexes(false);
+      indexesByName = indexes;
+    }
+    return indexes;
+  }
+
+  /**
+   * Returns the indexes of the names by name ignoring the case (they are computed only the first time).
+   *
+   * @return The indexes of the names.
+   */
+  private Map<String, Integer> getIndexesByNameIgnoringCase() {
+    Map<String, Integer> indexes = indexesByNameIgnoringCase;
+    if (indexes == null) {
+      indexes = createIndexes(true);
+      indexesByNameIgnoringCase = indexes;
+    }
+    return indexes;
+  }
+
+  /**
+   * Creates the indexes of the names (only the first index is kept when several names are equal).
+   *
+   * @param ignoringCase {@code true} if the case is ignored.
+   * @return The indexes of the names.
+   */
+  private Map<String, Integer> createIndexes(boolean ignoringCase) {
+    Map<String, Integer> indexes = new HashMap<>();
+    int index = 0;
+    for (String name : namesList) {
+      if (name != null) {
+        indexes.putIfAbsent(ignoringCase ? toKeyIgnoringCase(name) : name, index);
+      }
+      index++;
+    }
+    return Collections.unmodifiableMap(indexes);
+  }
+
+  /**
+   * Returns the key of a name ignoring the case : two names have the same key if they are equal with
+   * {@link String#equalsIgnoreCase(String)}.
+   *
+   * @param name The name.
+   * @return The key.
+   */
+  private static String toKeyIgnoringCase(String name) {
+    char[] chars = name.toCharArray();
+    for (int index = 0; index < chars.length; index++) {
+      chars[index] = Character.toLowerCase(Character.toUpperCase(chars[index]));
+    }
+    return new String(chars);
+  }
+}
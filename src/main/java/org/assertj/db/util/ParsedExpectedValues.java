@@ -0,0 +1,79 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2025 the original author or authors.
+ */
+package org.assertj.db.util;
+
+import java.text.ParseException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.assertj.db.type.DateTimeValue;
+import org.assertj.db.type.TimeValue;
+
+/**
+ * Expected values parsed from their {@code String} representation.
+ * <p>
+ * An instance is created for an assertion which compares many values with the same expected {@code String}
+ * representations : each representation is parsed only once during the assertion. The instance is not thread safe and
+ * must not be kept after the assertion.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 3.1.0
+ */
+public final class ParsedExpectedValues {
+
+  /**
+   * The date/time values by representation.
+   */
+  private final Map<String, DateTimeValue> dateTimeValues = new HashMap<>();
+  /**
+   * The time values by representation.
+   */
+  private final Map<String, TimeValue> timeValues = new HashMap<>();
+
+  /**
+   * Returns the date/time value of a representation (parsed only the first time).
+   *
+   * @param expected The representation.
+   * @return The date/time value.
+   * @throws NullPointerException If {@code expected} is {@code null}.
+   * @throws ParseException       If {@code expected} is not a representation of a date/time.
+   * @see DateTimeValue#parse(String)
+   */
+  public DateTimeValue getDateTimeValue(String expected) throws ParseException {
+    DateTimeValue dateTimeValue = dateTimeValues.get(expected);
+    if (dateTimeValue == null) {
+      dateTimeValue = DateTimeValue.parse(expected);
+      dateTimeValues.put(expected, dateTimeValue);
+    }
+    return dateTimeValue;
+  }
+
+  /**
+   * Returns the time value of a representation (parsed only the first time).
+   *
+   * @param expected The representation.
+   * @return The time value.
+   * @throws NullPointerException If {@code expected} is {@code null}.
+   * @throws ParseException       If {@code expected} is not a representation of a time.
+   * @see TimeValue#parse(String)
+   */
+  public TimeValue getTimeValue(String expected) throws ParseException {
+    TimeValue timeValue = timeValues.get(expected);
+    if (timeValue == null) {
+      timeValue = TimeValue.parse(expected);
+      timeValues.put(expected, timeValue);
+    }
+    return timeValue;
+  }
+}
@@ -0,0 +1,428 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2025 the original author or authors.
+ */
+package org.assertj.db.util;
+
+import java.sql.Array;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.assertj.db.type.DateTimeValue;
+import org.assertj.db.type.DateValue;
+import org.assertj.db.type.TimeValue;
+import org.assertj.db.type.Value;
+import org.assertj.db.type.ValueType;
+
+/**
+ * Equality of a value with an object, specialized for a type of value.
+ * <p>
+ * The equality is resolved once for a column (for example with {@link #of(List)}) and then used for all the values of
+ * the column : the comparison of each value does not have to browse all the types of value. If a value has an other
+ * type than the type of the equality (a {@code null} value for example), the equality of its type is used, so the
+ * result is always the same as {@link Values#areEqual(Value, Object)}.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 3.1.0
+ */
+public enum ValueEquality {
+
+  /**
+   * Equality of a {@link ValueType#BYTES} value.
+   */
+  BYTES(ValueType.BYTES),
+  /**
+   * Equality of a {@link ValueType#BOOLEAN} value.
+   */
+  BOOLEAN(ValueType.BOOLEAN),
+  /**
+   * Equality of a {@link ValueType#TEXT} value.
+   */
+  TEXT(ValueType.TEXT),
+  /**
+   * Equality of a {@link ValueType#DATE} value.
+   */
+  DATE(ValueType.DATE),
+  /**
+   * Equality of a {@link ValueType#TIME} value.
+   */
+  TIME(ValueType.TIME),
+  /**
+   * Equality of a {@link ValueType#DATE_TIME} value.
+   */
+  DATE_TIME(ValueType.DATE_TIME),
+  /**
+   * Equality of a {@link ValueType#NUMBER} value.
+   */
+  NUMBER(ValueType.NUMBER),
+  /**
+   * Equality of a {@link ValueType#UUID} value.
+   */
+  UUID(ValueType.UUID),
+  /**
+   * Equality of a {@link ValueType#ARRAY} value.
+   */
+  ARRAY(ValueType.ARRAY),
+  /**
+   * Equality of a {@link ValueType#NOT_IDENTIFIED} value (including the {@code null} values).
+   */
+  NOT_IDENTIFIED(ValueType.NOT_IDENTIFIED);
+
+  /**
+   * The type of value.
+   */
+  private final ValueType valueType;
+
+  /**
+   * Constructor.
+   *
+   * @param valueType The type of value.
+   */
+  ValueEquality(ValueType valueType) {
+    this.valueType = valueType;
+  }
+
+  /**
+   * Returns the type of value of this equality.
+   *
+   * @return The type of value.
+   */
+  public ValueType getValueType() {
+    return valueType;
+  }
+
+  /**
+   * Returns the equality of a type of value.
+   *
+   * @param valueType The type of value.
+   * @return The equality.
+   */
+  public static ValueEquality of(ValueType valueType) {
+    switch (valueType) {
+      case BYTES:
+        return BYTES;
+      case BOOLEAN:
+        return BOOLEAN;
+      case TEXT:
+        return TEXT;
+      case DATE:
+        return DATE;
+      case TIME:
+        return TIME;
+      case DATE_TIME:
+        return DATE_TIME;
+      case NUMBER:
+        return NUMBER;
+      case UUID:
+        return UUID;
+      case ARRAY:
+        return ARRAY;
+
+      default:
+        return NOT_IDENTIFIED;
+    }
+  }
+
+  /**
+   * Returns the equality of the values of a column : the equality of the type of the values which are not
+   * {@code null} ({@link #NOT_IDENTIFIED} if there are several types).
+   *
+   * @param valuesList The values of the column.
+   * @return The equality.
+   */
+  public static ValueEquality of(List<Value> valuesList) {
+    ValueType type = null;
+    for (Value value : valuesList) {
+      if (value.getValue() != null) {
+        if (type == null) {
+          type = value.getValueType();
+        } else if (type != value.getValueType()) {
+          return NOT_IDENTIFIED;
+        }
+      }
+    }
+    if (type == null) {
+      return NOT_IDENTIFIED;
+    }
+    return of(type);
+  }
+
+  /**
+   * Returns if the value is equal to another value in parameter.
+   *
+   * @param value    The value.
+   * @param expected The other value to compare.
+   * @return {@code true} if the value is equal to the value in parameter, {@code false} otherwise.
+   * @see Values#areEqual(Value, Object)
+   */
+  public boolean areEqual(Value value, Object expected) {
+    ValueType type = value.getValueType();
+    if (type != valueType) {
+      return of(type).isEqual(value, expected);
+    }
+    return isEqual(value, expected);
+  }
+
+  /**
+   * Returns if an object is equal to another object of the same class, when they can be compared without conversion
+   * (the {@code String}, {@code Integer}, {@code Long} and {@code Double} objects) or when one of them is
+   * {@code null} (a {@code null} object is only equal to {@code null}).
+   * <p>
+   * The result is the same as {@link Values#areEqual(Value, Object)} with a value containing the object, but no
+   * {@link Value} is needed.
+   * </p>
+   *
+   * @param object   The object.
+   * @param expected The other object to compare.
+   * @return {@code Boolean.TRUE} or {@code Boolean.FALSE} if the objects can be compared without conversion,
+   * {@code null} otherwise (the objects must be compared with {@link #areEqual(Value, Object)}).
+   */
+  public static Boolean areEqualWithoutConversion(Object object, Object expected) {
+    if (object == null || expected == null) {
+      return object == expected;
+    }
+    if (object.getClass() != expected.getClass()) {
+      return null;
+    }
+    if (object instanceof String) {
+      return object.equals(expected);
+    } else if (object instanceof Integer) {
+      return ((Integer) object).intValue() == ((Integer) expected).intValue();
+    } else if (object instanceof Long) {
+      return ((Long) object).longValue() == ((Long) expected).longValue();
+    } else if (object instanceof Double) {
+      // Not Double.equals : NaN is not equal to itself and 0.0 is equal to -0.0 in the comparisons
+      return ((Double) object).doubleValue() == ((Double) expected).doubleValue();
+    }
+    return null;
+  }
+
+  /**
+   * Returns if the value (of the type of this equality) is equal to another value in parameter.
+   * <p>
+   * The equalities have no specific body : this method is not overridden, so its call is not dispatched between the
+   * equalities and each type is compared by a static method (which can be inlined).
+   * </p>
+   *
+   * @param value    The value.
+   * @param expected The other value to compare.
+   * @return {@code true} if the value is equal to the value in parameter, {@code false} otherwise.
+   */
+  boolean isEqual(Value value, Object expected) {
+    switch (this) {
+      case BYTES:
+        return isEqualBytes(value, expected);
+      case BOOLEAN:
+        return isEqualBoolean(value, expected);
+      case TEXT:
+        return isEqualText(value, expected);
+      case DATE:
+        return isEqualDate(value, expected);
+      case TIME:
+        return isEqualTime(value, expected);
+      case DATE_TIME:
+        return isEqualDateTime(value, expected);
+      case NUMBER:
+        return isEqualNumber(value, expected);
+      case UUID:
+        return isEqualUuid(value, expected);
+      case ARRAY:
+        return isEqualArray(value, expected);
+
+      default:
+        return isEqualNotIdentified(value, expected);
+    }
+  }
+
+  /**
+   * Returns if the {@link ValueType#BYTES} value is equal to another value in parameter.
+   *
+   * @param value    The value.
+   * @param expected The other value to compare.
+   * @return {@code true} if the value is equal to the value in parameter, {@code false} otherwise.
+   */
+  private static boolean isEqualBytes(Value value, Object expected) {
+    if (expected instanceof byte[]) {
+      return Values.areEqual(value, (byte[]) expected);
+    }
+    return false;
+  }
+
+  /**
+   * Returns if the {@link ValueType#BOOLEAN} value is equal to another value in parameter.
+   *
+   * @param value    The value.
+   * @param expected The other value to compare.
+   * @return {@code true} if the value is equal to the value in parameter, {@code false} otherwise.
+   */
+  private static boolean isEqualBoolean(Value value, Object expected) {
+    if (expected instanceof Boolean) {
+      return Values.areEqual(value, (Boolean) expected);
+    }
+    return false;
+  }
+
+  /**
+   * Returns if the {@link ValueType#TEXT} value is equal to another value in parameter.
+   *
+   * @param value    The value.
+   * @param expected The other value to compare.
+   * @return {@code true} if the value is equal to the value in parameter, {@code false} otherwise.
+   */
+  private static boolean isEqualText(Value value, Object expected) {
+    Boolean equal = areEqualWithoutConversion(value.getValue(), expected);
+    if (equal != null) {
+      return equal;
+    } else if (expected instanceof String) {
+      return Values.areEqual(value, (String) expected);
+    } else if (expected instanceof Character) {
+      return Values.areEqual(value, (Character) expected);
+    }
+    return false;
+  }
+
+  /**
+   * Returns if the {@link ValueType#DATE} value is equal to another value in parameter.
+   *
+   * @param value    The value.
+   * @param expected The other value to compare.
+   * @return {@code true} if the value is equal to the value in parameter, {@code false} otherwise.
+   */
+  private static boolean isEqualDate(Value value, Object expected) {
+    if (expected instanceof DateValue) {
+      return Values.areEqual(value, (DateValue) expected);
+    } else if (expected instanceof String) {
+      return Values.areEqual(value, (String) expected);
+    } else if (expected instanceof Date) {
+      return Values.areEqual(value, DateValue.from((Date) expected));
+    } else if (expected instanceof LocalDate) {
+      return Values.areEqual(value, DateValue.from((LocalDate) expected));
+    }
+    return false;
+  }
+
+  /**
+   * Returns if the {@link ValueType#TIME} value is equal to another value in parameter.
+   *
+   * @param value    The value.
+   * @param expected The other value to compare.
+   * @return {@code true} if the value is equal to the value in parameter, {@code false} otherwise.
+   */
+  private static boolean isEqualTime(Value value, Object expected) {
+    if (expected instanceof TimeValue) {
+      return Values.areEqual(value, (TimeValue) expected);
+    } else if (expected instanceof String) {
+      return Values.areEqual(value, (String) expected);
+    } else if (expected instanceof Time) {
+      return Values.areEqual(value, TimeValue.from((Time) expected));
+    } else if (expected instanceof LocalTime) {
+      return Values.areEqual(value, TimeValue.from((LocalTime) expected));
+    }
+    return false;
+  }
+
+  /**
+   * Returns if the {@link ValueType#DATE_TIME} value is equal to another value in parameter.
+   *
+   * @param value    The value.
+   * @param expected The other value to compare.
+   * @return {@code true} if the value is equal to the value in parameter, {@code false} otherwise.
+   */
+  private static boolean isEqualDateTime(Value value, Object expected) {
+    if (expected instanceof DateTimeValue) {
+      return Values.areEqual(value, (DateTimeValue) expected);
+    } else if (expected instanceof DateValue) {
+      return Values.areEqual(value, (DateValue) expected);
+    } else if (expected instanceof String) {
+      return Values.areEqual(value, (String) expected);
+    } else if (expected instanceof Timestamp) {
+      return Values.areEqual(value, DateTimeValue.from((Timestamp) expected));
+    } else if (expected instanceof LocalDateTime) {
+      return Values.areEqual(value, DateTimeValue.from((LocalDateTime) expected));
+    } else if (expected instanceof LocalDate) {
+      return Values.areEqual(value, DateValue.from((LocalDate) expected));
+    }
+    return false;
+  }
+
+  /**
+   * Returns if the {@link ValueType#NUMBER} value is equal to another value in parameter.
+   *
+   * @param value    The value.
+   * @param expected The other value to compare.
+   * @return {@code true} if the value is equal to the value in parameter, {@code false} otherwise.
+   */
+  private static boolean isEqualNumber(Value value, Object expected) {
+    Boolean equal = areEqualWithoutConversion(value.getValue(), expected);
+    if (equal != null) {
+      return equal;
+    } else if (expected instanceof Number) {
+      return Values.areEqual(value, (Number) expected);
+    } else if (expected instanceof String) {
+      return Values.areEqual(value, (String) expected);
+    }
+    return false;
+  }
+
+  /**
+   * Returns if the {@link ValueType#UUID} value is equal to another value in parameter.
+   *
+   * @param value    The value.
+   * @param expected The other value to compare.
+   * @return {@code true} if the value is equal to the value in parameter, {@code false} otherwise.
+   */
+  private static boolean isEqualUuid(Value value, Object expected) {
+    if (expected instanceof java.util.UUID) {
+      return Values.areEqual(value, (java.util.UUID) expected);
+    } else if (expected instanceof String) {
+      return Values.areEqual(value, (String) expected);
+    }
+    return false;
+  }
+
+  /**
+   * Returns if the {@link ValueType#ARRAY} value is equal to another value in parameter.
+   *
+   * @param value    The value.
+   * @param expected The other value to compare.
+   * @return {@code true} if the value is equal to the value in parameter, {@code false} otherwise.
+   */
+  private static boolean isEqualArray(Value value, Object expected) {
+    if (expected instanceof Array) {
+      return Values.areEqual(value, (Array) expected);
+    }
+    return false;
+  }
+
+  /**
+   * Returns if the {@link ValueType#NOT_IDENTIFIED} value (or the {@code null} value) is equal to another value.
+   *
+   * @param value    The value.
+   * @param expected The other value to compare.
+   * @return {@code true} if the value is equal to the value in parameter, {@code false} otherwise.
+   */
+  private static boolean isEqualNotIdentified(Value value, Object expected) {
+    Object object = value.getValue();
+    if (expected == null && object == null) {
+      return true;
+    }
+    if (object != null) {
+      return object.equals(expected);
+    }
+    return false;
+  }
+}
@@ -0,0 +1,354 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2025 the original author or authors.
+ */
+package org.assertj.db.util;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.assertj.db.type.DateTimeValue;
+import org.assertj.db.type.DateValue;
+import org.assertj.db.type.TimeValue;
+import org.assertj.db.type.Value;
+import org.assertj.db.type.ValueType;
+
+/**
+ * Keys of the values for a kind of expected values.
+ * <p>
+ * Two keys are equal if and only if the value is equal to the expected value with {@code Values.areEqual} : the values
+ * of a column can be counted in a multiset of keys to verify in linear time that they contain the expected values
+ * (with {@link #containsAll(List, Object[])}). When the key of a value or of an expected value can not be found (for
+ * example with a {@code Float} which is compared with a loss of precision, or with a {@code String} which must be
+ * parsed), the comparison must be done with {@code Values.areEqual}.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 3.1.0
+ */
+public enum ValueKey {
+
+  /**
+   * Keys for {@code Boolean} expected values.
+   */
+  BOOLEAN {
+    @Override
+    Object getKey(Object object) {
+      return object;
+    }
+
+    @Override
+    Object getExpectedKey(Object expected) {
+      return expected instanceof Boolean ? expected : null;
+    }
+  },
+  /**
+   * Keys for {@code Number} expected values : the integral numbers, the {@code BigInteger} and the {@code BigDecimal}
+   * (the {@code Float} and the {@code Double} are not compared exactly).
+   */
+  NUMBER {
+    @Override
+    Object getKey(Object object) {
+      if (object instanceof Number) {
+        return getNumberKey(object);
+      }
+      return null;
+    }
+
+    @Override
+    Object getExpectedKey(Object expected) {
+      return getNumberKey(expected);
+    }
+
+    @Override
+    public boolean containsAll(List<Value> valuesList, Object[] expected) {
+      // A null value can not be compared to a BigInteger or a BigDecimal (and a BigDecimal to a BigInteger)
+      boolean withBigInteger = false;
+      boolean withBigDecimal = false;
+      for (Object object : expected) {
+        withBigInteger |= object instanceof BigInteger;
+        withBigDecimal |= object instanceof BigDecimal;
+      }
+      if (withBigInteger || withBigDecimal) {
+        for (Value value : valuesList) {
+          Object object = value.getValue();
+          if (object == null || (withBigInteger && object instanceof BigDecimal)) {
+            return false;
+          }
+        }
+      }
+      return super.containsAll(valuesList, expected);
+    }
+  },
+  /**
+   * Keys for arrays of {@code byte} expected values.
+   */
+  BYTES {
+    @Override
+    Object getKey(Object object) {
+      if (object instanceof byte[]) {
+        return ByteBuffer.wrap((byte[]) object);
+      }
+      return object;
+    }
+
+    @Override
+    Object getExpectedKey(Object expected) {
+      return expected instanceof byte[] ? ByteBuffer.wrap((byte[]) expected) : null;
+    }
+  },
+  /**
+   * Keys for {@code String} expected values (the numbers, the dates, the times and the UUIDs are compared after the
+   * parsing of the expected value, so they have no key).
+   */
+  TEXT {
+    @Override
+    Object getKey(Object object) {
+      if (object instanceof Number || object instanceof Date || object instanceof java.util.UUID) {
+        return null;
+      }
+      return object;
+    }
+
+    @Override
+    Object getExpectedKey(Object expected) {
+      return expected instanceof String ? expected : null;
+    }
+  },
+  /**
+   * Keys for {@code Character} expected values (a {@code String} value is compared with its first character).
+   */
+  CHARACTER {
+    @Override
+    Object getKey(Object object) {
+      if (object instanceof String) {
+        String text = (String) object;
+        return text.isEmpty() ? null : text.charAt(0);
+      }
+      return object;
+    }
+
+    @Override
+    Object getExpectedKey(Object expected) {
+      return expected instanceof Character ? expected : null;
+    }
+  },
+  /**
+   * Keys for {@code UUID} expected values.
+   */
+  UUID {
+    @Override
+    Object getKey(Object object) {
+      return object;
+    }
+
+    @Override
+    Object getExpectedKey(Object expected) {
+      return expected instanceof java.util.UUID ? expected : null;
+    }
+  },
+  /**
+   * Keys for {@link DateValue} and {@link DateTimeValue} expected values.
+   */
+  DATE_TIME {
+    @Override
+    Object getKey(Object object) {
+      if (object instanceof java.sql.Date) {
+        return DateTimeValue.of(DateValue.from((java.sql.Date) object));
+      } else if (object instanceof Timestamp) {
+        return DateTimeValue.from((Timestamp) object);
+      }
+      return object;
+    }
+
+    @Override
+    Object getExpectedKey(Object expected) {
+      if (expected instanceof DateValue) {
+        return DateTimeValue.of((DateValue) expected);
+      }
+      return expected instanceof DateTimeValue ? expected : null;
+    }
+  },
+  /**
+   * Keys for {@link TimeValue} expected values.
+   */
+  TIME {
+    @Override
+    Object getKey(Object object) {
+      if (object instanceof Time) {
+        return TimeValue.from((Time) object);
+      }
+      return object;
+    }
+
+    @Override
+    Object getExpectedKey(Object expected) {
+      return expected instanceof TimeValue ? expected : null;
+    }
+  };
+
+  /**
+   * The key of the {@code null} values.
+   */
+  private static final Object NULL_KEY = new Object();
+
+  /**
+   * Returns the key of a value of a column which is not {@code null}.
+   *
+   * @param object The value.
+   * @return The key, or {@code null} if the value has no key.
+   */
+  abstract Object getKey(Object object);
+
+  /**
+   * Returns the key of an expected value which is not {@code null}.
+   *
+   * @param expected The expected value.
+   * @return The key, or {@code null} if the expected value has no key.
+   */
+  abstract Object getExpectedKey(Object expected);
+
+  /**
+   * Returns the kind of keys which is common to expected values of different classes.
+   *
+   * @param expected The expected values.
+   * @return The kind of keys, or {@code null} if the expected values have no common kind of keys (or if they are all
+   * {@code null}).
+   */
+  public static ValueKey of(Object[] expected) {
+    ValueKey valueKey = null;
+    for (Object object : expected) {
+      if (object == null) {
+        continue;
+      }
+      ValueKey objectValueKey = ofExpected(object);
+      if (objectValueKey == null || (valueKey != null && valueKey != objectValueKey)) {
+        return null;
+      }
+      valueKey = objectValueKey;
+    }
+    return valueKey;
+  }
+
+  /**
+   * Returns the kind of keys of an expected value.
+   *
+   * @param expected The expected value (not {@code null}).
+   * @return The kind of keys, or {@code null} if there is no kind of keys for the class of the expected value.
+   */
+  private static ValueKey ofExpected(Object expected) {
+    if (expected instanceof Boolean) {
+      return BOOLEAN;
+    } else if (getNumberKey(expected) != null) {
+      return NUMBER;
+    } else if (expected instanceof byte[]) {
+      return BYTES;
+    } else if (expected instanceof String) {
+      return TEXT;
+    } else if (expected instanceof Character) {
+      return CHARACTER;
+    } else if (expected instanceof java.util.UUID) {
+      return UUID;
+    } else if (expected instanceof DateValue) {
+      // A DateTimeValue has no common kind : compared as an object, it is not equal to a date
+      return DATE_TIME;
+    } else if (expected instanceof TimeValue) {
+      return TIME;
+    }
+    return null;
+  }
+
+  /**
+   * Returns the key of a number which is compared exactly : a {@code Long} for an integer in the range of a
+   * {@code long}, otherwise a {@code BigDecimal} without trailing zeros.
+   *
+   * @param object The number.
+   * @return The key, or {@code null} if the number is not compared exactly ({@code Float}, {@code Double}...).
+   */
+  private static Object getNumberKey(Object object) {
+    if (object instanceof Long || object instanceof Integer || object instanceof Short || object instanceof Byte) {
+      return ((Number) object).longValue();
+    } else if (object instanceof BigInteger) {
+      BigInteger bigInteger = (BigInteger) object;
+      if (bigInteger.bitLength() < Long.SIZE) {
+        return bigInteger.longValue();
+      }
+      return new BigDecimal(bigInteger).stripTrailingZeros();
+    } else if (object instanceof BigDecimal) {
+      BigDecimal bigDecimal = (BigDecimal) object;
+      if (bigDecimal.signum() == 0) {
+        return 0L;
+      }
+      BigDecimal stripped = bigDecimal.stripTrailingZeros();
+      if (stripped.scale() <= 0) {
+        if (stripped.precision() - stripped.scale() < 19) {
+          return stripped.longValue();
+        }
+        BigInteger bigInteger = stripped.toBigInteger();
+        if (bigInteger.bitLength() < Long.SIZE) {
+          return bigInteger.longValue();
+        }
+      }
+      return stripped;
+    }
+    return null;
+  }
+
+  /**
+   * Returns if the values of a column contain all the expected values (each value is used only once).
+   * <p>
+   * The keys of the values are counted in a multiset, then the expected values are found in the multiset : the
+   * comparison is done in linear time.
+   * </p>
+   *
+   * @param valuesList The values of the column.
+   * @param expected   The expected values (as many as the values).
+   * @return {@code true} if the values contain all the expected values, {@code false} if an expected value is not
+   * contained or if a key can not be found (the comparison must then be done with {@code Values.areEqual}).
+   */
+  public boolean containsAll(List<Value> valuesList, Object[] expected) {
+    Map<Object, int[]> counts = new HashMap<>(valuesList.size() * 4 / 3 + 1);
+    for (Value value : valuesList) {
+      Object object = value.getValue();
+      Object key;
+      if (object == null) {
+        key = NULL_KEY;
+      } else if (value.getValueType() == ValueType.NOT_IDENTIFIED) {
+        return false;
+      } else {
+        key = getKey(object);
+        if (key == null) {
+          return false;
+        }
+      }
+      counts.computeIfAbsent(key, k -> new int[1])[0]++;
+    }
+    for (Object object : expected) {
+      Object key = object == null ? NULL_KEY : getExpectedKey(object);
+      if (key == null) {
+        return false;
+      }
+      int[] count = counts.get(key);
+      if (count == null || count[0] == 0) {
+        return false;
+      }
+      count[0]--;
+    }
+    return true;
+  }
+}
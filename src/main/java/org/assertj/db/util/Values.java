@@ -20,9 +20,6 @@ import java.sql.SQLException;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.text.ParseException;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.Arrays;
 import java.util.UUID;
 
@@ -56,82 +53,7 @@ public class Values {
    * @return {@code true} if the value is equal to the value in parameter, {@code false} otherwise.
    */
   public static boolean areEqual(Value value, Object expected) {
-    ValueType valueType = value.getValueType();
-    if (valueType == ValueType.BOOLEAN) {
-      if (expected instanceof Boolean) {
-        return areEqual(value, (Boolean) expected);
-      }
-    } else if (valueType == ValueType.NUMBER) {
-      if (expected instanceof Number) {
-        return areEqual(value, (Number) expected);
-      } else if (expected instanceof String) {
-        return areEqual(value, (String) expected);
-      }
-    } else if (valueType == ValueType.BYTES) {
-      if (expected instanceof byte[]) {
-        return areEqual(value, (byte[]) expected);
-      }
-    } else if (valueType == ValueType.TEXT) {
-      if (expected instanceof String) {
-        return areEqual(value, (String) expected);
-      } else if (expected instanceof Character) {
-        return areEqual(value, (Character) expected);
-      }
-    } else if (valueType == ValueType.UUID) {
-      if (expected instanceof UUID) {
-        return areEqual(value, (UUID) expected);
-      } else if (expected instanceof String) {
-        return areEqual(value, (String) expected);
-      }
-    } else if (valueType == ValueType.DATE) {
-      if (expected instanceof DateValue) {
-        return areEqual(value, (DateValue) expected);
-      } else if (expected instanceof String) {
-        return areEqual(value, (String) expected);
-      } else if (expected instanceof Date) {
-        return areEqual(value, DateValue.from((Date) expected));
-      } else if (expected instanceof LocalDate) {
-        return areEqual(value, DateValue.from((LocalDate) expected));
-      }
-    } else if (valueType == ValueType.TIME) {
-      if (expected instanceof TimeValue) {
-        return areEqual(value, (TimeValue) expected);
-      } else if (expected instanceof String) {
-        return areEqual(value, (String) expected);
-      } else if (expected instanceof Time) {
-        return areEqual(value, TimeValue.from((Time) expected));
-      } else if (expected instanceof LocalTime) {
-        return areEqual(value, TimeValue.from((LocalTime) expected));
-      }
-    } else if (valueType == ValueType.DATE_TIME) {
-      if (expected instanceof DateTimeValue) {
-        return areEqual(value, (DateTimeValue) expected);
-      } else if (expected instanceof DateValue) {
-        return areEqual(value, (DateValue) expected);
-      } else if (expected instanceof String) {
-        return areEqual(value, (String) expected);
-      } else if (expected instanceof Timestamp) {
-        return areEqual(value, DateTimeValue.from((Timestamp) expected));
-      } else if (expected instanceof LocalDateTime) {
-        return areEqual(value, DateTimeValue.from((LocalDateTime) expected));
-      } else if (expected instanceof LocalDate) {
-        return areEqual(value, DateValue.from((LocalDate) expected));
-      }
-    } else if (valueType == ValueType.ARRAY) {
-      if (expected instanceof Array) {
-        return areEqual(value, (Array) expected);
-      }
-    } else {
-      Object object = value.getValue();
-      if (expected == null && object == null) {
-        return true;
-      }
-      if (object != null) {
-        return object.equals(expected);
-      }
-    }
-
-    return false;
+    return ValueEquality.of(value.getValueType()).isEqual(value, expected);
   }
 
   /**
@@ -165,16 +87,15 @@ public class Values {
     // If parameter is a BigInteger,
     // change the actual in BigInteger to compare
     if (expected instanceof BigInteger) {
-      BigInteger bi;
+      if (isIntegral(object)) {
+        return compare(((Number) object).longValue(), (BigInteger) expected) == 0;
+      }
 
-      if (object instanceof BigInteger) {
-        bi = (BigInteger) object;
-      } else {
-        try {
-          bi = new BigInteger("" + object);
-        } catch (NumberFormatException e) {
-          throw new AssertJDBException("Expected <%s> can not be compared to a BigInteger (<%s>)", expected, object);
-        }
+      BigInteger bi;
+      try {
+        bi = toBigInteger(object);
+      } catch (NumberFormatException e) {
+        throw new AssertJDBException("Expected <%s> can not be compared to a BigInteger (<%s>)", expected, object);
       }
 
       return bi.compareTo((BigInteger) expected) == 0;
@@ -182,16 +103,18 @@ public class Values {
     // If parameter is a BigDecimal,
     // change the value in BigDecimal to compare
     else if (expected instanceof BigDecimal) {
-      BigDecimal bd;
+      if (isIntegral(object)) {
+        return compare(((Number) object).longValue(), (BigDecimal) expected) == 0;
+      }
 
-      if (object instanceof BigDecimal) {
-        bd = (BigDecimal) object;
-      } else {
-        try {
-          bd = new BigDecimal("" + object);
-        } catch (NumberFormatException e) {
-          throw new AssertJDBException("Expected <%s> can not be compared to a BigDecimal (<%s>)", expected, object);
+      BigDecimal bd;
+      try {
+        if (object instanceof Float || object instanceof Double) {
+          return compare((Number) object, (BigDecimal) expected) == 0;
         }
+        bd = toBigDecimal(object);
+      } catch (NumberFormatException e) {
+        throw new AssertJDBException("Expected <%s> can not be compared to a BigDecimal (<%s>)", expected, object);
       }
 
       return bd.compareTo((BigDecimal) expected) == 0;
@@ -202,8 +125,6 @@ public class Values {
     // else
     // get the value value in Long to compare
     else {
-      Long actualValue = null;
-
       if (object instanceof Float) {
         if (((Float) object) == expected.floatValue()) {
           return true;
@@ -213,26 +134,25 @@ public class Values {
           return true;
         }
       } else if (object instanceof BigInteger) {
-        BigInteger bi = new BigInteger("" + expected);
+        if (isIntegral(expected)) {
+          return compare(expected.longValue(), (BigInteger) object) == 0;
+        }
+        BigInteger bi = toBigInteger(expected);
         if (((BigInteger) object).compareTo(bi) == 0) {
           return true;
         }
       } else if (object instanceof BigDecimal) {
-        BigDecimal bd = new BigDecimal("" + expected);
+        if (isIntegral(expected)) {
+          return compare(expected.longValue(), (BigDecimal) object) == 0;
+        } else if (expected instanceof Float || expected instanceof Double) {
+          return compare(expected, (BigDecimal) object) == 0;
+        }
+        BigDecimal bd = toBigDecimal(expected);
         if (((BigDecimal) object).compareTo(bd) == 0) {
           return true;
         }
-      } else if (object instanceof Byte) {
-        actualValue = ((Byte) object).longValue();
-      } else if (object instanceof Short) {
-        actualValue = ((Short) object).longValue();
-      } else if (object instanceof Integer) {
-        actualValue = ((Integer) object).longValue();
-      } else if (object instanceof Long) {
-        actualValue = (Long) object;
-      }
-
-      if (actualValue != null) {
+      } else if (isIntegral(object)) {
+        long actualValue = ((Number) object).longValue();
         if (expected instanceof Float) {
           return actualValue == expected.floatValue();
         } else if (expected instanceof Double) {
@@ -274,18 +194,36 @@ public class Values {
     return false;
   }
 
+  /**
+   * Returns the date/time value of a {@code String} representation.
+   *
+   * @param expected             The {@code String} representation.
+   * @param parsedExpectedValues The expected values already parsed ({@code null} if there are no parsed values).
+   * @return The date/time value.
+   * @throws ParseException If {@code expected} is not a representation of a date/time.
+   */
+  private static DateTimeValue parseDateTimeValue(String expected, ParsedExpectedValues parsedExpectedValues)
+    throws ParseException {
+
+    if (parsedExpectedValues == null) {
+      return DateTimeValue.parse(expected);
+    }
+    return parsedExpectedValues.getDateTimeValue(expected);
+  }
+
   /**
    * Returns if the date is equal to the {@code String} representation in parameter.
    *
-   * @param date     The date.
-   * @param expected The {@code String} representation to compare.
+   * @param date                 The date.
+   * @param expected             The {@code String} representation to compare.
+   * @param parsedExpectedValues The expected values already parsed ({@code null} if there are no parsed values).
    * @return {@code true} if the date is equal to the {@code String} representation parameter, {@code false} otherwise.
    * @throws AssertJDBException If it is not possible to compare {@code date} to {@code expected}.
    */
-  private static boolean areEqual(Date date, String expected) {
+  private static boolean areEqual(Date date, String expected, ParsedExpectedValues parsedExpectedValues) {
     try {
       DateTimeValue dateTimeValue = DateTimeValue.of(DateValue.from(date));
-      DateTimeValue expectedDateTimeValue = DateTimeValue.parse(expected);
+      DateTimeValue expectedDateTimeValue = parseDateTimeValue(expected, parsedExpectedValues);
       if (dateTimeValue.equals(expectedDateTimeValue)) {
         return true;
       }
@@ -298,15 +236,17 @@ public class Values {
   /**
    * Returns if the time is equal to the {@code String} representation in parameter.
    *
-   * @param time     The time.
-   * @param expected The {@code String} representation to compare.
+   * @param time                 The time.
+   * @param expected             The {@code String} representation to compare.
+   * @param parsedExpectedValues The expected values already parsed ({@code null} if there are no parsed values).
    * @return {@code true} if the time is equal to the {@code String} representation parameter, {@code false} otherwise.
    * @throws AssertJDBException If it is not possible to compare {@code time} to {@code expected}.
    */
-  private static boolean areEqual(Time time, String expected) {
+  private static boolean areEqual(Time time, String expected, ParsedExpectedValues parsedExpectedValues) {
     try {
       TimeValue timeValue = TimeValue.from(time);
-      TimeValue expectedTimeValue = TimeValue.parse(expected);
+      TimeValue expectedTimeValue = parsedExpectedValues == null ? TimeValue.parse(expected)
+                                                                 : parsedExpectedValues.getTimeValue(expected);
       if (timeValue.equals(expectedTimeValue)) {
         return true;
       }
@@ -319,16 +259,17 @@ public class Values {
   /**
    * Returns if the timestamp is equal to the {@code String} representation in parameter.
    *
-   * @param timestamp The timestamp.
-   * @param expected  The {@code String} representation to compare.
+   * @param timestamp            The timestamp.
+   * @param expected             The {@code String} representation to compare.
+   * @param parsedExpectedValues The expected values already parsed ({@code null} if there are no parsed values).
    * @return {@code true} if the timestamp is equal to the {@code String} representation parameter, {@code false}
    * otherwise.
    * @throws AssertJDBException If it is not possible to compare {@code timestamp} to {@code expected}.
    */
-  private static boolean areEqual(Timestamp timestamp, String expected) {
+  private static boolean areEqual(Timestamp timestamp, String expected, ParsedExpectedValues parsedExpectedValues) {
     try {
       DateTimeValue dateTimeValue = DateTimeValue.from(timestamp);
-      DateTimeValue expectedDateTimeValue = DateTimeValue.parse(expected);
+      DateTimeValue expectedDateTimeValue = parseDateTimeValue(expected, parsedExpectedValues);
       if (dateTimeValue.equals(expectedDateTimeValue)) {
         return true;
       }
@@ -398,6 +339,23 @@ public class Values {
    *                              {@code expected}.
    */
   public static boolean areEqual(Value value, String expected) {
+    return areEqual(value, expected, null);
+  }
+
+  /**
+   * Returns if the value is equal to the {@code String} in parameter, with the expected values already parsed during
+   * the assertion.
+   *
+   * @param value                The value.
+   * @param expected             The {@code String} to compare.
+   * @param parsedExpectedValues The expected values already parsed ({@code null} if there are no parsed values).
+   * @return {@code true} if the value is equal to the {@code String} parameter, {@code false} otherwise.
+   * @throws NullPointerException if {@code expected} is {@code null}.
+   * @throws AssertJDBException   If {@code value} is a {@code Number} and it is not possible to compare to
+   *                              {@code expected}.
+   * @since 3.1.0
+   */
+  public static boolean areEqual(Value value, String expected, ParsedExpectedValues parsedExpectedValues) {
     Object object = value.getValue();
     if (expected == null) {
       return object == null;
@@ -406,11 +364,11 @@ public class Values {
     if (object instanceof Number) {
       return areEqual((Number) object, expected);
     } else if (object instanceof Date) {
-      return areEqual((Date) object, expected);
+      return areEqual((Date) object, expected, parsedExpectedValues);
     } else if (object instanceof Time) {
-      return areEqual((Time) object, expected);
+      return areEqual((Time) object, expected, parsedExpectedValues);
     } else if (object instanceof Timestamp) {
-      return areEqual((Timestamp) object, expected);
+      return areEqual((Timestamp) object, expected, parsedExpectedValues);
     } else if (object instanceof UUID) {
       return areEqual((UUID) object, expected);
     }
@@ -548,6 +506,57 @@ public class Values {
     return false;
   }
 
+  /**
+   * Returns a hash code for the value which is consistent with {@link #areEqual(Value, Object)}, except between a
+   * {@code Float} and a number of another class.
+   * <p>
+   * Two values of the same class which are equal according to {@link #areEqual(Value, Object)} have the same hash code.
+   * It is also the case for numbers of different classes (for example an {@code Integer} and a {@code BigDecimal}),
+   * because numbers are hashed on their {@code double} value. But a {@code Float} is compared to the other number
+   * narrowed to a {@code float} ({@code 0.1F} is equal to {@code 0.1D} while their {@code double} values are
+   * different) : an index on this hash code must not mix the {@code Float} with the other numbers.
+   * </p>
+   *
+   * @param value The value.
+   * @return The hash code.
+   * @since 3.1.0
+   */
+  public static int getHashCode(Value value) {
+    return getHashCode(value.getValue(), value.getValueType());
+  }
+
+  /**
+   * Returns a hash code for the object of a value, with the type of the value (the same as
+   * {@link #getHashCode(Value)} without a {@link Value}).
+   *
+   * @param object    The object of the value.
+   * @param valueType The type of the value.
+   * @return The hash code.
+   * @since 3.1.0
+   */
+  public static int getHashCode(Object object, ValueType valueType) {
+    if (object == null) {
+      return 0;
+    }
+    if (valueType == ValueType.NUMBER) {
+      double d = ((Number) object).doubleValue();
+      // 0.0 and -0.0 are equal in the comparisons
+      return d == 0 ? 0 : Double.hashCode(d);
+    } else if (valueType == ValueType.BYTES) {
+      return Arrays.hashCode((byte[]) object);
+    } else if (valueType == ValueType.DATE) {
+      return DateValue.from((Date) object).hashCode();
+    } else if (valueType == ValueType.TIME) {
+      return TimeValue.from((Time) object).hashCode();
+    } else if (valueType == ValueType.DATE_TIME) {
+      return DateTimeValue.from((Timestamp) object).hashCode();
+    } else if (valueType == ValueType.ARRAY) {
+      // The content of an array is only read in the comparison
+      return 0;
+    }
+    return object.hashCode();
+  }
+
   /**
    * Returns the result of the comparison between the value and the {@code Number} in parameter.
    *
@@ -561,16 +570,15 @@ public class Values {
     // If parameter is a BigInteger,
     // change the actual in BigInteger to compare
     if (expected instanceof BigInteger) {
-      BigInteger bi;
+      if (isIntegral(object)) {
+        return compare(((Number) object).longValue(), (BigInteger) expected);
+      }
 
-      if (object instanceof BigInteger) {
-        bi = (BigInteger) object;
-      } else {
-        try {
-          bi = new BigInteger("" + object);
-        } catch (NumberFormatException e) {
-          throw new AssertJDBException("Expected <%s> can not be compared to a BigInteger (<%s>)", expected, object);
-        }
+      BigInteger bi;
+      try {
+        bi = toBigInteger(object);
+      } catch (NumberFormatException e) {
+        throw new AssertJDBException("Expected <%s> can not be compared to a BigInteger (<%s>)", expected, object);
       }
 
       return bi.compareTo((BigInteger) expected);
@@ -578,16 +586,18 @@ public class Values {
     // If parameter is a BigDecimal,
     // change the value in BigDecimal to compare
     else if (expected instanceof BigDecimal) {
-      BigDecimal bd;
+      if (isIntegral(object)) {
+        return compare(((Number) object).longValue(), (BigDecimal) expected);
+      }
 
-      if (object instanceof BigDecimal) {
-        bd = (BigDecimal) object;
-      } else {
-        try {
-          bd = new BigDecimal("" + object);
-        } catch (NumberFormatException e) {
-          throw new AssertJDBException("Expected <%s> can not be compared to a BigDecimal (<%s>)", expected, object);
+      BigDecimal bd;
+      try {
+        if (object instanceof Float || object instanceof Double) {
+          return compare((Number) object, (BigDecimal) expected);
         }
+        bd = toBigDecimal(object);
+      } catch (NumberFormatException e) {
+        throw new AssertJDBException("Expected <%s> can not be compared to a BigDecimal (<%s>)", expected, object);
       }
 
       return bd.compareTo((BigDecimal) expected);
@@ -598,8 +608,6 @@ public class Values {
     // else
     // get the value value in Long to compare
     else {
-      Long actualValue = null;
-
       if (object instanceof Float) {
         float f = (Float) object;
         float expectedF = expected.floatValue();
@@ -609,22 +617,21 @@ public class Values {
         double expectedD = expected.doubleValue();
         return Double.compare(d, expectedD);
       } else if (object instanceof BigInteger) {
-        BigInteger bi = new BigInteger("" + expected);
+        if (isIntegral(expected)) {
+          return -compare(expected.longValue(), (BigInteger) object);
+        }
+        BigInteger bi = toBigInteger(expected);
         return ((BigInteger) object).compareTo(bi);
       } else if (object instanceof BigDecimal) {
-        BigDecimal bd = new BigDecimal("" + expected);
+        if (isIntegral(expected)) {
+          return -compare(expected.longValue(), (BigDecimal) object);
+        } else if (expected instanceof Float || expected instanceof Double) {
+          return -compare(expected, (BigDecimal) object);
+        }
+        BigDecimal bd = toBigDecimal(expected);
         return ((BigDecimal) object).compareTo(bd);
-      } else if (object instanceof Byte) {
-        actualValue = ((Byte) object).longValue();
-      } else if (object instanceof Short) {
-        actualValue = ((Short) object).longValue();
-      } else if (object instanceof Integer) {
-        actualValue = ((Integer) object).longValue();
-      } else if (object instanceof Long) {
-        actualValue = (Long) object;
-      }
-
-      if (actualValue != null) {
+      } else if (isIntegral(object)) {
+        long actualValue = ((Number) object).longValue();
         if (expected instanceof Float) {
           float expectedF = expected.floatValue();
           if (actualValue > expectedF) {
@@ -644,14 +651,7 @@ public class Values {
             return 0;
           }
         } else {
-          double expectedL = expected.longValue();
-          if (actualValue > expectedL) {
-            return 1;
-          } else if (actualValue < expectedL) {
-            return -1;
-          } else {
-            return 0;
-          }
+          return Long.compare(actualValue, expected.longValue());
         }
       }
     }
@@ -754,18 +754,13 @@ public class Values {
    */
   private static boolean isObjectCloseToBigInteger(Object object, BigInteger expected, Number tolerance) {
     BigInteger bi;
-
-    if (object instanceof BigInteger) {
-      bi = (BigInteger) object;
-    } else {
-      try {
-        bi = new BigInteger("" + object);
-      } catch (NumberFormatException e) {
-        throw new AssertJDBException("Expected <%s> can not be compared to a BigInteger (<%s>)", expected, object);
-      }
+    try {
+      bi = toBigInteger(object);
+    } catch (NumberFormatException e) {
+      throw new AssertJDBException("Expected <%s> can not be compared to a BigInteger (<%s>)", expected, object);
     }
 
-    BigInteger bigTolerance = new BigInteger("" + tolerance);
+    BigInteger bigTolerance = toBigInteger(tolerance);
     BigInteger bigMin = expected.subtract(bigTolerance);
     BigInteger bigMax = expected.add(bigTolerance);
     return bi.compareTo(bigMin) >= 0 && bi.compareTo(bigMax) <= 0;
@@ -781,18 +776,13 @@ public class Values {
    */
   private static boolean isObjectCloseToBigDecimal(Object object, BigDecimal expected, Number tolerance) {
     BigDecimal bd;
-
-    if (object instanceof BigDecimal) {
-      bd = (BigDecimal) object;
-    } else {
-      try {
-        bd = new BigDecimal("" + object);
-      } catch (NumberFormatException e) {
-        throw new AssertJDBException("Expected <%s> can not be compared to a BigDecimal (<%s>)", expected, object);
-      }
+    try {
+      bd = toBigDecimal(object);
+    } catch (NumberFormatException e) {
+      throw new AssertJDBException("Expected <%s> can not be compared to a BigDecimal (<%s>)", expected, object);
     }
 
-    BigDecimal bigTolerance = new BigDecimal("" + tolerance);
+    BigDecimal bigTolerance = toBigDecimal(tolerance);
     BigDecimal bigMin = expected.subtract(bigTolerance);
     BigDecimal bigMax = expected.add(bigTolerance);
     return bd.compareTo(bigMin) >= 0 && bd.compareTo(bigMax) <= 0;
@@ -835,8 +825,8 @@ public class Values {
    * @return {@code true} if the value is close to the {@code Number} parameter, {@code false} otherwise.
    */
   private static boolean isBigIntegerCloseToNumber(BigInteger nb, Number expected, Number tolerance) {
-    BigInteger bigExpected = new BigInteger("" + expected);
-    BigInteger bigTolerance = new BigInteger("" + tolerance);
+    BigInteger bigExpected = toBigInteger(expected);
+    BigInteger bigTolerance = toBigInteger(tolerance);
     BigInteger bigMin = bigExpected.subtract(bigTolerance);
     BigInteger bigMax = bigExpected.add(bigTolerance);
     return nb.compareTo(bigMin) >= 0 && nb.compareTo(bigMax) <= 0;
@@ -851,13 +841,135 @@ public class Values {
    * @return {@code true} if the value is close to the {@code Number} parameter, {@code false} otherwise.
    */
   private static boolean isBigDecimalCloseToNumber(BigDecimal nb, Number expected, Number tolerance) {
-    BigDecimal bigExpected = new BigDecimal("" + expected);
-    BigDecimal bigTolerance = new BigDecimal("" + tolerance);
+    BigDecimal bigExpected = toBigDecimal(expected);
+    BigDecimal bigTolerance = toBigDecimal(tolerance);
     BigDecimal bigMin = bigExpected.subtract(bigTolerance);
     BigDecimal bigMax = bigExpected.add(bigTolerance);
     return nb.compareTo(bigMin) >= 0 && nb.compareTo(bigMax) <= 0;
   }
 
+  /**
+   * Returns if the object is an integral number which can be read as a {@code long} without loss.
+   *
+   * @param object The object.
+   * @return {@code true} if the object is a {@code Byte}, a {@code Short}, an {@code Integer} or a {@code Long}.
+   */
+  private static boolean isIntegral(Object object) {
+    return object instanceof Long || object instanceof Integer || object instanceof Short || object instanceof Byte;
+  }
+
+  /**
+   * Returns the result of the comparison between a {@code long} and a {@code BigInteger} (without creating a
+   * {@code BigInteger} when the expected value is in the range of a {@code long}).
+   *
+   * @param actual   The {@code long}.
+   * @param expected The {@code BigInteger} to compare.
+   * @return {@code 0} if equal, {@code -1} if {@code actual} is less and {@code 1} if {@code actual} is greater.
+   */
+  private static int compare(long actual, BigInteger expected) {
+    if (expected.bitLength() < Long.SIZE) {
+      return Long.compare(actual, expected.longValue());
+    }
+    return -expected.signum();
+  }
+
+  /**
+   * Returns the result of the comparison between a {@code long} and a {@code BigDecimal} (without creating a
+   * {@code BigDecimal} when the expected value is an integer in the range of a {@code long}).
+   *
+   * @param actual   The {@code long}.
+   * @param expected The {@code BigDecimal} to compare.
+   * @return {@code 0} if equal, {@code -1} if {@code actual} is less and {@code 1} if {@code actual} is greater.
+   */
+  private static int compare(long actual, BigDecimal expected) {
+    if (expected.scale() <= 0 && expected.precision() - expected.scale() < 19) {
+      return Long.compare(actual, expected.longValue());
+    }
+    return BigDecimal.valueOf(actual).compareTo(expected);
+  }
+
+  /**
+   * Returns the result of the comparison between a {@code Float} or a {@code Double} and a {@code BigDecimal} : the
+   * result is the same as with the {@code BigDecimal} corresponding to the floating number (see
+   * {@link #toBigDecimal(Object)}), which is only created when the result can not be deduced from the
+   * {@code BigDecimal} rounded to the type of the floating number.
+   * <p>
+   * The rounding keeps the order and the representation of the floating number is rounded back to the floating number,
+   * so the floating number is less (or greater) than the {@code BigDecimal} when it is less (or greater) than the
+   * rounded {@code BigDecimal}. When they are equal after the rounding, they are equal if the {@code BigDecimal} has no
+   * more significant digits than the type distinguishes (6 for a {@code Float}, 15 for a {@code Double}) and if the
+   * floating number is a normal number (the subnormal numbers have less significant digits) : the {@code BigDecimal}
+   * is then the shortest representation of the floating number (which is the one of {@code toString} since Java 19,
+   * the previous versions give more digits for a few numbers like {@code 1.0E23}).
+   * </p>
+   *
+   * @param actual   The {@code Float} or the {@code Double}.
+   * @param expected The {@code BigDecimal} to compare.
+   * @return {@code 0} if equal, {@code -1} if {@code actual} is less and {@code 1} if {@code actual} is greater.
+   */
+  private static int compare(Number actual, BigDecimal expected) {
+    if (actual instanceof Float) {
+      float actualValue = (Float) actual;
+      if (Math.abs(actualValue) >= Float.MIN_NORMAL && Math.abs(actualValue) <= Float.MAX_VALUE) {
+        float expectedValue = expected.floatValue();
+        if (actualValue != expectedValue) {
+          return actualValue < expectedValue ? -1 : 1;
+        } else if (expected.precision() <= 6) {
+          return 0;
+        }
+      }
+    } else {
+      double actualValue = (Double) actual;
+      if (Math.abs(actualValue) >= Double.MIN_NORMAL && Math.abs(actualValue) <= Double.MAX_VALUE) {
+        double expectedValue = expected.doubleValue();
+        if (actualValue != expectedValue) {
+          return actualValue < expectedValue ? -1 : 1;
+        } else if (expected.precision() <= 15) {
+          return 0;
+        }
+      }
+    }
+    return toBigDecimal(actual).compareTo(expected);
+  }
+
+  /**
+   * Returns the {@code BigInteger} corresponding to the number (the {@code String} representation is only parsed when
+   * the number is not integral).
+   *
+   * @param object The number.
+   * @return The {@code BigInteger}.
+   * @throws NumberFormatException If the {@code String} representation is not an integer.
+   */
+  private static BigInteger toBigInteger(Object object) {
+    if (object instanceof BigInteger) {
+      return (BigInteger) object;
+    } else if (isIntegral(object)) {
+      return BigInteger.valueOf(((Number) object).longValue());
+    }
+    return new BigInteger("" + object);
+  }
+
+  /**
+   * Returns the {@code BigDecimal} corresponding to the number (the {@code String} representation is only parsed when
+   * the number is neither integral nor a {@code Double} : a {@code Float} keeps the precision of its representation).
+   *
+   * @param object The number.
+   * @return The {@code BigDecimal}.
+   * @throws NumberFormatException If the {@code String} representation is not a number.
+   */
+  private static BigDecimal toBigDecimal(Object object) {
+    if (object instanceof BigDecimal) {
+      return (BigDecimal) object;
+    } else if (isIntegral(object)) {
+      return BigDecimal.valueOf(((Number) object).longValue());
+    } else if (object instanceof Double) {
+      return BigDecimal.valueOf((Double) object);
+    } else if (object instanceof BigInteger) {
+      return new BigDecimal((BigInteger) object);
+    }
+    return new BigDecimal("" + object);
+  }
+
   /**
    * Returns the Long corresponding to object.
    *
@@ -1209,7 +1321,7 @@ public class Values {
    * @param expected The {@code Array} to compare.
    * @return {@code true} if the value's underlying array equals the {@code Array}'s underlying array, {@code false} otherwise.
    */
-  private static boolean areEqual(Value value, Array expected) {
+  static boolean areEqual(Value value, Array expected) {
       try {
           Array object = (Array) value.getValue();
           if (expected == null) {
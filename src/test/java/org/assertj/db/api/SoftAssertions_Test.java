@@ -15,6 +15,9 @@ package org.assertj.db.api;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.io.File;
+import java.lang.reflect.Modifier;
+
 import org.assertj.core.api.SoftAssertionError;
 import org.assertj.core.api.ThrowableAssert;
 import org.assertj.db.common.AbstractTest;
@@ -117,4 +120,78 @@ public class SoftAssertions_Test extends AbstractTest {
       }
     }).isInstanceOf(SoftAssertionError.class);
   }
+
+  /**
+   * This method tests that the proxy classes are generated once and that the errors are collected by their own soft
+   * assertions.
+   */
+  @Test
+  public void test_proxy_classes_shared_between_soft_assertions() {
+    Table table = assertDbConnection.table("test").build();
+    SoftAssertions softly1 = new SoftAssertions();
+    SoftAssertions softly2 = new SoftAssertions();
+    TableAssert tableAssert1 = softly1.assertThat(table);
+    TableAssert tableAssert2 = softly2.assertThat(table);
+    TableColumnValueAssert valueAssert1 = tableAssert1.column("var1").value();
+    TableColumnValueAssert valueAssert2 = tableAssert2.column("var1").value();
+
+    assertThat(tableAssert1.getClass()).isSameAs(tableAssert2.getClass());
+    assertThat(valueAssert1.getClass()).isSameAs(valueAssert2.getClass());
+
+    valueAssert1.isEqualTo(0);
+    valueAssert2.isEqualTo(1);
+    valueAssert2.isEqualTo(2);
+
+    assertThat(softly1.wasSuccess()).isFalse();
+    assertThat(softly1.errorsCollected()).hasSize(1);
+    assertThat(softly2.wasSuccess()).isFalse();
+    assertThat(softly2.errorsCollected()).hasSize(1);
+  }
+
+  /**
+   * This method tests that the proxy classes generated during the build exist for every concrete assertion of the
+   * package, that they are used for the assertions of AssertJ-DB and that the proxy classes of the other assertions are
+   * generated at runtime.
+   */
+  @Test
+  public void test_proxy_classes_generated_during_the_build() throws Exception {
+    Table table = assertDbConnection.table("test").build();
+    SoftAssertions softly = new SoftAssertions();
+    int numberOfAssertClasses = 0;
+    for (String fileName : new File(TableAssert.class.getResource("").toURI()).list()) {
+      if (fileName.endsWith("Assert.class") && !fileName.contains("$")) {
+        Class<?> assertClass = Class.forName(getClass().getPackage().getName() + "."
+                                             + fileName.substring(0, fileName.length() - ".class".length()));
+        if (!Modifier.isAbstract(assertClass.getModifiers())) {
+          assertThat(Class.forName(SoftProxies.getGeneratedProxyClassName(assertClass)).getSuperclass())
+            .isSameAs(assertClass);
+          numberOfAssertClasses++;
+        }
+      }
+    }
+    assertThat(numberOfAssertClasses).isEqualTo(16);
+    assertThat(softly.assertThat(table).getClass().getName())
+      .isEqualTo(SoftProxies.getGeneratedProxyClassName(TableAssert.class));
+    assertThat(softly.assertThat(table).column("var1").value().getClass().getName())
+      .isEqualTo(SoftProxies.getGeneratedProxyClassName(TableColumnValueAssert.class));
+
+    SoftProxies proxies = new SoftProxies();
+    SubTableAssert subTableAssert = proxies.create(SubTableAssert.class, Table.class, table);
+    assertThat(subTableAssert.getClass().getName())
+      .isNotEqualTo(SoftProxies.getGeneratedProxyClassName(SubTableAssert.class))
+      .contains("$ByteBuddy$");
+    assertThat(subTableAssert.getClass().getSuperclass()).isSameAs(SubTableAssert.class);
+    subTableAssert.hasNumberOfRows(0);
+    assertThat(proxies.errorsCollected()).hasSize(1);
+  }
+
+  /**
+   * Assertion on a table which is not an assertion of AssertJ-DB.
+   */
+  public static class SubTableAssert extends TableAssert {
+
+    public SubTableAssert(Table table) {
+      super(table);
+    }
+  }
 }
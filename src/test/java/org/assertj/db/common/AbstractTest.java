@@ -21,6 +21,7 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 import java.sql.Connection;
 import java.sql.Date;
 import java.sql.PreparedStatement;
@@ -163,9 +164,9 @@ public abstract class AbstractTest {
     Constructor<Changes> constructor = Changes.class.getDeclaredConstructor();
     constructor.setAccessible(true);
     Changes changes = constructor.newInstance();
-    Field field = Changes.class.getDeclaredField("changesList");
-    field.setAccessible(true);
-    field.set(changes, changesList);
+    Method method = Changes.class.getDeclaredMethod("setChangesList", List.class);
+    method.setAccessible(true);
+    method.invoke(changes, changesList);
     return changes;
   }
 
@@ -358,6 +359,32 @@ public abstract class AbstractTest {
     }
   }
 
+  /**
+   * Returns a {@code AssertDbConnection} which adds the SQL requests prepared by the connections to the list in
+   * parameter.
+   *
+   * @param requestsList The list which receives the requests.
+   * @return The connection.
+   */
+  protected AssertDbConnection getConnectionKeepingRequests(List<String> requestsList) {
+    DataSource ds = (DataSource) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{DataSource.class},
+                                                        (proxy, method, args) -> {
+                                                          Object result = method.invoke(dataSource, args);
+                                                          if (!(result instanceof Connection)) {
+                                                            return result;
+                                                          }
+                                                          Connection connection = (Connection) result;
+                                                          return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                                                                                        (p, m, a) -> {
+                                                                                          if ("prepareStatement".equals(m.getName())) {
+                                                                                            requestsList.add((String) a[0]);
+                                                                                          }
+                                                                                          return m.invoke(connection, a);
+                                                                                        });
+                                                        });
+    return AssertDbConnectionFactory.of(ds).create();
+  }
+
   /**
    * Update the database for tests.
    */
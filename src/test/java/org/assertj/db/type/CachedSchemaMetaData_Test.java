@@ -14,11 +14,23 @@ package org.assertj.db.type;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
 
 import org.assertj.db.common.AbstractTest;
 import org.assertj.db.common.DefaultConnectionProvider;
+import org.assertj.db.type.lettercase.LetterCase;
 import org.junit.Test;
 
 /**
@@ -51,4 +63,104 @@ public class CachedSchemaMetaData_Test extends AbstractTest {
     CachedSchemaMetaData metaData = new CachedSchemaMetaData(provider);
     assertThat(metaData.getPrimaryKeys("ACTOR")).containsExactly("ID");
   }
+
+  @Test
+  public void test_get_all_metadata_with_one_connection() throws SQLException {
+    CachedSchemaMetaData metaData = new CachedSchemaMetaData(provider);
+    assertThat(metaData.getPrimaryKeys("INTERPRETATION")).containsExactly("ID");
+    // The connection of the provider is closed after the first request, so the metadata come from the cache
+    assertThat(provider.getConnection().isClosed()).isTrue();
+    assertThat(metaData.getTablesName()).containsExactly("ACTOR", "INTERPRETATION", "MOVIE", "TEST", "TEST2");
+    assertThat(metaData.getColumnsName("MOVIE")).containsExactly("ID", "TITLE", "YEAR", "MOVIE_IMDB");
+    assertThat(metaData.getColumnsName("INTERPRETATION")).containsExactly("ID", "ID_MOVIE", "ID_ACTOR", "CHARACTER");
+    assertThat(metaData.getPrimaryKeys("ACTOR")).containsExactly("ID");
+    assertThat(metaData.getPrimaryKeys("TEST")).containsExactly("VAR1");
+  }
+
+  @Test
+  public void test_concurrent_requests_load_metadata_once() throws Exception {
+    AtomicInteger connectionsCount = new AtomicInteger();
+    DataSource slowDataSource = (DataSource) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{DataSource.class},
+                                                                    (proxy, method, args) -> {
+                                                                      Object result = method.invoke(dataSource, args);
+                                                                      if (result instanceof Connection) {
+                                                                        connectionsCount.incrementAndGet();
+                                                                        Thread.sleep(100);
+                                                                      }
+                                                                      return result;
+                                                                    });
+    DataSourceConnectionProvider connectionProvider = new DataSourceConnectionProvider(slowDataSource, CachedSchemaMetaData.class,
+                                                                                       LetterCase.TABLE_DEFAULT, LetterCase.COLUMN_DEFAULT,
+                                                                                       LetterCase.PRIMARY_KEY_DEFAULT);
+    CachedSchemaMetaData metaData = (CachedSchemaMetaData) connectionProvider.getMetaData();
+
+    ExecutorService executorService = Executors.newFixedThreadPool(8);
+    try {
+      CountDownLatch start = new CountDownLatch(1);
+      List<Future<Collection<String>>> futuresList = new ArrayList<>();
+      for (int index = 0; index < 8; index++) {
+        futuresList.add(executorService.submit(() -> {
+          start.await();
+          // The view is not in the schema, so it is loaded with its own request
+          return metaData.getColumnsName("UNKNOWN_VIEW");
+        }));
+      }
+      start.countDown();
+      for (Future<Collection<String>> future : futuresList) {
+        assertThat(future.get()).isEmpty();
+      }
+    } finally {
+      executorService.shutdown();
+    }
+    // One connection for the schema and one for the view
+    assertThat(connectionsCount.get()).isEqualTo(2);
+    assertThat(metaData.getColumnsName("MOVIE")).containsExactly("ID", "TITLE", "YEAR", "MOVIE_IMDB");
+    assertThat(connectionsCount.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void test_metadata_loaded_during_an_invalidation_are_discarded() throws Exception {
+    CountDownLatch loaded = new CountDownLatch(1);
+    CountDownLatch invalidated = new CountDownLatch(1);
+    AtomicInteger connectionsCount = new AtomicInteger();
+    DataSource blockingDataSource = (DataSource) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{DataSource.class},
+                                                                        (proxy, method, args) -> {
+                                                                          Object result = method.invoke(dataSource, args);
+                                                                          if (!(result instanceof Connection) || connectionsCount.getAndIncrement() > 0) {
+                                                                            return result;
+                                                                          }
+                                                                          Connection connection = (Connection) result;
+                                                                          // The first loading is blocked after having read the metadata
+                                                                          return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                                                                                                        (p, m, a) -> {
+                                                                                                          if ("close".equals(m.getName())) {
+                                                                                                            loaded.countDown();
+                                                                                                            invalidated.await();
+                                                                                                          }
+                                                                                                          return m.invoke(connection, a);
+                                                                                                        });
+                                                                        });
+    DataSourceConnectionProvider connectionProvider = new DataSourceConnectionProvider(blockingDataSource, CachedSchemaMetaData.class,
+                                                                                       LetterCase.TABLE_DEFAULT, LetterCase.COLUMN_DEFAULT,
+                                                                                       LetterCase.PRIMARY_KEY_DEFAULT);
+    CachedSchemaMetaData metaData = (CachedSchemaMetaData) connectionProvider.getMetaData();
+
+    ExecutorService executorService = Executors.newSingleThreadExecutor();
+    try {
+      Future<Collection<String>> future = executorService.submit(metaData::getTablesName);
+      loaded.await();
+      update("create table invalidation_during_loading(id int primary key)");
+      long generation = metaData.getGeneration();
+      metaData.invalidateAll();
+      assertThat(metaData.getGeneration()).isNotEqualTo(generation);
+      invalidated.countDown();
+      future.get();
+
+      assertThat(metaData.getTablesName()).contains("INVALIDATION_DURING_LOADING");
+      assertThat(metaData.getPrimaryKeys("INVALIDATION_DURING_LOADING")).containsExactly("ID");
+    } finally {
+      executorService.shutdown();
+      update("drop table invalidation_during_loading");
+    }
+  }
 }
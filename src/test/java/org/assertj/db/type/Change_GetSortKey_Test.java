@@ -0,0 +1,74 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2025 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.util.ChangeComparator;
+import org.junit.Test;
+
+/**
+ * Tests on the sort key of {@code Change}.
+ *
+ * @author Régis Pouiller
+ */
+public class Change_GetSortKey_Test extends AbstractTest {
+
+  /**
+   * This method tests that the sort key is not kept by the change.
+   *
+   * @throws Exception Exception
+   */
+  @Test
+  public void test_sort_key_not_kept() throws Exception {
+    Change change = getTableCreationChange("table", getRow(Arrays.asList("id"), Arrays.asList("id", "name"),
+                                                           Arrays.asList(getValue(null, 1), getValue(null, "test"))));
+    assertThat(change.getSortKey()).isNotSameAs(change.getSortKey());
+    assertThat(change.getSortKey().getChange()).isSameAs(change);
+    assertThat(change.getSortKey().compareTo(change.getSortKey())).isZero();
+  }
+
+  /**
+   * This method tests that the sort keys give the same order as {@link ChangeComparator}.
+   *
+   * @throws Exception Exception
+   */
+  @Test
+  public void test_same_order_as_comparator() throws Exception {
+    Row row1 = getRow(Arrays.asList("id"), Arrays.asList("id", "name"),
+                      Arrays.asList(getValue(null, 1), getValue(null, "test1")));
+    Row row2 = getRow(Arrays.asList("id"), Arrays.asList("id", "name"),
+                      Arrays.asList(getValue(null, 1), getValue(null, "test2")));
+    Row row3 = getRow(Arrays.asList("id"), Arrays.asList("id", "name"),
+                      Arrays.asList(getValue(null, 2), getValue(null, null)));
+    Row row4 = getRow(Arrays.asList("name"), Arrays.asList("id", "name"),
+                      Arrays.asList(getValue(null, 1), getValue(null, new byte[]{0})));
+    List<Change> changes = Arrays.asList(getTableCreationChange("table", row1),
+                                         getTableCreationChange("table", row2),
+                                         getTableCreationChange("other", row3),
+                                         getTableCreationChange("table", row4),
+                                         getTableModificationChange("table", row3, row1),
+                                         getTableDeletionChange("table", row2),
+                                         getTableDeletionChange("table", row3));
+    for (Change change1 : changes) {
+      for (Change change2 : changes) {
+        assertThat(Integer.signum(change1.getSortKey().compareTo(change2.getSortKey())))
+          .isEqualTo(Integer.signum(ChangeComparator.INSTANCE.compare(change1, change2)));
+      }
+    }
+  }
+}
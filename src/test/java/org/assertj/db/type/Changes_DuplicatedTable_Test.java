@@ -0,0 +1,147 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2025 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.assertj.db.type.Table.Order;
+import org.junit.Test;
+
+/**
+ * Tests on the duplication of the tables of the {@code Changes}.
+ *
+ * @author Régis Pouiller
+ */
+public class Changes_DuplicatedTable_Test extends AbstractTest {
+
+  /**
+   * Returns a {@code AssertDbConnection} which counts the connections.
+   */
+  private AssertDbConnection getConnectionCounting(AtomicInteger connectionsCount, SchemaMetaDataMode mode) {
+    DataSource countingDataSource = (DataSource) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{DataSource.class},
+                                                                        (proxy, method, args) -> {
+                                                                          Object result = method.invoke(dataSource, args);
+                                                                          if (result instanceof Connection) {
+                                                                            connectionsCount.incrementAndGet();
+                                                                          }
+                                                                          return result;
+                                                                        });
+    return AssertDbConnectionFactory.of(countingDataSource).schemaMetaDataMode(mode).create();
+  }
+
+  /**
+   * This method tests that the duplication of the tables does not request the metadata with the static mode.
+   */
+  @Test
+  @NeedReload
+  public void test_duplicated_tables_without_metadata_request() {
+    AtomicInteger connectionsCount = new AtomicInteger();
+    AssertDbConnection connection = getConnectionCounting(connectionsCount, SchemaMetaDataMode.STATIC);
+    Table table = connection.table("movie").columnsToCheck(new String[]{"id", "title"})
+      .columnsToOrder(new Order[]{Order.desc("id")}).build();
+    Changes changes = connection.changes().tables(table).build();
+
+    connectionsCount.set(0);
+    changes.setStartPointNow();
+    // Only the connection to load the rows
+    assertThat(connectionsCount.get()).isEqualTo(1);
+    update("update movie set title = 'The Avengers' where id = 1");
+    changes.setEndPointNow();
+    assertThat(connectionsCount.get()).isEqualTo(2);
+    assertThat(changes.getChangesOfType(ChangeType.MODIFICATION).getChangesList()).hasSize(1);
+    assertThat(changes.getChangesOfTable("movie").getChangesList()).hasSize(1);
+    assertThat(connectionsCount.get()).isEqualTo(2);
+
+    Table tableAtStartPoint = changes.getTablesAtStartPointList().get(0);
+    assertThat(tableAtStartPoint == table).isFalse();
+    assertThat(tableAtStartPoint.getName()).isEqualTo("MOVIE");
+    assertThat(tableAtStartPoint.getColumnsToCheck()).containsExactly("ID", "TITLE");
+    assertThat(tableAtStartPoint.getColumnsToOrder()).containsExactly(Order.desc("ID"));
+    assertThat(tableAtStartPoint.getColumnsNameList()).containsExactly("ID", "TITLE");
+  }
+
+  /**
+   * This method tests that the duplication of the tables resolves the metadata again with the dynamic mode.
+   */
+  @Test
+  public void test_duplicated_tables_with_dynamic_metadata() {
+    AtomicInteger connectionsCount = new AtomicInteger();
+    AssertDbConnection connection = getConnectionCounting(connectionsCount, SchemaMetaDataMode.DYNAMIC);
+    try {
+      update("create table duplicated_table(id int not null, number int)");
+      Changes changes = connection.changes().tables(connection.table("duplicated_table").build()).build();
+
+      changes.setStartPointNow();
+      update("alter table duplicated_table add primary key (id)");
+      changes.setEndPointNow();
+
+      assertThat(changes.getTablesAtStartPointList().get(0).getPksNameList()).isEmpty();
+      assertThat(changes.getTablesAtEndPointList().get(0).getPksNameList()).containsExactly("ID");
+    } finally {
+      update("drop table duplicated_table");
+    }
+  }
+
+  /**
+   * This method tests that the changes filtered by type or by table do not request the metadata with the dynamic mode.
+   */
+  @Test
+  @NeedReload
+  public void test_filtered_changes_without_metadata_request_with_dynamic_metadata() {
+    AtomicInteger connectionsCount = new AtomicInteger();
+    AssertDbConnection connection = getConnectionCounting(connectionsCount, SchemaMetaDataMode.DYNAMIC);
+    Changes changes = connection.changes().tables(connection.table("movie").build()).build();
+    changes.setStartPointNow();
+    update("update movie set title = 'The Avengers' where id = 1");
+    changes.setEndPointNow();
+
+    connectionsCount.set(0);
+    Changes changesOfType = changes.getChangesOfType(ChangeType.MODIFICATION);
+    assertThat(changesOfType.getChangesList()).hasSize(1);
+    assertThat(changesOfType.getChangesOfTable("movie").getChangesList()).hasSize(1);
+    assertThat(changes.getChangesOfTable("movie").getChangesList()).hasSize(1);
+    assertThat(connectionsCount.get()).isZero();
+  }
+
+  /**
+   * This method tests that the duplication of the tables resolves the metadata again after an invalidation with the
+   * static mode.
+   */
+  @Test
+  public void test_duplicated_tables_with_invalidated_metadata() {
+    AtomicInteger connectionsCount = new AtomicInteger();
+    AssertDbConnection connection = getConnectionCounting(connectionsCount, SchemaMetaDataMode.STATIC);
+    try {
+      update("create table duplicated_table(id int not null, number int)");
+      Changes changes = connection.changes().tables(connection.table("duplicated_table").build()).build();
+
+      changes.setStartPointNow();
+      update("alter table duplicated_table add primary key (id)");
+      changes.setEndPointNow();
+      assertThat(changes.getTablesAtEndPointList().get(0).getPksNameList()).isEmpty();
+
+      connection.invalidateSchemaMetaData("duplicated_table");
+      changes.setEndPointNow();
+      assertThat(changes.getTablesAtEndPointList().get(0).getPksNameList()).containsExactly("ID");
+    } finally {
+      update("drop table duplicated_table");
+    }
+  }
+}
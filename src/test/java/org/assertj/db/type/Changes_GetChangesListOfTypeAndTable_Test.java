@@ -0,0 +1,101 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2025 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.junit.Test;
+
+/**
+ * Tests on the {@code getChangesList(ChangeType, String)} method.
+ *
+ * @author Régis Pouiller
+ */
+public class Changes_GetChangesListOfTypeAndTable_Test extends AbstractTest {
+
+  /**
+   * This method tests that the changes of a type and of a table are the same as the filtered changes.
+   */
+  @Test
+  @NeedReload
+  public void test_getChangesList_of_type_and_table() {
+    Changes changes = assertDbConnection.changes().build();
+    changes.setStartPointNow();
+    updateChangesForTests();
+    changes.setEndPointNow();
+
+    List<Change> changesList = changes.getChangesList();
+    assertThat(changes.getChangesList(null, null)).containsExactlyElementsOf(changesList);
+    for (ChangeType changeType : Arrays.asList(null, ChangeType.CREATION, ChangeType.MODIFICATION, ChangeType.DELETION)) {
+      for (String tableName : Arrays.asList(null, "movie", "ACTOR", "Interpretation", "unknown")) {
+        List<Change> expectedChangesList = new ArrayList<>();
+        for (Change change : changesList) {
+          if ((changeType == null || changeType == change.getChangeType())
+              && (tableName == null || tableName.equalsIgnoreCase(change.getDataName()))) {
+            expectedChangesList.add(change);
+          }
+        }
+        assertThat(changes.getChangesList(changeType, tableName)).containsExactlyElementsOf(expectedChangesList);
+      }
+    }
+    assertThat(changes.getChangesList(ChangeType.CREATION, "movie")).hasSize(1);
+    assertThat(changes.getChangesOfType(ChangeType.CREATION).getChangesOfTable("movie").getChangesList())
+      .containsExactlyElementsOf(changes.getChangesList(ChangeType.CREATION, "movie"));
+    assertThatThrownBy(() -> changes.getChangesList(null, "movie").clear())
+      .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  /**
+   * This method tests that the list of changes is sorted and can not be modified.
+   */
+  @Test
+  public void test_list_sorted_and_not_modifiable() throws Exception {
+    Change change1 = getTableCreationChange("movie", getRow(Arrays.asList("ID"), Arrays.asList("ID"),
+                                                            Arrays.asList(getValue("ID", 2))));
+    Change change2 = getTableCreationChange("movie", getRow(Arrays.asList("ID"), Arrays.asList("ID"),
+                                                            Arrays.asList(getValue("ID", 1))));
+    List<Change> changesList = new ArrayList<>();
+    changesList.add(change1);
+    changesList.add(change2);
+    Changes changes = getChanges(changesList);
+
+    assertThat(changes.getChangesList()).containsExactly(change2, change1);
+    assertThat(changes.getChangesList(ChangeType.CREATION, null)).containsExactly(change2, change1);
+    assertThatThrownBy(() -> changes.getChangesList().add(change1)).isInstanceOf(UnsupportedOperationException.class);
+    changesList.remove(change2);
+    assertThat(changes.getChangesList()).containsExactly(change2, change1);
+  }
+
+  /**
+   * This method tests the changes of a table on a request.
+   */
+  @Test
+  @NeedReload
+  public void test_getChangesList_of_table_on_request() {
+    Changes changes = assertDbConnection.changes().request(assertDbConnection.request("select * from movie").build())
+      .build();
+    changes.setStartPointNow();
+    updateChangesForTests();
+    changes.setEndPointNow();
+
+    assertThat(changes.getChangesList(null, null)).hasSize(3).containsExactlyElementsOf(changes.getChangesList());
+    assertThat(changes.getChangesList(null, "movie")).isEmpty();
+  }
+}
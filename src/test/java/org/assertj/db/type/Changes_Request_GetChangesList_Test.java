@@ -14,15 +14,20 @@ package org.assertj.db.type;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.sql.Date;
 import java.sql.Time;
 import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
 
 import org.assertj.db.api.Assertions;
 import org.assertj.db.common.AbstractTest;
 import org.assertj.db.common.NeedReload;
+import org.assertj.db.util.ValueEquality;
 import org.junit.Test;
 
 /**
@@ -269,4 +274,52 @@ public class Changes_Request_GetChangesList_Test extends AbstractTest {
     assertThat(change.getRowAtEndPoint()).isNull();
   }
 
+  /**
+   * This method test when there are creation and deletion changes on duplicated rows without primary key.
+   */
+  @Test
+  @NeedReload
+  public void test_when_there_are_changes_on_duplicated_rows_without_primary_key() {
+    Changes changes = assertDbConnection.changes().request(assertDbConnection.request("select id_actor from interpretation").build()).build();
+    changes.setStartPointNow();
+    update("delete interpretation where id = 2");
+    update("insert into interpretation values(6, 3, 3, 'Jake Sully')");
+    update("insert into interpretation values(7, 3, 3, 'Jake Sully')");
+    changes.setEndPointNow();
+
+    assertThat(changes.getChangesList()).hasSize(3);
+    Change change = changes.getChangesList().get(0);
+    assertThat(change.getChangeType()).isEqualTo(ChangeType.CREATION);
+    assertThat(change.getRowAtEndPoint().getValuesList().get(0).getValue()).isEqualTo(new BigDecimal(3));
+    Change change1 = changes.getChangesList().get(1);
+    assertThat(change1.getChangeType()).isEqualTo(ChangeType.CREATION);
+    assertThat(change1.getRowAtEndPoint().getValuesList().get(0).getValue()).isEqualTo(new BigDecimal(3));
+    Change change2 = changes.getChangesList().get(2);
+    assertThat(change2.getChangeType()).isEqualTo(ChangeType.DELETION);
+    assertThat(change2.getRowAtStartPoint().getValuesList().get(0).getValue()).isEqualTo(new BigDecimal(1));
+  }
+
+  /**
+   * This method test the matching of the rows without primary key when a column mixes {@code Float} values with other
+   * numbers (their hash codes are different).
+   */
+  @Test
+  @SuppressWarnings("unchecked")
+  public void test_when_rows_without_primary_key_mix_float_and_other_number() throws Exception {
+    Method method = Changes.class.getDeclaredMethod("getRowsWithoutEqualRow", List.class, List.class, boolean[].class,
+                                                    ValueEquality[].class);
+    method.setAccessible(true);
+    Row row1 = getRow(Collections.<String>emptyList(), Arrays.asList("NUMBER", "NAME"),
+                      Arrays.asList(getValue("NUMBER", 0.1F), getValue("NAME", "first")));
+    Row row2 = getRow(Collections.<String>emptyList(), Arrays.asList("NUMBER", "NAME"),
+                      Arrays.asList(getValue("NUMBER", 0.2F), getValue("NAME", "second")));
+    Row otherRow = getRow(Collections.<String>emptyList(), Arrays.asList("NUMBER", "NAME"),
+                          Arrays.asList(getValue("NUMBER", 0.1D), getValue("NAME", "first")));
+    ValueEquality[] equalities = {ValueEquality.of(ValueType.NUMBER), ValueEquality.of(ValueType.TEXT)};
+
+    List<Row> rowsWithoutEqualRowList = (List<Row>) method.invoke(null, Arrays.asList(row1, row2),
+                                                                  Collections.singletonList(otherRow),
+                                                                  new boolean[]{true, true}, equalities);
+    assertThat(rowsWithoutEqualRowList).containsExactly(row2);
+  }
 }
@@ -0,0 +1,221 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2025 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.assertj.db.exception.AssertJDBException;
+import org.junit.Test;
+
+/**
+ * Tests on the loading of the {@code Changes} in a transaction.
+ *
+ * @author Régis Pouiller
+ */
+public class Changes_SnapshotIsolation_Test extends AbstractTest {
+
+  /**
+   * Returns a {@code DataSource} which adds the connections to the list in parameter.
+   */
+  private DataSource getDataSourceKeepingConnections(List<Connection> connectionsList) {
+    return (DataSource) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{DataSource.class},
+                                               (proxy, method, args) -> {
+                                                 Object result = method.invoke(dataSource, args);
+                                                 if (result instanceof Connection) {
+                                                   connectionsList.add((Connection) result);
+                                                 }
+                                                 return result;
+                                               });
+  }
+
+  /**
+   * This method tests that the tables are loaded with only one connection in a read-only transaction and that the
+   * state of the connection is restored.
+   */
+  @Test
+  @NeedReload
+  public void test_tables_loaded_in_a_transaction() throws SQLException {
+    List<Connection> connectionsList = new ArrayList<>();
+    DataSource ds = getDataSourceKeepingConnections(connectionsList);
+    AssertDbConnection connection = AssertDbConnectionFactory.of(ds).schemaMetaDataMode(SchemaMetaDataMode.STATIC)
+      .create();
+    Changes changes = connection.changes().table("movie").table("actor").table("interpretation")
+      .snapshotIsolation(Connection.TRANSACTION_REPEATABLE_READ).build();
+    changes.setStartPointNow();
+    updateChangesForTests();
+    connectionsList.clear();
+    changes.setEndPointNow();
+
+    assertThat(connectionsList).hasSize(1);
+    assertThat(connectionsList.get(0).isClosed()).isTrue();
+    assertThat(changes.getTablesAtEndPointList()).hasSize(3);
+    assertThat(changes.getChangesList()).hasSize(8);
+  }
+
+  /**
+   * Returns a {@code DataSource} which adds to the list in parameter the state of each connection (auto-commit,
+   * read-only and isolation level) when it is got and when it is closed.
+   */
+  private DataSource getDataSourceKeepingStates(List<String> statesList) {
+    return (DataSource) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{DataSource.class},
+                                               (proxy, method, args) -> {
+                                                 Object result = method.invoke(dataSource, args);
+                                                 if (result instanceof Connection) {
+                                                   statesList.add("got " + getState((Connection) result));
+                                                   return getConnectionKeepingStates((Connection) result, statesList);
+                                                 }
+                                                 return result;
+                                               });
+  }
+
+  /**
+   * Returns a {@code Connection} which adds to the list in parameter the state of the connection when it is closed.
+   */
+  private Connection getConnectionKeepingStates(Connection connection, List<String> statesList) {
+    return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                                               (proxy, method, args) -> {
+                                                 if ("close".equals(method.getName())) {
+                                                   statesList.add("closed " + getState(connection));
+                                                 }
+                                                 return method.invoke(connection, args);
+                                               });
+  }
+
+  /**
+   * Returns the state of a connection (auto-commit, read-only and isolation level).
+   */
+  private static String getState(Connection connection) throws SQLException {
+    return connection.getAutoCommit() + " " + connection.isReadOnly() + " " + connection.getTransactionIsolation();
+  }
+
+  /**
+   * This method tests that the state of the connection used by the transaction is restored before the connection is
+   * closed.
+   */
+  @Test
+  public void test_state_of_the_connection_restored() throws SQLException {
+    List<String> statesList = new ArrayList<>();
+    DataSource ds = getDataSourceKeepingStates(statesList);
+    AssertDbConnection connection = AssertDbConnectionFactory.of(ds).create();
+    Changes changes = connection.changes().request("select * from movie")
+      .snapshotIsolation(Connection.TRANSACTION_SERIALIZABLE).build();
+
+    String state;
+    try (Connection c = dataSource.getConnection()) {
+      state = getState(c);
+    }
+    assertThat(state).isNotEqualTo("true false " + Connection.TRANSACTION_SERIALIZABLE);
+    statesList.clear();
+    changes.setStartPointNow();
+    assertThat(statesList).containsExactly("got " + state, "closed " + state);
+    assertThat(changes.getRequestAtStartPoint().getRowsList()).hasSize(3);
+    assertThat(changes.getRequestAtStartPoint().getRow(0).getColumnValue("id").getValue())
+      .isEqualTo(new BigDecimal(1));
+  }
+
+  /**
+   * This method tests that the snapshot isolation can not be used with an executor.
+   */
+  @Test
+  public void test_snapshot_isolation_with_executor() {
+    try {
+      assertDbConnection.changes().snapshotIsolation(Connection.TRANSACTION_SERIALIZABLE).executor(Runnable::run)
+        .build();
+      fail("An exception must be raised");
+    } catch (AssertJDBException e) {
+      assertThat(e.getMessage()).isEqualTo("The snapshot isolation can not be used with an executor");
+    }
+  }
+
+  /**
+   * Returns a {@code DataSource} whose connections throw an exception when the method in parameter is called with the
+   * argument in parameter, and adds the physical connections to the list in parameter.
+   */
+  private DataSource getDataSourceFailing(String methodName, Object argument, List<Connection> connectionsList) {
+    return (DataSource) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{DataSource.class},
+                                               (proxy, method, args) -> {
+                                                 Object result = method.invoke(dataSource, args);
+                                                 if (result instanceof Connection) {
+                                                   connectionsList.add((Connection) result);
+                                                   return getConnectionFailing((Connection) result, methodName,
+                                                                               argument);
+                                                 }
+                                                 return result;
+                                               });
+  }
+
+  /**
+   * Returns a {@code Connection} which throws an exception when the method in parameter is called with the argument in
+   * parameter ({@code null} for any argument).
+   */
+  private Connection getConnectionFailing(Connection connection, String methodName, Object argument) {
+    return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                                               (proxy, method, args) -> {
+                                                 if (methodName.equals(method.getName())
+                                                     && (argument == null || argument.equals(args[0]))) {
+                                                   throw new SQLException(methodName + " failed");
+                                                 }
+                                                 return method.invoke(connection, args);
+                                               });
+  }
+
+  /**
+   * This method tests that the exception of the rollback does not replace the exception of the loading.
+   */
+  @Test
+  public void test_exception_of_rollback_suppressed() throws SQLException {
+    List<Connection> connectionsList = new ArrayList<>();
+    DataSource ds = getDataSourceFailing("rollback", null, connectionsList);
+    AssertDbConnection connection = AssertDbConnectionFactory.of(ds).create();
+    Changes changes = connection.changes().request("select * from not_existing_table")
+      .snapshotIsolation(Connection.TRANSACTION_SERIALIZABLE).build();
+
+    try {
+      changes.setStartPointNow();
+      fail("An exception must be raised");
+    } catch (AssertJDBException e) {
+      assertThat(e.getCause()).isInstanceOf(SQLException.class).hasMessageContaining("NOT_EXISTING_TABLE");
+      assertThat(e.getCause().getSuppressed()).extracting(Throwable::getMessage).containsExactly("rollback failed");
+    }
+    assertThat(connectionsList.get(0).getAutoCommit()).isTrue();
+  }
+
+  /**
+   * This method tests that the loaded data are kept and the connection is aborted when the state of the connection can
+   * not be restored.
+   */
+  @Test
+  public void test_connection_aborted_when_state_not_restored() throws SQLException {
+    List<Connection> connectionsList = new ArrayList<>();
+    DataSource ds = getDataSourceFailing("setReadOnly", false, connectionsList);
+    AssertDbConnection connection = AssertDbConnectionFactory.of(ds).create();
+    Changes changes = connection.changes().request("select * from movie")
+      .snapshotIsolation(Connection.TRANSACTION_SERIALIZABLE).build();
+
+    changes.setStartPointNow();
+    assertThat(changes.getRequestAtStartPoint().getRowsList()).hasSize(3);
+    assertThat(connectionsList).hasSize(1);
+    assertThat(connectionsList.get(0).isClosed()).isTrue();
+  }
+}
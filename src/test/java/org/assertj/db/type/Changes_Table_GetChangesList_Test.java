@@ -20,6 +20,9 @@ import java.sql.SQLException;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
 
 import org.assertj.db.api.Assertions;
 import org.assertj.db.common.AbstractTest;
@@ -290,4 +293,37 @@ public class Changes_Table_GetChangesList_Test extends AbstractTest {
     assertThat(change.getRowAtStartPoint().getValuesList().get(3).getValue()).isEqualTo("Dr Grace Augustine");
     assertThat(change.getRowAtEndPoint()).isNull();
   }
+
+  /**
+   * This method test that the changes are the same when the tables are loaded with an executor.
+   */
+  @Test
+  @NeedReload
+  public void test_when_there_are_changes_with_executor() {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      Changes changes = assertDbConnection.changes().build();
+      Changes changesWithExecutor = assertDbConnection.changes().executor(executor).build();
+      changes.setStartPointNow();
+      changesWithExecutor.setStartPointNow();
+      updateChangesForTests();
+      changes.setEndPointNow();
+      changesWithExecutor.setEndPointNow();
+
+      assertThat(changesWithExecutor.getTablesAtStartPointList()).extracting(Table::getName)
+        .containsExactlyElementsOf(changes.getTablesAtStartPointList().stream().map(Table::getName).collect(Collectors.toList()));
+      assertThat(changesWithExecutor.getTablesAtEndPointList()).extracting(Table::getName)
+        .containsExactlyElementsOf(changes.getTablesAtEndPointList().stream().map(Table::getName).collect(Collectors.toList()));
+      assertThat(changesWithExecutor.getChangesList()).hasSize(changes.getChangesList().size()).hasSize(8);
+      for (int index = 0; index < changes.getChangesList().size(); index++) {
+        Change change = changes.getChangesList().get(index);
+        Change changeWithExecutor = changesWithExecutor.getChangesList().get(index);
+        assertThat(changeWithExecutor.getDataName()).isEqualTo(change.getDataName());
+        assertThat(changeWithExecutor.getChangeType()).isEqualTo(change.getChangeType());
+        assertThat(changeWithExecutor.getPksValueList()).hasSameSizeAs(change.getPksValueList());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
 }
@@ -0,0 +1,191 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2025 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.type.lettercase.LetterCase;
+import org.junit.Test;
+
+/**
+ * Tests on the {@link ColumnarStore}.
+ *
+ * @author Régis Pouiller
+ */
+public class ColumnarStore_Test extends AbstractTest {
+
+  private static final List<String> COLUMNS_NAME = Arrays.asList("ID", "SIZE", "RATE", "NAME", "AMOUNT", "BIRTH");
+  private static final int[] TYPES = {Types.BIGINT, Types.SMALLINT, Types.REAL, Types.VARCHAR, Types.DECIMAL,
+    Types.DATE};
+
+  /**
+   * This method tests that the values are stored with their class.
+   */
+  @Test
+  public void test_values() {
+    ColumnarStore store = new ColumnarStore(COLUMNS_NAME, TYPES, LetterCase.COLUMN_DEFAULT);
+    store.addRow(new Object[]{1L, (short) 2, 1.5F, "text", new BigDecimal("3.14"), Date.valueOf("2007-12-23")});
+    store.addRow(new Object[]{2L, (short) 3, 2.5F, "text", new BigDecimal("2.71"), Date.valueOf("1970-01-01")});
+    store.trimToSize();
+
+    assertThat(store.size()).isEqualTo(2);
+    assertThat(store.getObject(0, 0)).isEqualTo(1L);
+    assertThat(store.getObject(1, 0)).isEqualTo(2L);
+    assertThat(store.getObject(0, 1)).isEqualTo((short) 2);
+    assertThat(store.getObject(0, 2)).isEqualTo(1.5F);
+    assertThat(store.getObject(0, 3)).isEqualTo("text");
+    assertThat(store.getObject(1, 3)).isSameAs(store.getObject(0, 3));
+    assertThat(store.getObject(1, 4)).isEqualTo(new BigDecimal("2.71"));
+    assertThat(store.getObject(1, 5)).isEqualTo(Date.valueOf("1970-01-01"));
+  }
+
+  /**
+   * This method tests the {@code null} values.
+   */
+  @Test
+  public void test_null_values() {
+    ColumnarStore store = new ColumnarStore(COLUMNS_NAME, TYPES, LetterCase.COLUMN_DEFAULT);
+    store.addRow(new Object[]{null, null, null, null, null, null});
+    store.addRow(new Object[]{0L, (short) 0, 0F, "", BigDecimal.ZERO, Date.valueOf("2007-12-23")});
+    store.trimToSize();
+
+    for (int column = 0; column < COLUMNS_NAME.size(); column++) {
+      assertThat(store.getObject(0, column)).isNull();
+      assertThat(store.getObject(1, column)).isNotNull();
+    }
+  }
+
+  /**
+   * This method tests that a column is stored with objects when the values have different classes.
+   */
+  @Test
+  public void test_values_with_different_classes() {
+    ColumnarStore store = new ColumnarStore(Collections.singletonList("ID"), new int[]{Types.INTEGER},
+                                            LetterCase.COLUMN_DEFAULT);
+    for (int index = 0; index < 100; index++) {
+      store.addRow(new Object[]{index});
+    }
+    store.addRow(new Object[]{"text"});
+    store.addRow(new Object[]{null});
+    store.trimToSize();
+
+    assertThat(store.size()).isEqualTo(102);
+    assertThat(store.getObject(99, 0)).isEqualTo(99);
+    assertThat(store.getObject(100, 0)).isEqualTo("text");
+    assertThat(store.getObject(101, 0)).isNull();
+  }
+
+  /**
+   * This method tests the type of the values found for each column.
+   */
+  @Test
+  public void test_value_types() {
+    ColumnarStore store = new ColumnarStore(COLUMNS_NAME, TYPES, LetterCase.COLUMN_DEFAULT);
+    store.addRow(new Object[]{1L, null, 1.5F, "text", new BigDecimal("3.14"), Date.valueOf("2007-12-23")});
+    store.addRow(new Object[]{2L, null, 2.5F, "text", 3, "2007-12-23"});
+    store.trimToSize();
+
+    assertThat(store.getValueType(0)).isEqualTo(ValueType.NUMBER);
+    assertThat(store.getValueType(1)).isNull();
+    assertThat(store.getValueType(2)).isEqualTo(ValueType.NUMBER);
+    assertThat(store.getValueType(3)).isEqualTo(ValueType.TEXT);
+    assertThat(store.getValueType(4)).isEqualTo(ValueType.NUMBER);
+    assertThat(store.getValueType(5)).isEqualTo(ValueType.NOT_IDENTIFIED);
+    assertThat(store.getValue(0, 0).getValueType()).isEqualTo(ValueType.NUMBER);
+    assertThat(store.getValue(0, 1).getValueType()).isEqualTo(ValueType.NOT_IDENTIFIED);
+    assertThat(store.getValue(0, 5).getValueType()).isEqualTo(ValueType.DATE);
+    assertThat(store.getValue(1, 5).getValueType()).isEqualTo(ValueType.TEXT);
+  }
+
+  /**
+   * This method tests the type of the values of a column stored with objects when the values have different classes.
+   */
+  @Test
+  public void test_value_types_with_different_classes() {
+    ColumnarStore store = new ColumnarStore(Collections.singletonList("ID"), new int[]{Types.INTEGER},
+                                            LetterCase.COLUMN_DEFAULT);
+    store.addRow(new Object[]{1});
+    store.addRow(new Object[]{2L});
+    store.trimToSize();
+    assertThat(store.getValueType(0)).isEqualTo(ValueType.NUMBER);
+
+    store.addRow(new Object[]{"text"});
+    assertThat(store.getValueType(0)).isEqualTo(ValueType.NOT_IDENTIFIED);
+    assertThat(store.getValue(1, 0).getValueType()).isEqualTo(ValueType.NUMBER);
+    assertThat(store.getValue(2, 0).getValueType()).isEqualTo(ValueType.TEXT);
+  }
+
+  /**
+   * This method tests the rows which are views of the store.
+   */
+  @Test
+  public void test_rows() {
+    ColumnarStore store = new ColumnarStore(COLUMNS_NAME, TYPES, LetterCase.COLUMN_DEFAULT);
+    store.addRow(new Object[]{1L, (short) 2, 1.5F, "text", new BigDecimal("3.14"), Date.valueOf("2007-12-23")});
+    store.trimToSize();
+
+    Row row = store.getRow(Collections.singletonList("ID"), 0, LetterCase.PRIMARY_KEY_DEFAULT);
+    assertThat(row.getColumnsNameList()).isSameAs(COLUMNS_NAME);
+    assertThat(row.getValuesList()).hasSize(6);
+    assertThat(row.getColumnValue("NAME").getColumnName()).isEqualTo("NAME");
+    assertThat(row.getColumnValue("NAME").getValue()).isEqualTo("text");
+    assertThat(row.getColumnValue("NAME").getValueType()).isEqualTo(ValueType.TEXT);
+    assertThat(row.getPksValues()[0].getValue()).isEqualTo(1L);
+  }
+
+  /**
+   * This method tests that the values are created when they are read (they are not kept by the store).
+   */
+  @Test
+  public void test_values_created_when_read() {
+    ColumnarStore store = new ColumnarStore(COLUMNS_NAME, TYPES, LetterCase.COLUMN_DEFAULT);
+    store.addRow(new Object[]{1L, (short) 2, 1.5F, "text", new BigDecimal("3.14"), Date.valueOf("2007-12-23")});
+    store.trimToSize();
+    Row row = store.getRow(Collections.singletonList("ID"), 0, LetterCase.PRIMARY_KEY_DEFAULT);
+
+    Value value = row.getValuesList().get(0);
+    assertThat(row.getValuesList().get(0)).isNotSameAs(value);
+    assertThat(row.getValuesList().get(0).getValue()).isEqualTo(value.getValue());
+    assertThat(row.getValuesList().get(0).getColumnName()).isEqualTo(value.getColumnName());
+    assertThat(row.getValuesList().get(3).getValue()).isSameAs(row.getValuesList().get(3).getValue());
+  }
+
+  /**
+   * This method tests that the objects and the types read without a value are the same as in the values.
+   */
+  @Test
+  public void test_objects_read_without_value() {
+    ColumnarStore store = new ColumnarStore(COLUMNS_NAME, TYPES, LetterCase.COLUMN_DEFAULT);
+    store.addRow(new Object[]{1L, (short) 2, 1.5F, "text", new BigDecimal("3.14"), Date.valueOf("2007-12-23")});
+    store.addRow(new Object[]{null, null, null, null, null, null});
+    store.addRow(new Object[]{3L, "other", 2.5F, "", null, Date.valueOf("2007-12-24")});
+    store.trimToSize();
+
+    for (int rowIndex = 0; rowIndex < store.size(); rowIndex++) {
+      Row row = store.getRow(Collections.singletonList("ID"), rowIndex, LetterCase.PRIMARY_KEY_DEFAULT);
+      for (int index = 0; index < COLUMNS_NAME.size(); index++) {
+        Value value = row.getColumnValue(index);
+        assertThat(row.getObject(index)).isEqualTo(value.getValue());
+        assertThat(row.getValueType(index)).isEqualTo(value.getValueType());
+      }
+    }
+  }
+}
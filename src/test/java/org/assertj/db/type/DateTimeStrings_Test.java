@@ -0,0 +1,76 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2025 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.assertj.db.common.AbstractTest;
+import org.junit.Test;
+
+/**
+ * Tests on the parsing of the {@code String} representations of the dates and the times.
+ *
+ * @author Régis Pouiller
+ */
+public class DateTimeStrings_Test extends AbstractTest {
+
+  private static final String DATE_FORMAT = "\\d\\d\\d\\d-\\d\\d-\\d\\d";
+  private static final String TIME_FORMAT = "\\d\\d:\\d\\d";
+  private static final String TIME_FORMAT_WITH_SECONDS = "\\d\\d:\\d\\d:\\d\\d";
+  private static final String TIME_FORMAT_WITH_NANO = "\\d\\d:\\d\\d:\\d\\d.\\d\\d\\d\\d\\d\\d\\d\\d\\d";
+
+  private static final List<String> STRINGS = Arrays.asList("2007-12-23", "2007-12-2", "2007/12/23", "2007-12-23 ",
+                                                            "200a-12-23", "2007-1a-23", "٢٠٠٧-12-23", "",
+                                                            "09:01", "9:01", "09-01", "09:01:06", "09:01:6",
+                                                            "09:01:06.000000003", "09:01:06,000000003",
+                                                            "09:01:06\n000000003", "09:01:06.00000003",
+                                                            "09:01:06.0000000031", "09:01:06.00000000a");
+
+  /**
+   * This method tests that the date format is the same as the regular expression.
+   */
+  @Test
+  public void test_isDate() {
+    for (String string : STRINGS) {
+      assertThat(DateTimeStrings.isDate(string, 0, string.length())).as(string)
+                                                                   .isEqualTo(string.matches(DATE_FORMAT));
+    }
+  }
+
+  /**
+   * This method tests that the time formats are the same as the regular expressions.
+   */
+  @Test
+  public void test_isTime() {
+    for (String string : STRINGS) {
+      assertThat(DateTimeStrings.isTime(string, 0, string.length())).as(string)
+                                                                   .isEqualTo(string.matches(TIME_FORMAT)
+                                                                              || string.matches(TIME_FORMAT_WITH_SECONDS)
+                                                                              || string.matches(TIME_FORMAT_WITH_NANO));
+    }
+  }
+
+  /**
+   * This method tests the values read in the {@code String}.
+   */
+  @Test
+  public void test_values() {
+    assertThat(DateTimeStrings.toDateValue("x2007-12-23", 1)).isEqualTo(DateValue.of(2007, 12, 23));
+    assertThat(DateTimeStrings.toTimeValue("T09:01", 1, 6)).isEqualTo(TimeValue.of(9, 1));
+    assertThat(DateTimeStrings.toTimeValue("T09:01:06", 1, 9)).isEqualTo(TimeValue.of(9, 1, 6));
+    assertThat(DateTimeStrings.toTimeValue("T09:01:06.000000003", 1, 19)).isEqualTo(TimeValue.of(9, 1, 6, 3));
+  }
+}
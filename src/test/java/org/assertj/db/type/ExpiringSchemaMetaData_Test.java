@@ -0,0 +1,133 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2025 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.db.common.AbstractTest;
+import org.junit.Test;
+
+/**
+ * Tests on the schema metadata with expiration.
+ *
+ * @author Julien Roy
+ */
+public class ExpiringSchemaMetaData_Test extends AbstractTest {
+
+  /**
+   * This method tests the invalidation of the metadata.
+   */
+  @Test
+  public void test_invalidation() {
+    AssertDbConnection connection = AssertDbConnectionFactory.of("jdbc:h2:mem:test", "sa", "")
+      .schemaMetaDataMode(SchemaMetaDataMode.EXPIRING).create();
+    SchemaMetadata metaData = connection.table("movie").build().getConnectionProvider().getMetaData();
+    assertThat(metaData).isInstanceOf(ExpiringSchemaMetaData.class);
+    assertThat(metaData.getTablesName()).doesNotContain("EXPIRING");
+
+    try {
+      update("create table expiring(id int)");
+      assertThat(metaData.getTablesName()).doesNotContain("EXPIRING");
+      connection.invalidateSchemaMetaData("expiring");
+      assertThat(metaData.getTablesName()).contains("EXPIRING");
+      assertThat(metaData.getColumnsName("EXPIRING")).containsExactly("ID");
+
+      update("alter table expiring add column name varchar(10)");
+      assertThat(metaData.getColumnsName("EXPIRING")).containsExactly("ID");
+      connection.changes().table("movie").build().setStartPointNow();
+      assertThat(metaData.getColumnsName("EXPIRING")).containsExactly("ID", "NAME");
+
+      update("alter table expiring add column firstname varchar(10)");
+      connection.invalidateSchemaMetaData();
+      assertThat(metaData.getColumnsName("EXPIRING")).containsExactly("ID", "NAME", "FIRSTNAME");
+    } finally {
+      update("drop table expiring");
+    }
+  }
+
+  /**
+   * This method tests the time to live of the metadata.
+   */
+  @Test
+  public void test_time_to_live() {
+    AssertDbConnection connection = AssertDbConnectionFactory.of("jdbc:h2:mem:test", "sa", "")
+      .schemaMetaDataMode(SchemaMetaDataMode.EXPIRING).schemaMetaDataTimeToLive(Duration.ZERO).create();
+    SchemaMetadata metaData = connection.table("movie").build().getConnectionProvider().getMetaData();
+    assertThat(metaData.getTablesName()).doesNotContain("EXPIRING");
+
+    try {
+      update("create table expiring(id int)");
+      assertThat(metaData.getTablesName()).contains("EXPIRING");
+    } finally {
+      update("drop table expiring");
+    }
+    assertThatThrownBy(() -> AssertDbConnectionFactory.of("jdbc:h2:mem:test", "sa", "")
+      .schemaMetaDataTimeToLive(Duration.ofSeconds(-1)))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  /**
+   * This method tests the refresh of the metadata in background.
+   */
+  @Test
+  public void test_refresh_in_background() {
+    List<Runnable> tasksList = new ArrayList<>();
+    AssertDbConnection connection = AssertDbConnectionFactory.of("jdbc:h2:mem:test", "sa", "")
+      .schemaMetaDataMode(SchemaMetaDataMode.EXPIRING).schemaMetaDataTimeToLive(Duration.ZERO)
+      .schemaMetaDataRefreshExecutor(tasksList::add).create();
+    SchemaMetadata metaData = connection.table("movie").build().getConnectionProvider().getMetaData();
+    assertThat(metaData.getTablesName()).doesNotContain("EXPIRING");
+    // The time to live is already elapsed : a refresh is waiting
+    assertThat(tasksList).hasSize(1);
+    tasksList.remove(0).run();
+
+    try {
+      update("create table expiring(id int)");
+      assertThat(metaData.getTablesName()).doesNotContain("EXPIRING");
+      assertThat(metaData.getColumnsName("MOVIE")).containsExactly("ID", "TITLE", "YEAR", "MOVIE_IMDB");
+      // Only one refresh at the same time
+      assertThat(tasksList).hasSize(1);
+      tasksList.remove(0).run();
+      assertThat(metaData.getTablesName()).contains("EXPIRING");
+      assertThat(metaData.getColumnsName("EXPIRING")).containsExactly("ID");
+    } finally {
+      update("drop table expiring");
+    }
+  }
+
+  /**
+   * This method tests that the static cache is not invalidated by the start point.
+   */
+  @Test
+  public void test_static_cache_not_invalidated_by_start_point() {
+    AssertDbConnection connection = AssertDbConnectionFactory.of("jdbc:h2:mem:test", "sa", "")
+      .schemaMetaDataMode(SchemaMetaDataMode.STATIC).create();
+    SchemaMetadata metaData = connection.table("movie").build().getConnectionProvider().getMetaData();
+    assertThat(metaData.getTablesName()).doesNotContain("EXPIRING");
+
+    try {
+      update("create table expiring(id int)");
+      connection.changes().table("movie").build().setStartPointNow();
+      assertThat(metaData.getTablesName()).doesNotContain("EXPIRING");
+      connection.invalidateSchemaMetaData();
+      assertThat(metaData.getTablesName()).contains("EXPIRING");
+    } finally {
+      update("drop table expiring");
+    }
+  }
+}
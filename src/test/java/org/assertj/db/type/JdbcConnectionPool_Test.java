@@ -0,0 +1,237 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2025 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.exception.AssertJDBException;
+import org.junit.Test;
+
+/**
+ * Tests on the pool of connections of {@code JdbcUrlConnectionProvider}.
+ *
+ * @author Julien Roy
+ */
+public class JdbcConnectionPool_Test extends AbstractTest {
+
+  /**
+   * This method tests that the connections are reused.
+   */
+  @Test
+  public void test_connections_reused() throws SQLException {
+    JdbcConnectionPool pool = new JdbcConnectionPool("jdbc:h2:mem:test", "sa", "", 2, TimeUnit.MINUTES.toNanos(1));
+    try {
+      Connection connection1 = pool.getConnection();
+      Connection connection2 = pool.getConnection();
+      Connection connection3 = pool.getConnection();
+      long sessionId2 = getSessionId(connection2);
+      long sessionId3 = getSessionId(connection3);
+      assertThat(pool.getIdleSize()).isEqualTo(0);
+
+      connection1.close();
+      connection1.close();
+      connection2.close();
+      connection3.close();
+      assertThat(connection1.isClosed()).isTrue();
+      assertThatThrownBy(connection1::createStatement).isInstanceOf(SQLException.class);
+      assertThat(pool.getIdleSize()).isEqualTo(2);
+
+      Connection connection4 = pool.getConnection();
+      assertThat(pool.getIdleSize()).isEqualTo(1);
+      assertThat(connection4.isClosed()).isFalse();
+      assertThat(connection4).isNotSameAs(connection3);
+      assertThat(getSessionId(connection4)).isEqualTo(sessionId3).isNotEqualTo(sessionId2);
+      connection4.close();
+    } finally {
+      pool.close();
+    }
+    assertThat(pool.getIdleSize()).isEqualTo(0);
+  }
+
+  /**
+   * This method tests that the statements, the result sets and the metadata of the connections do not give the
+   * physical connection.
+   */
+  @Test
+  public void test_physical_connection_not_given() throws SQLException {
+    JdbcConnectionPool pool = new JdbcConnectionPool("jdbc:h2:mem:test", "sa", "", 1, TimeUnit.MINUTES.toNanos(1));
+    try {
+      try (Connection connection = pool.getConnection()) {
+        assertThat(connection.getMetaData().getConnection()).isSameAs(connection);
+        try (Statement statement = connection.createStatement();
+             PreparedStatement preparedStatement = connection.prepareStatement("select * from movie")) {
+          assertThat(statement.getConnection()).isSameAs(connection);
+          assertThat(preparedStatement.getConnection()).isSameAs(connection);
+          try (ResultSet resultSet = statement.executeQuery("select * from movie");
+               ResultSet preparedResultSet = preparedStatement.executeQuery()) {
+            assertThat(resultSet.getStatement()).isSameAs(statement);
+            assertThat(resultSet.getStatement().getConnection()).isSameAs(connection);
+            assertThat(preparedResultSet.getStatement()).isSameAs(preparedStatement);
+            assertThat(resultSet.next()).isTrue();
+          }
+        }
+        try (ResultSet resultSet = connection.getMetaData().getTables(null, null, "MOVIE", null)) {
+          assertThat(resultSet.getStatement()).isNull();
+          assertThat(resultSet.next()).isTrue();
+        }
+      }
+      assertThat(pool.getIdleSize()).isEqualTo(1);
+    } finally {
+      pool.close();
+    }
+  }
+
+  /**
+   * This method tests that the statements which are not closed are closed when the connection is given back.
+   */
+  @Test
+  public void test_statements_closed() throws SQLException {
+    JdbcConnectionPool pool = new JdbcConnectionPool("jdbc:h2:mem:test", "sa", "", 1, TimeUnit.MINUTES.toNanos(1));
+    try {
+      Connection connection = pool.getConnection();
+      Statement closedStatement = connection.createStatement();
+      closedStatement.close();
+      Statement statement = connection.createStatement();
+      ResultSet resultSet = statement.executeQuery("select * from movie");
+      connection.close();
+
+      assertThat(statement.isClosed()).isTrue();
+      assertThat(resultSet.isClosed()).isTrue();
+      assertThat(pool.getIdleSize()).isEqualTo(1);
+    } finally {
+      pool.close();
+    }
+  }
+
+  /**
+   * This method tests that the state of the connections is restored.
+   */
+  @Test
+  public void test_state_restored() throws SQLException {
+    JdbcConnectionPool pool = new JdbcConnectionPool("jdbc:h2:mem:test", "sa", "", 1, TimeUnit.MINUTES.toNanos(1));
+    try {
+      try (Connection connection = pool.getConnection()) {
+        connection.setAutoCommit(false);
+        connection.setTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
+        try (Statement statement = connection.createStatement()) {
+          statement.executeUpdate("update movie set title = 'Alien 2' where id = 1");
+        }
+      }
+      try (Connection connection = pool.getConnection()) {
+        assertThat(connection.getAutoCommit()).isTrue();
+        assertThat(connection.getTransactionIsolation()).isNotEqualTo(Connection.TRANSACTION_SERIALIZABLE);
+      }
+      assertThat(assertDbConnection.table("movie").build().getRow(0).getColumnValue("title").getValue())
+        .isEqualTo("Alien");
+    } finally {
+      pool.close();
+    }
+  }
+
+  /**
+   * This method tests that the idle connections are closed after the timeout.
+   */
+  @Test
+  public void test_idle_connections_evicted() throws SQLException {
+    JdbcConnectionPool pool = new JdbcConnectionPool("jdbc:h2:mem:test", "sa", "", 2, 0);
+    Connection connection = pool.getConnection();
+    long sessionId = getSessionId(connection);
+    connection.close();
+    assertThat(pool.getIdleSize()).isEqualTo(0);
+    try (Connection otherConnection = pool.getConnection()) {
+      assertThat(getSessionId(otherConnection)).isNotEqualTo(sessionId);
+      assertThat(getSessionIds(otherConnection)).doesNotContain(sessionId);
+    }
+  }
+
+  /**
+   * This method tests that a closed pool gives no connection and closes the connections given back.
+   */
+  @Test
+  public void test_closed_pool() throws SQLException {
+    JdbcConnectionPool pool = new JdbcConnectionPool("jdbc:h2:mem:test", "sa", "", 2, TimeUnit.MINUTES.toNanos(1));
+    Connection connection = pool.getConnection();
+    pool.close();
+    connection.close();
+    assertThat(pool.getIdleSize()).isEqualTo(0);
+    assertThatThrownBy(pool::getConnection).isInstanceOf(SQLException.class);
+  }
+
+  /**
+   * This method tests the pool from the factory.
+   */
+  @Test
+  public void test_pool_from_factory() {
+    AssertDbConnection connection = AssertDbConnectionFactory.of("jdbc:h2:mem:test", "sa", "")
+      .pool(2, Duration.ofMinutes(1)).create();
+    Table table = connection.table("movie").build();
+
+    assertThat(table.getRowsList()).hasSize(3);
+    assertThat(connection.table("actor").build().getRowsList()).hasSize(3);
+    assertThat(table.getConnectionProvider()).isInstanceOf(JdbcUrlConnectionProvider.class);
+    ((JdbcUrlConnectionProvider) table.getConnectionProvider()).closeIdleConnections();
+    assertThat(connection.table("actor").build().getRowsList()).hasSize(3);
+    connection.close();
+    assertThatThrownBy(() -> connection.table("actor").build().getRowsList())
+      .isInstanceOf(AssertJDBException.class);
+    assertThatThrownBy(() -> AssertDbConnectionFactory.of("jdbc:h2:mem:test", "sa", "").pool(0, Duration.ZERO))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> AssertDbConnectionFactory.of("jdbc:h2:mem:test", "sa", "").pool(1, Duration.ofSeconds(-1)))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  /**
+   * Returns the id of the session of a connection.
+   *
+   * @param connection The connection.
+   * @return The id of the session.
+   * @throws SQLException SQL Exception.
+   */
+  private static long getSessionId(Connection connection) throws SQLException {
+    try (Statement statement = connection.createStatement();
+         ResultSet resultSet = statement.executeQuery("select session_id()")) {
+      resultSet.next();
+      return resultSet.getLong(1);
+    }
+  }
+
+  /**
+   * Returns the ids of the open sessions of the database.
+   *
+   * @param connection The connection.
+   * @return The ids of the sessions.
+   * @throws SQLException SQL Exception.
+   */
+  private static List<Long> getSessionIds(Connection connection) throws SQLException {
+    List<Long> sessionIds = new ArrayList<>();
+    try (Statement statement = connection.createStatement();
+         ResultSet resultSet = statement.executeQuery("select id from information_schema.sessions")) {
+      while (resultSet.next()) {
+        sessionIds.add(resultSet.getLong(1));
+      }
+    }
+    return sessionIds;
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2025 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.reflect.Proxy;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.exception.AssertJDBException;
+import org.junit.Test;
+
+/**
+ * Tests on the {@code getNumberOfRows} method of {@code Request}.
+ *
+ * @author Régis Pouiller
+ */
+public class Request_GetNumberOfRows_Test extends AbstractTest {
+
+  /**
+   * This method tests that the rows are counted without being loaded.
+   */
+  @Test
+  public void test_number_of_rows_without_loading() {
+    List<String> requestsList = new ArrayList<>();
+    Request request = getConnectionKeepingRequests(requestsList)
+      .request("select * from interpretation where id_actor = ? order by id;").parameters(1).build();
+
+    assertThat(request.getNumberOfRows()).isEqualTo(3);
+    assertThat(requestsList)
+      .containsExactly("SELECT COUNT(*) FROM (select * from interpretation where id_actor = ? order by id) COUNTED");
+    assertThat(request.getRowsList()).hasSize(3);
+    assertThat(requestsList).hasSize(2);
+  }
+
+  /**
+   * This method tests that the rows are loaded when the request can not be counted.
+   */
+  @Test
+  public void test_number_of_rows_with_a_request_which_can_not_be_counted() {
+    List<String> requestsList = new ArrayList<>();
+    Request request = getConnectionKeepingRequests(requestsList).request("show tables").build();
+
+    int numberOfRows = request.getNumberOfRows();
+    assertThat(requestsList).containsExactly("SELECT COUNT(*) FROM (show tables) COUNTED", "show tables");
+    assertThat(numberOfRows).isEqualTo(request.getRowsList().size()).isPositive();
+    assertThat(requestsList).hasSize(2);
+  }
+
+  /**
+   * This method tests that the errors which are not due to the counting request are thrown.
+   */
+  @Test
+  public void test_number_of_rows_with_a_connection_error() {
+    DataSource ds = (DataSource) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{DataSource.class},
+                                                        (proxy, method, args) -> {
+                                                          throw new SQLException("No connection");
+                                                        });
+    Request request = AssertDbConnectionFactory.of(ds).create().request("select * from movie").build();
+
+    assertThatThrownBy(request::getNumberOfRows).isInstanceOf(AssertJDBException.class)
+      .hasCauseInstanceOf(SQLException.class);
+  }
+
+  /**
+   * This method tests that the errors of the counting request which are not syntax errors are thrown.
+   */
+  @Test
+  public void test_number_of_rows_with_an_error_which_is_not_a_syntax_error() {
+    List<String> requestsList = new ArrayList<>();
+    Request request = getConnectionKeepingRequests(requestsList)
+      .request("select * from movie where id = ?").parameters("not a number").build();
+
+    assertThatThrownBy(request::getNumberOfRows).isInstanceOf(AssertJDBException.class)
+      .hasCauseInstanceOf(SQLException.class);
+    assertThat(requestsList).containsExactly("SELECT COUNT(*) FROM (select * from movie where id = ?) COUNTED");
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2025 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+
+import org.assertj.db.common.AbstractTest;
+import org.junit.Test;
+
+/**
+ * Tests on the sort key of {@code Row}.
+ *
+ * @author Régis Pouiller
+ */
+public class Row_GetSortKey_Test extends AbstractTest {
+
+  /**
+   * This method tests that the sort key is not kept by the row.
+   *
+   * @throws Exception Exception
+   */
+  @Test
+  public void test_sort_key_not_kept() throws Exception {
+    Row row = getRow(Arrays.asList("col1"), Arrays.asList("col1", "col2"),
+                     Arrays.asList(getValue(null, 1), getValue(null, "val2")));
+    assertThat(row.getSortKey()).isNotSameAs(row.getSortKey());
+    assertThat(row.getSortKey().getRow()).isSameAs(row);
+    assertThat(row.getSortKey().compareTo(row.getSortKey())).isZero();
+  }
+
+  /**
+   * This method tests the comparison of the sort keys : the primary keys then all the values.
+   *
+   * @throws Exception Exception
+   */
+  @Test
+  public void test_compare_sort_keys() throws Exception {
+    Row row1 = getRow(Arrays.asList("col2"), Arrays.asList("col1", "col2"),
+                      Arrays.asList(getValue(null, 2), getValue(null, "a")));
+    Row row2 = getRow(Arrays.asList("col2"), Arrays.asList("col1", "col2"),
+                      Arrays.asList(getValue(null, 1), getValue(null, "b")));
+    Row row3 = getRow(Arrays.asList("col2"), Arrays.asList("col1", "col2"),
+                      Arrays.asList(getValue(null, 1), getValue(null, null)));
+    Row row4 = getRow(Arrays.asList("col2"), Arrays.asList("col1", "col2"),
+                      Arrays.asList(getValue(null, 1), getValue(null, "a")));
+
+    assertThat(row1.getSortKey().compareTo(row2.getSortKey())).isNegative();
+    assertThat(row2.getSortKey().compareTo(row3.getSortKey())).isNegative();
+    assertThat(row3.getSortKey().compareTo(row2.getSortKey())).isPositive();
+    assertThat(row4.getSortKey().compareTo(row1.getSortKey())).isNegative();
+    assertThat(row1.getSortKey().compareTo(row1.getSortKey())).isZero();
+  }
+
+  /**
+   * This method tests that the sort key uses the primary keys after they change.
+   *
+   * @throws Exception Exception
+   */
+  @Test
+  public void test_sort_key_when_primary_keys_change() throws Exception {
+    Row row1 = getRow(Arrays.asList("col1"), Arrays.asList("col1", "col2"),
+                      Arrays.asList(getValue(null, 1), getValue(null, "b")));
+    Row row2 = getRow(Arrays.asList("col1"), Arrays.asList("col1", "col2"),
+                      Arrays.asList(getValue(null, 2), getValue(null, "a")));
+    assertThat(row1.getSortKey().compareTo(row2.getSortKey())).isNegative();
+
+    row1.setPksNameList(Arrays.asList("col2"));
+    row2.setPksNameList(Arrays.asList("col2"));
+    assertThat(row1.getSortKey().compareTo(row2.getSortKey())).isPositive();
+    assertThat(row1.getPksValues()[0].getValue()).isEqualTo("b");
+  }
+}
@@ -0,0 +1,180 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2025 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.assertj.db.common.AbstractTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests on the file which keeps the schema metadata between several JVM.
+ *
+ * @author Julien Roy
+ */
+public class SchemaMetadataFile_Test extends AbstractTest {
+
+  private Path path;
+
+  @Before
+  public void createPath() throws Exception {
+    path = Files.createTempFile("assertj-db-metadata", ".bin");
+    Files.delete(path);
+  }
+
+  @After
+  public void deletePath() throws Exception {
+    Files.deleteIfExists(path);
+  }
+
+  private SchemaMetadata createMetaData() {
+    AssertDbConnection connection = AssertDbConnectionFactory.of("jdbc:h2:mem:test", "sa", "")
+      .schemaMetaDataMode(SchemaMetaDataMode.STATIC).schemaMetaDataFile(path).create();
+    return connection.table("movie").build().getConnectionProvider().getMetaData();
+  }
+
+  private String getIdentity() throws Exception {
+    try (Connection connection = dataSource.getConnection()) {
+      DatabaseMetaData metaData = connection.getMetaData();
+      return metaData.getURL() + "#" + metaData.getUserName();
+    }
+  }
+
+  /**
+   * This method tests the read and the write of the file.
+   */
+  @Test
+  public void test_read_and_write() {
+    SchemaMetadataFile file = new SchemaMetadataFile(path);
+    Map<String, Collection<String>> schemaMetadata = new HashMap<>();
+    schemaMetadata.put(CachedSchemaMetaData.TABLES_KEY, Arrays.asList("MOVIE", "ACTOR"));
+    schemaMetadata.put(CachedSchemaMetaData.getColumnsKey("MOVIE"), Arrays.asList("ID", "TITLE"));
+    schemaMetadata.put(CachedSchemaMetaData.getPrimaryKeysKey("MOVIE"), Collections.emptyList());
+
+    assertThat(file.read("identity", "fingerprint")).isNull();
+    file.write("identity", "fingerprint", schemaMetadata);
+    assertThat(file.read("identity", "fingerprint")).isEqualTo(schemaMetadata);
+    assertThat(file.read("other identity", "fingerprint")).isNull();
+    assertThat(file.read("identity", "other fingerprint")).isNull();
+    assertThat(SchemaMetadataFile.getFingerprint(Arrays.asList("MOVIE", "ACTOR")))
+      .isEqualTo(SchemaMetadataFile.getFingerprint(Arrays.asList("ACTOR", "MOVIE")))
+      .isNotEqualTo(SchemaMetadataFile.getFingerprint(Arrays.asList("ACTOR", "MOVIE", "INTERPRETATION")));
+  }
+
+  /**
+   * This method tests that a corrupted file is ignored.
+   */
+  @Test
+  public void test_corrupted_file() throws Exception {
+    Files.write(path, "corrupted".getBytes(StandardCharsets.UTF_8));
+    SchemaMetadata metaData = createMetaData();
+
+    assertThat(metaData.getColumnsName("MOVIE")).containsExactly("ID", "TITLE", "YEAR", "MOVIE_IMDB");
+    assertThat(new SchemaMetadataFile(path).read(getIdentity(), SchemaMetadataFile.getFingerprint(metaData.getTablesName())))
+      .containsKey(CachedSchemaMetaData.getColumnsKey("MOVIE"));
+  }
+
+  /**
+   * This method tests that the metadata are read in the file when the fingerprint is the same.
+   */
+  @Test
+  public void test_metadata_read_in_file() throws Exception {
+    Collection<String> tablesName = createMetaData().getTablesName();
+    assertThat(path).exists();
+
+    String fingerprint = SchemaMetadataFile.getFingerprint(tablesName);
+    Map<String, Collection<String>> schemaMetadata = new SchemaMetadataFile(path).read(getIdentity(), fingerprint);
+    schemaMetadata.put(CachedSchemaMetaData.getColumnsKey("MOVIE"), Collections.singletonList("FROM_FILE"));
+    new SchemaMetadataFile(path).write(getIdentity(), fingerprint, schemaMetadata);
+
+    assertThat(createMetaData().getColumnsName("MOVIE")).containsExactly("FROM_FILE");
+  }
+
+  /**
+   * This method tests that the metadata are loaded from the database when the fingerprint is different.
+   */
+  @Test
+  public void test_metadata_reloaded_when_fingerprint_changes() throws Exception {
+    Collection<String> tablesName = createMetaData().getTablesName();
+
+    String fingerprint = SchemaMetadataFile.getFingerprint(tablesName);
+    Map<String, Collection<String>> schemaMetadata = new SchemaMetadataFile(path).read(getIdentity(), fingerprint);
+    schemaMetadata.put(CachedSchemaMetaData.getColumnsKey("MOVIE"), Collections.singletonList("FROM_FILE"));
+    new SchemaMetadataFile(path).write(getIdentity(), fingerprint, schemaMetadata);
+
+    try {
+      update("create table metadata_file(id int)");
+      SchemaMetadata metaData = createMetaData();
+      assertThat(metaData.getTablesName()).contains("METADATA_FILE");
+      assertThat(metaData.getColumnsName("MOVIE")).containsExactly("ID", "TITLE", "YEAR", "MOVIE_IMDB");
+      assertThat(new SchemaMetadataFile(path).read(getIdentity(), SchemaMetadataFile.getFingerprint(metaData.getTablesName())))
+        .containsKey(CachedSchemaMetaData.getColumnsKey("METADATA_FILE"));
+    } finally {
+      update("drop table metadata_file");
+    }
+  }
+
+  /**
+   * This method tests that the file is not read after an invalidation.
+   */
+  @Test
+  public void test_file_not_read_after_invalidation() throws Exception {
+    Collection<String> tablesName = createMetaData().getTablesName();
+
+    String fingerprint = SchemaMetadataFile.getFingerprint(tablesName);
+    Map<String, Collection<String>> schemaMetadata = new SchemaMetadataFile(path).read(getIdentity(), fingerprint);
+    schemaMetadata.put(CachedSchemaMetaData.getColumnsKey("MOVIE"), Collections.singletonList("FROM_FILE"));
+    new SchemaMetadataFile(path).write(getIdentity(), fingerprint, schemaMetadata);
+
+    SchemaMetadata metaData = createMetaData();
+    assertThat(metaData.getColumnsName("MOVIE")).containsExactly("FROM_FILE");
+    metaData.invalidateAll();
+    assertThat(metaData.getColumnsName("MOVIE")).containsExactly("ID", "TITLE", "YEAR", "MOVIE_IMDB");
+    assertThat(new SchemaMetadataFile(path).read(getIdentity(), fingerprint).get(CachedSchemaMetaData.getColumnsKey("MOVIE")))
+      .containsExactly("ID", "TITLE", "YEAR", "MOVIE_IMDB");
+  }
+
+  /**
+   * This method tests that the modification of the columns of a table is not detected by the fingerprint and that the
+   * metadata are loaded from the database after an invalidation.
+   */
+  @Test
+  public void test_columns_modification_needs_invalidation() {
+    try {
+      update("create table metadata_file(id int)");
+      assertThat(createMetaData().getColumnsName("METADATA_FILE")).containsExactly("ID");
+
+      update("alter table metadata_file add column name varchar(10)");
+      SchemaMetadata metaData = createMetaData();
+      assertThat(metaData.getColumnsName("METADATA_FILE")).containsExactly("ID");
+      metaData.invalidateAll();
+      assertThat(metaData.getColumnsName("METADATA_FILE")).containsExactly("ID", "NAME");
+      assertThat(createMetaData().getColumnsName("METADATA_FILE")).containsExactly("ID", "NAME");
+    } finally {
+      update("drop table metadata_file");
+    }
+  }
+}
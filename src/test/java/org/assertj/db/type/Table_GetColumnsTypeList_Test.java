@@ -0,0 +1,70 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2025 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Types;
+import java.util.List;
+
+import org.assertj.db.common.AbstractTest;
+import org.junit.Test;
+
+/**
+ * Tests on the {@code getColumnsTypeList} method of {@code Table}.
+ *
+ * @author Régis Pouiller
+ */
+public class Table_GetColumnsTypeList_Test extends AbstractTest {
+
+  /**
+   * This method tests the types of the columns found when the rows are loaded.
+   */
+  @Test
+  public void test_columns_type_list() {
+    Table table = assertDbConnection.table("test").columnsToCheck(new String[]{"var1", "var6", "var9", "var12"}).build();
+
+    List<ColumnType> columnsTypeList = table.getColumnsTypeList();
+
+    assertThat(columnsTypeList).hasSize(4);
+    assertThat(columnsTypeList.get(0).getValueType()).isEqualTo(ValueType.NUMBER);
+    assertThat(columnsTypeList.get(0).getSqlType()).isEqualTo(Types.INTEGER);
+    assertThat(columnsTypeList.get(1).getValueType()).isEqualTo(ValueType.NUMBER);
+    assertThat(columnsTypeList.get(1).getSqlType()).isEqualTo(Types.DECIMAL);
+    assertThat(columnsTypeList.get(1).getPrecision()).isEqualTo(20);
+    assertThat(columnsTypeList.get(1).getScale()).isEqualTo(2);
+    assertThat(columnsTypeList.get(2).getValueType()).isEqualTo(ValueType.DATE);
+    assertThat(columnsTypeList.get(3).getValueType()).isEqualTo(ValueType.TEXT);
+    assertThat(table.getColumn(1).getType()).isSameAs(columnsTypeList.get(1));
+  }
+
+  /**
+   * This method tests that the values of the rows have the type of their column.
+   */
+  @Test
+  public void test_values_have_the_type_of_the_column() {
+    Table table = assertDbConnection.table("test").build();
+
+    List<ColumnType> columnsTypeList = table.getColumnsTypeList();
+    for (Row row : table.getRowsList()) {
+      List<Value> valuesList = row.getValuesList();
+      for (int index = 0; index < valuesList.size(); index++) {
+        Value value = valuesList.get(index);
+        if (value.getValue() != null) {
+          assertThat(value.getValueType()).isEqualTo(Value.getType(value.getValue()))
+                                          .isEqualTo(columnsTypeList.get(index).getValueType());
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2025 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.db.common.AbstractTest;
+import org.junit.Test;
+
+/**
+ * Tests on the {@code getNumberOfRows} method of {@code Table}.
+ *
+ * @author Régis Pouiller
+ */
+public class Table_GetNumberOfRows_Test extends AbstractTest {
+
+  /**
+   * This method tests that the rows are counted without being loaded.
+   */
+  @Test
+  public void test_number_of_rows_without_loading() {
+    List<String> requestsList = new ArrayList<>();
+    Table table = getConnectionKeepingRequests(requestsList).table("interpretation")
+      .columnsToCheck(new String[]{"id"}).build();
+
+    assertThat(table.getNumberOfRows()).isEqualTo(5);
+    assertThat(table.getNumberOfRows()).isEqualTo(5);
+    assertThat(requestsList).containsExactly("SELECT COUNT(*) FROM INTERPRETATION");
+    assertThat(table.getRowsList()).hasSize(5);
+    assertThat(requestsList).hasSize(2);
+  }
+
+  /**
+   * This method tests the number of rows when the rows are already loaded.
+   */
+  @Test
+  public void test_number_of_rows_with_loaded_rows() {
+    List<String> requestsList = new ArrayList<>();
+    Table table = getConnectionKeepingRequests(requestsList).table("movie").build();
+
+    assertThat(table.getRowsList()).hasSize(3);
+    assertThat(table.getNumberOfRows()).isEqualTo(3);
+    assertThat(requestsList).containsExactly("SELECT * FROM MOVIE ORDER BY ID");
+  }
+}
@@ -15,6 +15,7 @@ package org.assertj.db.type;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.math.BigDecimal;
+import java.util.Arrays;
 import java.util.UUID;
 
 import org.assertj.db.common.AbstractTest;
@@ -61,4 +62,23 @@ public class Table_GetRowFromPksValues_Test extends AbstractTest {
       .isEqualTo(UUID.fromString(
         "30B443AE-C0C9-4790-9BEC-CE1380808435"));
   }
+
+  /**
+   * This method test getting a row from primary keys values when a {@code Float} is compared with another class of
+   * number (their hash codes are different).
+   */
+  @Test
+  public void test_getting_row_from_primary_keys_values_with_float() throws Exception {
+    Row row1 = getRow(Arrays.asList("ID"), Arrays.asList("ID", "NAME"),
+                      Arrays.asList(getValue("ID", 0.1F), getValue("NAME", "first")));
+    Row row2 = getRow(Arrays.asList("ID"), Arrays.asList("ID", "NAME"),
+                      Arrays.asList(getValue("ID", 16777217), getValue("NAME", "second")));
+    Table table = getTable(Arrays.asList("ID", "NAME"), Arrays.asList("ID"), Arrays.asList(row1, row2));
+
+    assertThat(table.getRowFromPksValues(getValue(null, 0.1F))).isSameAs(row1);
+    assertThat(table.getRowFromPksValues(getValue(null, 0.1D))).isSameAs(row1);
+    assertThat(table.getRowFromPksValues(getValue(null, 16777217L))).isSameAs(row2);
+    assertThat(table.getRowFromPksValues(getValue(null, 16777216F))).isSameAs(row2);
+    assertThat(table.getRowFromPksValues(getValue(null, 0.2D))).isNull();
+  }
 }
@@ -0,0 +1,82 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2025 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.type.Table.Order;
+import org.junit.Test;
+
+/**
+ * Tests on the request used to load the rows of a {@code Table}.
+ *
+ * @author Régis Pouiller
+ */
+public class Table_LoadingRequest_Test extends AbstractTest {
+
+  /**
+   * This method tests that the rows are ordered by the primary keys in the database.
+   */
+  @Test
+  public void test_rows_ordered_by_primary_keys() {
+    List<String> requestsList = new ArrayList<>();
+    Table table = getConnectionKeepingRequests(requestsList).table("interpretation").columnsToCheck(new String[]{"id", "character"}).build();
+
+    assertThat(table.getRowsList()).hasSize(5);
+    assertThat(table.getRequest()).isEqualTo("SELECT ID, CHARACTER FROM INTERPRETATION");
+    assertThat(requestsList).containsExactly("SELECT ID, CHARACTER FROM INTERPRETATION ORDER BY ID");
+    for (int index = 0; index < 5; index++) {
+      assertThat(table.getRow(index).getColumnValue("ID").getValue()).isEqualTo(new BigDecimal(index + 1));
+    }
+  }
+
+  /**
+   * This method tests that the rows are not ordered by the primary keys if there are columns to order.
+   */
+  @Test
+  public void test_rows_ordered_by_columns_to_order() {
+    List<String> requestsList = new ArrayList<>();
+    Table table = getConnectionKeepingRequests(requestsList).table("movie")
+      .columnsToOrder(new Order[]{Order.desc("title")}).build();
+
+    assertThat(table.getRowsList()).hasSize(3);
+    assertThat(requestsList).containsExactly("SELECT * FROM MOVIE ORDER BY TITLE DESC");
+    assertThat(table.getRow(0).getColumnValue("TITLE").getValue()).isEqualTo("The Village");
+  }
+
+  /**
+   * This method tests that the rows are sorted in memory if there is no primary key.
+   */
+  @Test
+  public void test_rows_sorted_without_primary_key() {
+    try {
+      update("create table loading_request(number int)");
+      update("insert into loading_request values (3), (1), (2)");
+      List<String> requestsList = new ArrayList<>();
+      Table table = getConnectionKeepingRequests(requestsList).table("loading_request").build();
+
+      assertThat(table.getRowsList()).hasSize(3);
+      assertThat(requestsList).containsExactly("SELECT * FROM LOADING_REQUEST");
+      for (int index = 0; index < 3; index++) {
+        assertThat(table.getRow(index).getColumnValue("NUMBER").getValue()).isEqualTo(index + 1);
+      }
+    } finally {
+      update("drop table loading_request");
+    }
+  }
+}
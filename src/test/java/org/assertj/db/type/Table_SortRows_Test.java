@@ -0,0 +1,49 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2025 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.assertj.db.common.AbstractTest;
+import org.junit.Test;
+
+/**
+ * Tests on the sort of the rows of a {@code Table}.
+ *
+ * @author Régis Pouiller
+ */
+public class Table_SortRows_Test extends AbstractTest {
+
+  /**
+   * This method tests the parallel sort of the rows of a large table.
+   */
+  @Test
+  public void test_parallel_sort() {
+    int size = AbstractDbData.PARALLEL_SORT_THRESHOLD + 10;
+    try {
+      update("create table sort_rows(number int, text varchar(10))");
+      update("insert into sort_rows select mod(x * 7919, " + size + "), 'text' || mod(x, 3) from system_range(1, "
+             + size + ")");
+
+      List<Row> rowsList = assertDbConnection.table("sort_rows").build().getRowsList();
+      assertThat(rowsList).hasSize(size);
+      for (int index = 0; index < size; index++) {
+        assertThat(rowsList.get(index).getColumnValue("NUMBER").getValue()).isEqualTo(index);
+      }
+    } finally {
+      update("drop table sort_rows");
+    }
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2025 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.db.type.Table.Order.desc;
+
+import java.math.BigDecimal;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.junit.Test;
+
+/**
+ * Tests on the {@code WHERE} clause of {@code Table}.
+ *
+ * @author Régis Pouiller
+ */
+public class Table_Where_Test extends AbstractTest {
+
+  /**
+   * This method tests the request and the getters.
+   */
+  @Test
+  public void test_request_and_getters() {
+    Table table = assertDbConnection.table("movie").where("year > ? and title <> ?", 2000, "Avatar")
+      .columnsToOrder(new Table.Order[]{desc("id")}).build();
+
+    assertThat(table.getRequest()).isEqualTo("SELECT * FROM MOVIE WHERE year > ? and title <> ? ORDER BY ID DESC");
+    assertThat(table.getWhereCondition()).isEqualTo("year > ? and title <> ?");
+    assertThat(table.getWhereParameters()).containsExactly(2000, "Avatar");
+
+    table = assertDbConnection.table("movie").build();
+
+    assertThat(table.getRequest()).isEqualTo("SELECT * FROM MOVIE");
+    assertThat(table.getWhereCondition()).isNull();
+    assertThat(table.getWhereParameters()).isEmpty();
+  }
+
+  /**
+   * This method tests that the builder keeps a copy of the parameters.
+   */
+  @Test
+  public void test_parameters_copied_by_builder() {
+    Object[] parameters = {2000};
+    Table.Builder builder = assertDbConnection.table("movie").where("year > ?", parameters);
+    parameters[0] = 1900;
+    Table table = builder.build();
+
+    assertThat(table.getWhereParameters()).containsExactly(2000);
+    assertThat(assertDbConnection.table("movie").where(null, (Object[]) null).build().getWhereParameters()).isEmpty();
+  }
+
+  /**
+   * This method tests the rows and the number of rows.
+   */
+  @Test
+  public void test_rows() {
+    Table table = assertDbConnection.table("movie").where("year > ?", 2000).build();
+
+    assertThat(table.getNumberOfRows()).isEqualTo(2);
+    assertThat(table.getRowsList()).hasSize(2);
+    assertThat(table.getRow(0).getColumnValue("id").getValue()).isEqualTo(new BigDecimal(2));
+    assertThat(table.getRow(1).getColumnValue("id").getValue()).isEqualTo(new BigDecimal(3));
+  }
+
+  /**
+   * This method tests that the changes only are on the rows of the condition.
+   */
+  @Test
+  @NeedReload
+  public void test_changes() {
+    Changes changes = assertDbConnection.changes().table("movie", t -> t.where("year < ?", 2000)).build();
+    changes.setStartPointNow();
+    update("update movie set title = 'Alien 1' where id = 1");
+    update("update movie set title = 'The Village 2' where id = 2");
+    update("insert into movie values(4, 'Ghostbusters', 1984, '30B443AE-C0C9-4790-9BEC-CE1380808435')");
+    changes.setEndPointNow();
+
+    assertThat(changes.getChangesList()).hasSize(2);
+    assertThat(changes.getChangesList().get(0).getChangeType()).isEqualTo(ChangeType.CREATION);
+    assertThat(changes.getChangesList().get(0).getRowAtEndPoint().getColumnValue("id").getValue())
+      .isEqualTo(new BigDecimal(4));
+    assertThat(changes.getChangesList().get(1).getChangeType()).isEqualTo(ChangeType.MODIFICATION);
+    assertThat(changes.getChangesList().get(1).getRowAtEndPoint().getColumnValue("title").getValue())
+      .isEqualTo("Alien 1");
+  }
+}
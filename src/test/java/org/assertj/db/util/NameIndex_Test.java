@@ -0,0 +1,111 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2025 the original author or authors.
+ */
+package org.assertj.db.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.type.Row;
+import org.assertj.db.type.Table;
+import org.assertj.db.type.lettercase.CaseComparison;
+import org.assertj.db.type.lettercase.CaseComparisons;
+import org.assertj.db.type.lettercase.CaseConversions;
+import org.assertj.db.type.lettercase.LetterCase;
+import org.junit.Test;
+
+/**
+ * Tests on the index of the names.
+ *
+ * @author Régis Pouiller
+ */
+public class NameIndex_Test extends AbstractTest {
+
+  /**
+   * Test the {@code contains} method.
+   */
+  @Test
+  public void test_contains() {
+    NameIndex nameIndex = new NameIndex(Arrays.asList("azerty", "AzerTy"));
+    assertThat(nameIndex.contains("AZERTY", CaseComparisons.IGNORE)).isTrue();
+    assertThat(nameIndex.contains("azerty", CaseComparisons.IGNORE)).isTrue();
+    assertThat(nameIndex.contains("AzerTy", CaseComparisons.IGNORE)).isTrue();
+    assertThat(nameIndex.contains("qwerty", CaseComparisons.IGNORE)).isFalse();
+    assertThat(nameIndex.contains("AZERTY", CaseComparisons.STRICT)).isFalse();
+    assertThat(nameIndex.contains("azerty", CaseComparisons.STRICT)).isTrue();
+    assertThat(nameIndex.contains("AzerTy", CaseComparisons.STRICT)).isTrue();
+  }
+
+  /**
+   * Test the {@code indexOf} method.
+   */
+  @Test
+  public void test_indexOf() {
+    NameIndex nameIndex = new NameIndex(Arrays.asList("azerty", "AzerTy", null));
+    assertThat(nameIndex.indexOf("AZERTY", CaseComparisons.IGNORE)).isEqualTo(0);
+    assertThat(nameIndex.indexOf("AzerTy", CaseComparisons.IGNORE)).isEqualTo(0);
+    assertThat(nameIndex.indexOf("AZERTY", CaseComparisons.STRICT)).isEqualTo(-1);
+    assertThat(nameIndex.indexOf("AzerTy", CaseComparisons.STRICT)).isEqualTo(1);
+    assertThat(nameIndex.indexOf("AzerTy", LetterCase.getLetterCase(CaseConversions.NO, CaseComparisons.STRICT)))
+      .isEqualTo(1);
+    assertThat(nameIndex.indexOf("AZERTY", LetterCase.COLUMN_DEFAULT)).isEqualTo(0);
+  }
+
+  /**
+   * Test that the {@code indexOf} method is the same as the one of {@link NameComparator}.
+   */
+  @Test
+  public void test_indexOf_same_as_name_comparator() {
+    List<String> namesList = Arrays.asList("id", "ID", "Title", "straße", "STRASSE", "ǅ", "ǆ", "ı", "I");
+    CaseComparison startsWith = new CaseComparison() {
+      @Override
+      public String getComparisonName() {
+        return "STARTS_WITH";
+      }
+
+      @Override
+      public boolean isEqual(String value1, String value2) {
+        return value1.startsWith(value2);
+      }
+
+      @Override
+      public int compare(String value1, String value2) {
+        return value1.compareTo(value2);
+      }
+    };
+    NameIndex nameIndex = new NameIndex(namesList);
+    for (CaseComparison comparison : Arrays.asList(CaseComparisons.IGNORE, CaseComparisons.STRICT, startsWith)) {
+      for (String name : Arrays.asList("id", "Id", "TITLE", "STRASSE", "Straße", "Ǆ", "ǅ", "i", "İ", "T", "unknown")) {
+        assertThat(nameIndex.indexOf(name, comparison))
+          .as("%s with %s", name, comparison.getComparisonName())
+          .isEqualTo(NameComparator.INSTANCE.indexOf(namesList, name, comparison));
+      }
+    }
+  }
+
+  /**
+   * Test that the index is shared by the rows.
+   */
+  @Test
+  public void test_index_shared_by_the_rows() {
+    Table table = assertDbConnection.table("actor").build();
+    NameIndex nameIndex = table.getColumnsNameIndex();
+    assertThat(nameIndex.getNamesList()).isSameAs(table.getColumnsNameList());
+    for (Row row : table.getRowsList()) {
+      assertThat(row.getColumnsNameIndex()).isSameAs(nameIndex);
+      assertThat(row.getColumnValue("name").getValue()).isEqualTo(row.getColumnValue(1).getValue());
+    }
+  }
+}
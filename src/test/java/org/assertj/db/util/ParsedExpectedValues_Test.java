@@ -0,0 +1,67 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2025 the original author or authors.
+ */
+package org.assertj.db.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.text.ParseException;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.exception.AssertJDBException;
+import org.assertj.db.type.DateTimeValue;
+import org.assertj.db.type.DateValue;
+import org.assertj.db.type.TimeValue;
+import org.junit.Test;
+
+/**
+ * Tests on the expected values parsed from their {@code String} representation.
+ *
+ * @author Régis Pouiller
+ */
+public class ParsedExpectedValues_Test extends AbstractTest {
+
+  /**
+   * This method tests that the values are parsed only once.
+   */
+  @Test
+  public void test_values_parsed_once() throws ParseException {
+    ParsedExpectedValues parsedExpectedValues = new ParsedExpectedValues();
+    DateTimeValue dateTimeValue = parsedExpectedValues.getDateTimeValue("2007-12-23T09:01");
+    assertThat(dateTimeValue).isEqualTo(DateTimeValue.of(DateValue.of(2007, 12, 23), TimeValue.of(9, 1)));
+    assertThat(parsedExpectedValues.getDateTimeValue("2007-12-23T09:01")).isSameAs(dateTimeValue);
+    TimeValue timeValue = parsedExpectedValues.getTimeValue("09:01");
+    assertThat(timeValue).isEqualTo(TimeValue.of(9, 1));
+    assertThat(parsedExpectedValues.getTimeValue("09:01")).isSameAs(timeValue);
+    assertThatThrownBy(() -> parsedExpectedValues.getTimeValue("2007-12-23")).isInstanceOf(ParseException.class);
+  }
+
+  /**
+   * This method tests the comparison of the values with the expected values already parsed.
+   */
+  @Test
+  public void test_areEqual_with_parsed_expected_values() throws Exception {
+    ParsedExpectedValues parsedExpectedValues = new ParsedExpectedValues();
+    assertThat(Values.areEqual(getValue(null, Date.valueOf("2007-12-23")), "2007-12-23", parsedExpectedValues)).isTrue();
+    assertThat(Values.areEqual(getValue(null, Date.valueOf("2007-12-24")), "2007-12-23", parsedExpectedValues)).isFalse();
+    assertThat(Values.areEqual(getValue(null, Time.valueOf("09:01:00")), "09:01", parsedExpectedValues)).isTrue();
+    assertThat(Values.areEqual(getValue(null, Timestamp.valueOf("2007-12-23 09:01:00")), "2007-12-23T09:01",
+                               parsedExpectedValues)).isTrue();
+    assertThat(Values.areEqual(getValue(null, "2007-12-23"), "2007-12-23", parsedExpectedValues)).isTrue();
+    assertThatThrownBy(() -> Values.areEqual(getValue(null, Date.valueOf("2007-12-23")), "12/23/2007",
+                                             parsedExpectedValues)).isInstanceOf(AssertJDBException.class);
+  }
+}
@@ -0,0 +1,157 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2025 the original author or authors.
+ */
+package org.assertj.db.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.type.DateTimeValue;
+import org.assertj.db.type.DateValue;
+import org.assertj.db.type.TimeValue;
+import org.assertj.db.type.Value;
+import org.assertj.db.type.ValueType;
+import org.junit.Test;
+
+/**
+ * Tests on the equality of a value specialized for a type of value.
+ *
+ * @author Régis Pouiller
+ */
+public class ValueEquality_Test extends AbstractTest {
+
+  /**
+   * This method tests the {@code of} method with a type of value.
+   */
+  @Test
+  public void test_of_value_type() {
+    for (ValueType valueType : ValueType.values()) {
+      assertThat(ValueEquality.of(valueType).getValueType()).isEqualTo(valueType);
+    }
+  }
+
+  /**
+   * This method tests the {@code of} method with the values of a column.
+   */
+  @Test
+  public void test_of_values() throws Exception {
+    assertThat(ValueEquality.of(Arrays.asList(getValue(null, 1), getValue(null, null), getValue(null, 2L))))
+      .isEqualTo(ValueEquality.NUMBER);
+    assertThat(ValueEquality.of(Arrays.asList(getValue(null, 1), getValue(null, "1"))))
+      .isEqualTo(ValueEquality.NOT_IDENTIFIED);
+    assertThat(ValueEquality.of(Arrays.asList(getValue(null, null), getValue(null, null))))
+      .isEqualTo(ValueEquality.NOT_IDENTIFIED);
+    assertThat(ValueEquality.of(new ArrayList<>())).isEqualTo(ValueEquality.NOT_IDENTIFIED);
+  }
+
+  /**
+   * This method tests that the {@code areEqual} method gives the same result as {@link Values#areEqual(Value, Object)}
+   * for any equality.
+   */
+  @Test
+  public void test_areEqual_same_as_values() throws Exception {
+    List<Object> objects = Arrays.asList(null, true, 1, 1L, 1.0, new BigDecimal("1.0"), "1", "text", 't',
+                                         new byte[]{1}, UUID.fromString("30B443AE-C0C9-4790-9BEC-CE1380808435"),
+                                         "30B443AE-C0C9-4790-9BEC-CE1380808435", Date.valueOf("2007-12-23"),
+                                         "2007-12-23", DateValue.of(2007, 12, 23), LocalDate.of(2007, 12, 23),
+                                         Time.valueOf("09:01:00"), "09:01", TimeValue.of(9, 1),
+                                         LocalTime.of(9, 1), Timestamp.valueOf("2007-12-23 09:01:00"),
+                                         "2007-12-23T09:01", DateTimeValue.of(DateValue.of(2007, 12, 23),
+                                                                              TimeValue.of(9, 1)),
+                                         LocalDateTime.of(2007, 12, 23, 9, 1), Locale.FRENCH);
+    for (Object object : objects) {
+      Value value = getValue("column", object);
+      for (Object expected : objects) {
+        Object areEqual = getResult(() -> Values.areEqual(value, expected));
+        for (ValueEquality equality : ValueEquality.values()) {
+          assertThat(getResult(() -> equality.areEqual(value, expected))).as("%s with %s", object, expected)
+                                                                         .isEqualTo(areEqual);
+        }
+      }
+    }
+  }
+
+  /**
+   * This method tests that the {@code areEqual} method gives the same result as the {@code Values.areEqual} method
+   * with the type of the expected value, when the values have the same class.
+   */
+  @Test
+  public void test_areEqual_for_values_of_same_class() throws Exception {
+    List<Object> numbers = Arrays.asList(1, 2, Integer.MIN_VALUE, 1L, 2L, Long.MAX_VALUE, 1.0, 2.0, -0.0, 0.0,
+                                         Double.NaN, Double.POSITIVE_INFINITY);
+    for (Object object : numbers) {
+      Value value = getValue("column", object);
+      for (Object expected : numbers) {
+        assertThat(ValueEquality.NUMBER.areEqual(value, expected)).as("%s with %s", object, expected)
+                                                                  .isEqualTo(Values.areEqual(value, (Number) expected));
+      }
+    }
+    List<String> texts = Arrays.asList("", "text", "Text", "text ");
+    for (String object : texts) {
+      Value value = getValue("column", object);
+      for (String expected : texts) {
+        assertThat(ValueEquality.TEXT.areEqual(value, expected)).as("%s with %s", object, expected)
+                                                                .isEqualTo(Values.areEqual(value, expected));
+      }
+    }
+  }
+
+  /**
+   * This method tests the {@code areEqualWithoutConversion} method.
+   */
+  @Test
+  public void test_areEqualWithoutConversion() throws Exception {
+    List<Object> objects = Arrays.asList(null, 1, 2, 1L, 1.0, Double.NaN, -0.0, 0.0, "1", "text",
+                                         new BigDecimal("1.0"), Date.valueOf("2007-12-23"));
+    for (Object object : objects) {
+      Value value = getValue("column", object);
+      for (Object expected : objects) {
+        Boolean areEqual = ValueEquality.areEqualWithoutConversion(object, expected);
+        if (areEqual != null) {
+          assertThat(areEqual).as("%s with %s", object, expected).isEqualTo(Values.areEqual(value, expected));
+        }
+      }
+    }
+    assertThat(ValueEquality.areEqualWithoutConversion(null, null)).isTrue();
+    assertThat(ValueEquality.areEqualWithoutConversion(1, null)).isFalse();
+    assertThat(ValueEquality.areEqualWithoutConversion(1, 1L)).isNull();
+    assertThat(ValueEquality.areEqualWithoutConversion(new BigDecimal("1.0"), new BigDecimal("1.00"))).isNull();
+  }
+
+  /**
+   * Returns the result of a comparison or the class of the exception thrown by the comparison.
+   *
+   * @param comparison The comparison.
+   * @return The result.
+   */
+  private static Object getResult(Supplier<Boolean> comparison) {
+    try {
+      return comparison.get();
+    } catch (RuntimeException e) {
+      return e.getClass();
+    }
+  }
+}
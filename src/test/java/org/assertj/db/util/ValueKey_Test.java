@@ -0,0 +1,159 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2025 the original author or authors.
+ */
+package org.assertj.db.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.type.DateTimeValue;
+import org.assertj.db.type.DateValue;
+import org.assertj.db.type.TimeValue;
+import org.assertj.db.type.Value;
+import org.junit.Test;
+
+/**
+ * Tests on the keys of the values used to verify that the values of a column contain the expected values.
+ *
+ * @author Régis Pouiller
+ */
+public class ValueKey_Test extends AbstractTest {
+
+  /**
+   * Returns the values of a column.
+   */
+  private static List<Value> getValues(Object... objects) throws Exception {
+    List<Value> valuesList = new ArrayList<>();
+    for (Object object : objects) {
+      valuesList.add(getValue(null, object));
+    }
+    return valuesList;
+  }
+
+  /**
+   * Returns if the values contain the expected values with the comparison of {@link Values#areEqual(Value, Object)}
+   * (each value is used only once).
+   */
+  private static boolean containsAllWithAreEqual(List<Value> valuesList, Object[] expected) {
+    List<Value> remaining = new ArrayList<>(valuesList);
+    for (Object object : expected) {
+      boolean found = false;
+      for (int index = 0; index < remaining.size(); index++) {
+        if (Values.areEqual(remaining.get(index), object)) {
+          remaining.remove(index);
+          found = true;
+          break;
+        }
+      }
+      if (!found) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Asserts that the keys give the expected result and the same result as {@link Values#areEqual(Value, Object)}.
+   */
+  private static void assertContainsAll(boolean result, ValueKey valueKey, List<Value> valuesList,
+                                        Object... expected) {
+    assertThat(valueKey.containsAll(valuesList, expected)).as(valuesList + " " + Arrays.toString(expected))
+                                                         .isEqualTo(result);
+    if (result) {
+      assertThat(containsAllWithAreEqual(valuesList, expected)).isTrue();
+    }
+  }
+
+  /**
+   * This method tests the {@code of} method.
+   */
+  @Test
+  public void test_of() {
+    assertThat(ValueKey.of(new Object[]{true, null, false})).isEqualTo(ValueKey.BOOLEAN);
+    assertThat(ValueKey.of(new Object[]{1, 2L, new BigDecimal("3"), BigInteger.TEN})).isEqualTo(ValueKey.NUMBER);
+    assertThat(ValueKey.of(new Object[]{new byte[]{1}})).isEqualTo(ValueKey.BYTES);
+    assertThat(ValueKey.of(new Object[]{"text"})).isEqualTo(ValueKey.TEXT);
+    assertThat(ValueKey.of(new Object[]{'t'})).isEqualTo(ValueKey.CHARACTER);
+    assertThat(ValueKey.of(new Object[]{UUID.randomUUID()})).isEqualTo(ValueKey.UUID);
+    assertThat(ValueKey.of(new Object[]{DateValue.of(2007, 12, 23)})).isEqualTo(ValueKey.DATE_TIME);
+    assertThat(ValueKey.of(new Object[]{TimeValue.of(9, 1)})).isEqualTo(ValueKey.TIME);
+    assertThat(ValueKey.of(new Object[]{1, "1"})).isNull();
+    assertThat(ValueKey.of(new Object[]{1.0})).isNull();
+    assertThat(ValueKey.of(new Object[]{DateTimeValue.of(DateValue.of(2007, 12, 23))})).isNull();
+    assertThat(ValueKey.of(new Object[]{null, null})).isNull();
+  }
+
+  /**
+   * This method tests the {@code containsAll} method with numbers.
+   */
+  @Test
+  public void test_containsAll_with_numbers() throws Exception {
+    assertContainsAll(true, ValueKey.NUMBER, getValues(1, 2L, (byte) 3), 3, 1L, (short) 2);
+    assertContainsAll(true, ValueKey.NUMBER, getValues(100L, 2), new BigDecimal("1E2"), new BigDecimal("2.00"));
+    assertContainsAll(true, ValueKey.NUMBER, getValues(new BigDecimal("1.50"), 2), 2, new BigDecimal("1.5"));
+    assertContainsAll(true, ValueKey.NUMBER, getValues(Long.MAX_VALUE, Long.MIN_VALUE), Long.MIN_VALUE,
+                      BigInteger.valueOf(Long.MAX_VALUE));
+    assertContainsAll(true, ValueKey.NUMBER, getValues(null, 1), 1, null);
+    assertContainsAll(false, ValueKey.NUMBER, getValues(Long.MAX_VALUE), Long.MAX_VALUE - 1);
+    assertContainsAll(false, ValueKey.NUMBER, getValues(1, 1), 1, 2);
+    assertContainsAll(false, ValueKey.NUMBER, getValues(1, 2), 1, 1);
+    assertContainsAll(false, ValueKey.NUMBER, getValues(1.5f), 1.5f);
+    assertContainsAll(false, ValueKey.NUMBER, getValues(1, "1"), 1, 1);
+    assertContainsAll(false, ValueKey.NUMBER, getValues(null, 1), BigInteger.ONE, null);
+    assertContainsAll(false, ValueKey.NUMBER, getValues(new BigDecimal("1")), BigInteger.ONE);
+  }
+
+  /**
+   * This method tests the {@code containsAll} method with texts and characters.
+   */
+  @Test
+  public void test_containsAll_with_texts() throws Exception {
+    assertContainsAll(true, ValueKey.TEXT, getValues("a", "b", null), null, "b", "a");
+    assertContainsAll(false, ValueKey.TEXT, getValues("a", "b"), "a", "a");
+    assertContainsAll(false, ValueKey.TEXT, getValues(1, 2), "1", "2");
+    assertContainsAll(true, ValueKey.CHARACTER, getValues("abc", 'b'), 'b', 'a');
+    assertContainsAll(false, ValueKey.CHARACTER, getValues("", 'b'), 'b', 'a');
+  }
+
+  /**
+   * This method tests the {@code containsAll} method with the other kinds of values.
+   */
+  @Test
+  public void test_containsAll_with_other_values() throws Exception {
+    UUID uuid = UUID.fromString("30B443AE-C0C9-4790-9BEC-CE1380808435");
+    assertContainsAll(true, ValueKey.BOOLEAN, getValues(true, false, true), true, true, false);
+    assertContainsAll(false, ValueKey.BOOLEAN, getValues(true, false), true, true);
+    assertContainsAll(true, ValueKey.BYTES, getValues(new byte[]{1, 2}, new byte[]{3}), new byte[]{3},
+                      new byte[]{1, 2});
+    assertContainsAll(false, ValueKey.BYTES, getValues(new byte[]{1, 2}), new byte[]{1});
+    assertContainsAll(true, ValueKey.UUID, getValues(uuid, null), null, uuid);
+    assertContainsAll(true, ValueKey.DATE_TIME,
+                      getValues(Date.valueOf("2007-12-23"), Timestamp.valueOf("2007-12-24 00:00:00")),
+                      DateValue.of(2007, 12, 24), DateValue.of(2007, 12, 23));
+    assertContainsAll(false, ValueKey.DATE_TIME, getValues(Timestamp.valueOf("2007-12-23 09:01:00")),
+                      DateValue.of(2007, 12, 23));
+    assertContainsAll(true, ValueKey.DATE_TIME, getValues(Timestamp.valueOf("2007-12-23 09:01:00")),
+                      DateTimeValue.of(DateValue.of(2007, 12, 23), TimeValue.of(9, 1)));
+    assertContainsAll(true, ValueKey.TIME, getValues(Time.valueOf("09:01:00")), TimeValue.of(9, 1));
+    assertContainsAll(false, ValueKey.TIME, getValues(Time.valueOf("09:01:00")), TimeValue.of(9, 2));
+  }
+}
@@ -209,4 +209,47 @@ public class Values_AreEqual_Value_And_Number_Test extends AbstractTest {
   public void test_are_equal_for_other_and_other() throws Exception {
     assertThat(Values.areEqual(getValue(null, "-"), 1)).isFalse();
   }
+
+  /**
+   * This method tests the {@code areEqual} method between the integral numbers and the {@code BigInteger}s or the
+   * {@code BigDecimal}s at the limits of the {@code long}s.
+   */
+  @Test
+  public void test_are_equal_for_integral_number_and_big_number_at_limits_of_long() throws Exception {
+    BigInteger maxLong = BigInteger.valueOf(Long.MAX_VALUE);
+    assertThat(Values.areEqual(getValue(null, Long.MAX_VALUE), maxLong)).isTrue();
+    assertThat(Values.areEqual(getValue(null, Long.MAX_VALUE), maxLong.add(BigInteger.ONE))).isFalse();
+    assertThat(Values.areEqual(getValue(null, maxLong.add(BigInteger.ONE)), Long.MAX_VALUE)).isFalse();
+    assertThat(Values.areEqual(getValue(null, Long.MIN_VALUE), BigInteger.valueOf(Long.MIN_VALUE))).isTrue();
+    assertThat(Values.areEqual(getValue(null, Long.MAX_VALUE), new BigDecimal(maxLong))).isTrue();
+    assertThat(Values.areEqual(getValue(null, Long.MAX_VALUE), new BigDecimal("9223372036854775807.0"))).isTrue();
+    assertThat(Values.areEqual(getValue(null, Long.MAX_VALUE), new BigDecimal("9223372036854775807.5"))).isFalse();
+    assertThat(Values.areEqual(getValue(null, 100), new BigDecimal("1E2"))).isTrue();
+    assertThat(Values.areEqual(getValue(null, new BigDecimal("1E2")), (byte) 100)).isTrue();
+    assertThat(Values.areEqual(getValue(null, new BigDecimal("1E19")), Long.MAX_VALUE)).isFalse();
+  }
+
+  /**
+   * This method tests the {@code areEqual} method between the {@code Float}s or the {@code Double}s and the
+   * {@code BigDecimal}s.
+   */
+  @Test
+  public void test_are_equal_for_floating_number_and_big_decimal() throws Exception {
+    assertThat(Values.areEqual(getValue(null, 0.1D), new BigDecimal("0.1"))).isTrue();
+    assertThat(Values.areEqual(getValue(null, 0.1D), new BigDecimal("0.100"))).isTrue();
+    assertThat(Values.areEqual(getValue(null, 0.1D), new BigDecimal("0.10000000000000001"))).isFalse();
+    assertThat(Values.areEqual(getValue(null, 0.1D), new BigDecimal("0.2"))).isFalse();
+    assertThat(Values.areEqual(getValue(null, 1.0E23D), new BigDecimal("1E23"))).isTrue();
+    assertThat(Values.areEqual(getValue(null, 1.0E300D), new BigDecimal("1E400"))).isFalse();
+    assertThat(Values.areEqual(getValue(null, -0.0D), BigDecimal.ZERO)).isTrue();
+    assertThat(Values.areEqual(getValue(null, 0.0D), new BigDecimal("1E-400"))).isFalse();
+    assertThat(Values.areEqual(getValue(null, Double.MIN_VALUE), new BigDecimal("4E-324"))).isFalse();
+    assertThat(Values.areEqual(getValue(null, 0.1F), new BigDecimal("0.1"))).isTrue();
+    assertThat(Values.areEqual(getValue(null, 0.1F), new BigDecimal("0.100000001"))).isFalse();
+    assertThat(Values.areEqual(getValue(null, 1.5F), new BigDecimal("1.4"))).isFalse();
+    assertThat(Values.areEqual(getValue(null, new BigDecimal("0.1")), 0.1D)).isTrue();
+    assertThat(Values.areEqual(getValue(null, new BigDecimal("0.10000000000000001")), 0.1D)).isFalse();
+    assertThat(Values.areEqual(getValue(null, new BigDecimal("0.1")), 0.1F)).isTrue();
+    assertThat(Values.areEqual(getValue(null, new BigDecimal("0.2")), 0.1F)).isFalse();
+  }
 }
@@ -242,4 +242,54 @@ public class Values_Compare_Value_And_Number_Test extends AbstractTest {
     Values.compare(getValue(null, "-"), 1);
   }
 
+  /**
+   * This method tests the {@code compare} method between the integral numbers and the {@code BigInteger}s or the
+   * {@code BigDecimal}s at the limits of the {@code long}s.
+   */
+  @Test
+  public void test_compare_for_integral_number_and_big_number_at_limits_of_long() throws Exception {
+    BigInteger maxLong = BigInteger.valueOf(Long.MAX_VALUE);
+    BigInteger minLong = BigInteger.valueOf(Long.MIN_VALUE);
+    assertThat(Values.compare(getValue(null, Long.MAX_VALUE), maxLong)).isEqualTo(0);
+    assertThat(Values.compare(getValue(null, Long.MAX_VALUE), maxLong.add(BigInteger.ONE))).isEqualTo(-1);
+    assertThat(Values.compare(getValue(null, Long.MIN_VALUE), minLong)).isEqualTo(0);
+    assertThat(Values.compare(getValue(null, Long.MIN_VALUE), minLong.subtract(BigInteger.ONE))).isEqualTo(1);
+    assertThat(Values.compare(getValue(null, maxLong.add(BigInteger.ONE)), Long.MAX_VALUE)).isEqualTo(1);
+    assertThat(Values.compare(getValue(null, minLong.subtract(BigInteger.ONE)), (byte) 1)).isEqualTo(-1);
+
+    assertThat(Values.compare(getValue(null, Long.MAX_VALUE), new BigDecimal(maxLong))).isEqualTo(0);
+    assertThat(Values.compare(getValue(null, Long.MAX_VALUE), new BigDecimal("9223372036854775807.5"))).isEqualTo(-1);
+    assertThat(Values.compare(getValue(null, Long.MAX_VALUE), new BigDecimal("1E19"))).isEqualTo(-1);
+    assertThat(Values.compare(getValue(null, Long.MIN_VALUE), new BigDecimal("-1E19"))).isEqualTo(1);
+    assertThat(Values.compare(getValue(null, (short) 100), new BigDecimal("1E2"))).isEqualTo(0);
+    assertThat(Values.compare(getValue(null, 1), new BigDecimal("1.00"))).isEqualTo(0);
+    assertThat(Values.compare(getValue(null, 1), new BigDecimal("0.99"))).isEqualTo(1);
+    assertThat(Values.compare(getValue(null, new BigDecimal("1E2")), 100L)).isEqualTo(0);
+    assertThat(Values.compare(getValue(null, new BigDecimal("0.5")), 1)).isEqualTo(-1);
+    assertThat(Values.compare(getValue(null, Long.MAX_VALUE), Long.MAX_VALUE - 1)).isEqualTo(1);
+    assertThat(Values.compare(getValue(null, Long.MAX_VALUE - 1), Long.MAX_VALUE)).isEqualTo(-1);
+  }
+
+  /**
+   * This method tests the {@code compare} method between the {@code Float}s or the {@code Double}s and the
+   * {@code BigDecimal}s.
+   */
+  @Test
+  public void test_compare_for_floating_number_and_big_decimal() throws Exception {
+    assertThat(Values.compare(getValue(null, 0.1D), new BigDecimal("0.1"))).isEqualTo(0);
+    assertThat(Values.compare(getValue(null, 0.1D), new BigDecimal("0.10000000000000001"))).isEqualTo(-1);
+    assertThat(Values.compare(getValue(null, 0.1D), new BigDecimal("0.09999999999999999"))).isEqualTo(1);
+    assertThat(Values.compare(getValue(null, 1.5D), new BigDecimal("1.4"))).isEqualTo(1);
+    assertThat(Values.compare(getValue(null, 1.0E300D), new BigDecimal("1E400"))).isEqualTo(-1);
+    assertThat(Values.compare(getValue(null, -1.0E300D), new BigDecimal("-1E400"))).isEqualTo(1);
+    assertThat(Values.compare(getValue(null, -0.0D), BigDecimal.ZERO)).isEqualTo(0);
+    assertThat(Values.compare(getValue(null, 0.0D), new BigDecimal("1E-400"))).isEqualTo(-1);
+    assertThat(Values.compare(getValue(null, Double.MIN_VALUE), new BigDecimal("4E-324"))).isEqualTo(1);
+    assertThat(Values.compare(getValue(null, 0.1F), new BigDecimal("0.1"))).isEqualTo(0);
+    assertThat(Values.compare(getValue(null, 0.1F), new BigDecimal("0.100000001"))).isEqualTo(-1);
+    assertThat(Values.compare(getValue(null, 1.5F), new BigDecimal("1.6"))).isEqualTo(-1);
+    assertThat(Values.compare(getValue(null, new BigDecimal("0.1")), 0.1D)).isEqualTo(0);
+    assertThat(Values.compare(getValue(null, new BigDecimal("0.2")), 0.1F)).isEqualTo(1);
+    assertThat(Values.compare(getValue(null, new BigDecimal("0.10000000000000001")), 0.1D)).isEqualTo(1);
+  }
 }
@@ -0,0 +1,98 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2025 the original author or authors.
+ */
+package org.assertj.db.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.UUID;
+
+import org.assertj.db.common.AbstractTest;
+import org.junit.Test;
+
+/**
+ * Tests on {@code getHashCode} method.
+ *
+ * @author Régis Pouiller
+ */
+public class Values_GetHashCode_Test extends AbstractTest {
+
+  /**
+   * This method tests the {@code getHashCode} method for numbers of different types.
+   */
+  @Test
+  public void test_get_hash_code_for_numbers() throws Exception {
+    int hashCode = Values.getHashCode(getValue(null, 3));
+    assertThat(Values.getHashCode(getValue(null, (byte) 3))).isEqualTo(hashCode);
+    assertThat(Values.getHashCode(getValue(null, (short) 3))).isEqualTo(hashCode);
+    assertThat(Values.getHashCode(getValue(null, 3L))).isEqualTo(hashCode);
+    assertThat(Values.getHashCode(getValue(null, 3F))).isEqualTo(hashCode);
+    assertThat(Values.getHashCode(getValue(null, 3D))).isEqualTo(hashCode);
+    assertThat(Values.getHashCode(getValue(null, new BigInteger("3")))).isEqualTo(hashCode);
+    assertThat(Values.getHashCode(getValue(null, new BigDecimal("3.00")))).isEqualTo(hashCode);
+    assertThat(Values.getHashCode(getValue(null, 0D))).isEqualTo(Values.getHashCode(getValue(null, -0D)));
+    assertThat(Values.getHashCode(getValue(null, 1.5D)))
+      .isEqualTo(Values.getHashCode(getValue(null, new BigDecimal("1.50"))));
+  }
+
+  /**
+   * This method tests the {@code getHashCode} method for bytes.
+   */
+  @Test
+  public void test_get_hash_code_for_bytes() throws Exception {
+    assertThat(Values.getHashCode(getValue(null, new byte[]{1, 2, 3})))
+      .isEqualTo(Values.getHashCode(getValue(null, new byte[]{1, 2, 3})));
+  }
+
+  /**
+   * This method tests the {@code getHashCode} method for dates, times and date/times.
+   */
+  @Test
+  public void test_get_hash_code_for_dates_and_times() throws Exception {
+    assertThat(Values.getHashCode(getValue(null, Date.valueOf("2007-12-23"))))
+      .isEqualTo(Values.getHashCode(getValue(null, Date.valueOf("2007-12-23"))));
+    assertThat(Values.getHashCode(getValue(null, Time.valueOf("09:01:00"))))
+      .isEqualTo(Values.getHashCode(getValue(null, Time.valueOf("09:01:00"))));
+    assertThat(Values.getHashCode(getValue(null, Timestamp.valueOf("2007-12-23 09:01:00"))))
+      .isEqualTo(Values.getHashCode(getValue(null, Timestamp.valueOf("2007-12-23 09:01:00"))));
+  }
+
+  /**
+   * This method tests the {@code getHashCode} method for other types.
+   */
+  @Test
+  public void test_get_hash_code_for_other_types() throws Exception {
+    assertThat(Values.getHashCode(getValue(null, null))).isEqualTo(0);
+    assertThat(Values.getHashCode(getValue(null, "text"))).isEqualTo("text".hashCode());
+    assertThat(Values.getHashCode(getValue(null, true))).isEqualTo(Boolean.TRUE.hashCode());
+    assertThat(Values.getHashCode(getValue(null, UUID.fromString("30B443AE-C0C9-4790-9BEC-CE1380808435"))))
+      .isEqualTo(UUID.fromString("30B443AE-C0C9-4790-9BEC-CE1380808435").hashCode());
+  }
+
+  /**
+   * This method tests that the {@code getHashCode} method is not consistent with the equality between a {@code Float}
+   * and a number of another class (the indexes on the hash code must not mix them).
+   */
+  @Test
+  public void test_get_hash_code_for_float_and_other_number() throws Exception {
+    assertThat(Values.areEqual(getValue(null, 0.1F), 0.1D)).isTrue();
+    assertThat(Values.getHashCode(getValue(null, 0.1F))).isNotEqualTo(Values.getHashCode(getValue(null, 0.1D)));
+    assertThat(Values.areEqual(getValue(null, 16777217), 16777216F)).isTrue();
+    assertThat(Values.getHashCode(getValue(null, 16777217)))
+      .isNotEqualTo(Values.getHashCode(getValue(null, 16777216F)));
+  }
+}